@@ -0,0 +1,116 @@
+package com.example.hrms.benchmark;
+
+import com.example.hrms.dto.EmployeeRequestDTO;
+import com.example.hrms.dto.LeaveRequestDTO;
+import com.example.hrms.entity.Department;
+import com.example.hrms.service.EmployeeService;
+import com.example.hrms.service.LeaveRequestService;
+import com.example.hrms.service.ManagerService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LeaveServiceBenchmark
+ *
+ * Measures the full applyLeave and approveLeave service calls
+ * (transaction, queries and mapping) against in-memory H2.
+ *
+ * Every call uses the next working day of the next employee,
+ * so requests never overlap. Balances are set very high
+ * so approvals never run out of days.
+ *
+ * Run with: gradle jmh -Pjmh.includes=LeaveServiceBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LeaveServiceBenchmark {
+
+    private static final int EMPLOYEES = 1000;
+
+    private ConfigurableApplicationContext context;
+    private LeaveRequestService leaveRequestService;
+    private ManagerService managerService;
+
+    private Long[] employeeIds;
+    private LocalDate[] nextDates;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        context = BenchmarkContext.start("leave-service-benchmark");
+        leaveRequestService = context.getBean(LeaveRequestService.class);
+        managerService = context.getBean(ManagerService.class);
+
+        EmployeeService employeeService = context.getBean(EmployeeService.class);
+
+        employeeIds = new Long[EMPLOYEES];
+        nextDates = new LocalDate[EMPLOYEES];
+
+        for (int i = 0; i < EMPLOYEES; i++) {
+            EmployeeRequestDTO request = new EmployeeRequestDTO();
+            request.setName("Benchmark " + i);
+            request.setEmail("benchmark" + i + "@hrms.com");
+            request.setDepartment(Department.DEVELOPMENT);
+            employeeIds[i] = employeeService.createEmployee(request).getId();
+            nextDates[i] = LocalDate.of(2027, 1, 4);
+        }
+
+        context.getBean(JdbcTemplate.class)
+                .update("UPDATE leave_balances SET remaining_days = 1000000000");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public LeaveRequestDTO applyLeave() {
+        return apply();
+    }
+
+    @Benchmark
+    public LeaveRequestDTO approveLeave(PendingRequest pending) {
+        return managerService.approveLeave(pending.id);
+    }
+
+    /**
+     * A fresh PENDING request for every approveLeave call.
+     * Created in setup, so it is not part of the measured time.
+     */
+    @State(Scope.Thread)
+    public static class PendingRequest {
+
+        private Long id;
+
+        @Setup(Level.Invocation)
+        public void prepare(LeaveServiceBenchmark benchmark) {
+            id = benchmark.apply().getId();
+        }
+    }
+
+    private LeaveRequestDTO apply() {
+
+        int employee = next++ % EMPLOYEES;
+        LocalDate date = nextDates[employee];
+
+        nextDates[employee] = nextWorkingDay(date);
+
+        return leaveRequestService.applyLeave(employeeIds[employee], "CASUAL", date, date, "Benchmark");
+    }
+
+    private static LocalDate nextWorkingDay(LocalDate date) {
+        LocalDate next = date.plusDays(1);
+        while (next.getDayOfWeek() == DayOfWeek.SATURDAY || next.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            next = next.plusDays(1);
+        }
+        return next;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.hrms.benchmark;
+
+import com.example.hrms.dto.EmployeeResponseDTO;
+import com.example.hrms.dto.LeaveRequestDTO;
+import com.example.hrms.entity.*;
+import com.example.hrms.mapper.EmployeeMapper;
+import com.example.hrms.mapper.EmployeeMapperImpl;
+import com.example.hrms.mapper.LeaveRequestMapper;
+import com.example.hrms.mapper.LeaveRequestMapperImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapperBenchmark
+ *
+ * Measures the MapStruct mappers used on every response:
+ * LeaveRequestMapper.toDTO and EmployeeMapper.toResponseDTO.
+ *
+ * Run with: gradle jmh -Pjmh.includes=MapperBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    private final LeaveRequestMapper leaveRequestMapper = new LeaveRequestMapperImpl();
+    private final EmployeeMapper employeeMapper = new EmployeeMapperImpl();
+
+    private Employee employee;
+    private LeaveRequest leaveRequest;
+
+    @Setup
+    public void setup() {
+
+        employee = new Employee();
+        employee.setId(42L);
+        employee.setName("Benchmark");
+        employee.setEmail("benchmark@hrms.com");
+        employee.setDepartment(Department.DEVELOPMENT);
+
+        LeaveType leaveType = new LeaveType();
+        leaveType.setId(1L);
+        leaveType.setName(LeaveTypeEnum.CASUAL);
+
+        leaveRequest = new LeaveRequest();
+        leaveRequest.setId(1000L);
+        leaveRequest.setEmployee(employee);
+        leaveRequest.setLeaveType(leaveType);
+        leaveRequest.setStartDate(LocalDate.of(2026, 3, 2));
+        leaveRequest.setEndDate(LocalDate.of(2026, 3, 4));
+        leaveRequest.setTotalDays(3);
+        leaveRequest.setStatus(LeaveStatus.PENDING);
+        leaveRequest.setReason("Family function");
+    }
+
+    @Benchmark
+    public LeaveRequestDTO leaveRequestToDTO() {
+        return leaveRequestMapper.toDTO(leaveRequest);
+    }
+
+    @Benchmark
+    public EmployeeResponseDTO employeeToResponseDTO() {
+        return employeeMapper.toResponseDTO(employee);
+    }
+}
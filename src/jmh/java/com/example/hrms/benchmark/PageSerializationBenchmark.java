@@ -0,0 +1,73 @@
+package com.example.hrms.benchmark;
+
+import com.example.hrms.dto.LeaveRequestDTO;
+import com.example.hrms.entity.LeaveStatus;
+import com.example.hrms.entity.LeaveType;
+import com.example.hrms.entity.LeaveTypeEnum;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PageSerializationBenchmark
+ *
+ * Measures JSON serialization of Page<LeaveRequestDTO>,
+ * the body of the pending and history endpoints.
+ *
+ * The ObjectMapper is built the same way Spring Boot
+ * builds it (Jackson2ObjectMapperBuilder).
+ *
+ * Run with: gradle jmh -Pjmh.includes=PageSerialization
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PageSerializationBenchmark {
+
+    // Page size (5 is the default of the endpoints)
+    @Param({"5", "50", "500"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private Page<LeaveRequestDTO> page;
+
+    @Setup
+    public void setup() {
+
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LeaveType leaveType = new LeaveType();
+        leaveType.setId(1L);
+        leaveType.setName(LeaveTypeEnum.SICK);
+
+        List<LeaveRequestDTO> content = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            LeaveRequestDTO dto = new LeaveRequestDTO();
+            dto.setId((long) i);
+            dto.setEmployeeId(42L);
+            dto.setLeaveType(leaveType);
+            dto.setStartDate(LocalDate.of(2026, 3, 2).plusDays(i));
+            dto.setEndDate(LocalDate.of(2026, 3, 2).plusDays(i));
+            dto.setTotalDays(1);
+            dto.setStatus(LeaveStatus.PENDING);
+            dto.setReason("Doctor appointment");
+            content.add(dto);
+        }
+
+        page = new PageImpl<>(content, PageRequest.of(3, size), 10_000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
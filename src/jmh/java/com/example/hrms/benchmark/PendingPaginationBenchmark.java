@@ -0,0 +1,103 @@
+package com.example.hrms.benchmark;
+
+import com.example.hrms.dto.CursorPageDTO;
+import com.example.hrms.dto.EmployeeRequestDTO;
+import com.example.hrms.dto.EmployeeResponseDTO;
+import com.example.hrms.dto.LeaveRequestDTO;
+import com.example.hrms.entity.Department;
+import com.example.hrms.service.EmployeeService;
+import com.example.hrms.service.ManagerService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PendingPaginationBenchmark
+ *
+ * Compares OFFSET paging (getPendingRequests) with
+ * keyset paging (getPendingRequestsAfter) at different depths
+ * of a large pending list.
+ *
+ * OFFSET paging gets slower the deeper the page is,
+ * keyset paging should stay flat.
+ *
+ * Run with: gradle jmh -Pjmh.includes=PendingPagination
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PendingPaginationBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int PAGE_SIZE = 20;
+
+    // Number of rows before the requested page
+    @Param({"0", "1000", "10000", "90000"})
+    private int depth;
+
+    private ConfigurableApplicationContext context;
+    private ManagerService managerService;
+    private String cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        context = BenchmarkContext.start("pagination-benchmark-" + depth);
+        managerService = context.getBean(ManagerService.class);
+
+        EmployeeRequestDTO request = new EmployeeRequestDTO();
+        request.setName("Benchmark");
+        request.setEmail("benchmark@hrms.com");
+        request.setDepartment(Department.DEVELOPMENT);
+        EmployeeResponseDTO employee =
+                context.getBean(EmployeeService.class).createEmployee(request);
+
+        seedPendingRequests(context.getBean(JdbcTemplate.class), employee.getId());
+
+        // IDs are seeded as 1..ROWS, so the cursor of "depth" rows is the ID itself
+        cursor = CursorPageDTO.encodeCursor((long) depth);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<LeaveRequestDTO> offsetPage() {
+        return managerService.getPendingRequests(depth / PAGE_SIZE, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CursorPageDTO<LeaveRequestDTO> cursorPage() {
+        return managerService.getPendingRequestsAfter(cursor, PAGE_SIZE);
+    }
+
+    private void seedPendingRequests(JdbcTemplate jdbcTemplate, Long employeeId) {
+
+        Long leaveTypeId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM leave_types", Long.class);
+
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        List<Object[]> rows = new ArrayList<>();
+
+        for (long id = 1; id <= ROWS; id++) {
+            LocalDate day = start.plusDays(id % 2000);
+            rows.add(new Object[]{id, employeeId, leaveTypeId, day, day, 1, "PENDING", "benchmark"});
+
+            if (rows.size() == 5000 || id == ROWS) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO leave_request (id, employee_id, leave_type_id, start_date, end_date, total_days, status, reason) "
+                                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                        rows);
+                rows.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.hrms.benchmark;
+
+import com.example.hrms.config.CalendarProperties;
+import com.example.hrms.entity.Department;
+import com.example.hrms.service.WorkingDayCalendar;
+import com.example.hrms.service.impl.WorkingDayCalendarImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WorkingDayCalendarBenchmark
+ *
+ * Compares the precomputed WorkingDayCalendar against
+ * the old day-by-day loop used by applyLeave.
+ *
+ * Run with: gradle jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WorkingDayCalendarBenchmark {
+
+    // Length of the leave request in calendar days
+    @Param({"2", "30", "365"})
+    private int rangeDays;
+
+    private WorkingDayCalendar calendar;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    @Setup
+    public void setup() {
+        calendar = new WorkingDayCalendarImpl(new CalendarProperties());
+        startDate = LocalDate.of(2026, 2, 23);
+        endDate = startDate.plusDays(rangeDays - 1);
+
+        // Warm the cached tables so only the lookup is measured
+        calendar.countWorkingDays(Department.DEVELOPMENT, startDate, endDate);
+    }
+
+    @Benchmark
+    public int precomputedCalendar() {
+        return calendar.countWorkingDays(Department.DEVELOPMENT, startDate, endDate);
+    }
+
+    @Benchmark
+    public int dayByDayLoop() {
+
+        int workingDays = 0;
+        LocalDate date = startDate;
+
+        while (!date.isAfter(endDate)) {
+
+            switch (date.getDayOfWeek()) {
+                case SATURDAY:
+                case SUNDAY:
+                    break;
+                default:
+                    workingDays++;
+            }
+
+            date = date.plusDays(1);
+        }
+
+        return workingDays;
+    }
+}
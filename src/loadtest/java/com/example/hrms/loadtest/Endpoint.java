@@ -0,0 +1,44 @@
+package com.example.hrms.loadtest;
+
+/**
+ * Endpoint
+ *
+ * Endpoints driven by the load test, with the user calling them.
+ *
+ * Leave endpoints have no fixed user: they log in with the account
+ * of the employee picked for the call (see LoadTestMain#seed).
+ */
+public enum Endpoint {
+
+    APPLY("POST /leave-request-api/v1/apply", null, LoadTestMain.EMPLOYEE_PASSWORD),
+    HISTORY("GET /leave-request-api/v1/history", null, LoadTestMain.EMPLOYEE_PASSWORD),
+    PENDING("GET /manager-api/v1/pending", "manager", "manager123"),
+    APPROVE("PATCH /manager-api/v1/approve/{id}", "manager", "manager123");
+
+    private final String label;
+    private final String username;
+    private final String password;
+
+    Endpoint(String label, String username, String password) {
+        this.label = label;
+        this.username = username;
+        this.password = password;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    // True when the call logs in as the picked employee
+    public boolean isEmployeeLogin() {
+        return username == null;
+    }
+}
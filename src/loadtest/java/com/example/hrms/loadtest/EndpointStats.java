@@ -0,0 +1,48 @@
+package com.example.hrms.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * EndpointStats
+ *
+ * Latencies (HdrHistogram, microseconds) and error count
+ * of one endpoint. Safe to record from many client threads.
+ */
+public class EndpointStats {
+
+    // Highest latency tracked: 60 seconds
+    private static final long MAX_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final Recorder recorder = new Recorder(MAX_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    public void record(long startNanos, long endNanos, boolean success) {
+        recorder.recordValue(Math.min(MAX_MICROS, (endNanos - startNanos) / 1_000));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    // A call that got no response: counted, but no latency to record
+    public void recordError() {
+        errors.increment();
+    }
+
+    // Drops everything recorded so far (end of the warmup)
+    public void reset() {
+        recorder.reset();
+        errors.reset();
+    }
+
+    public Histogram snapshot() {
+        return recorder.getIntervalHistogram();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+}
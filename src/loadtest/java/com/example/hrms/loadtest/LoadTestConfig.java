@@ -0,0 +1,148 @@
+package com.example.hrms.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * LoadTestConfig
+ *
+ * Settings of one load test run, read from system properties
+ * (gradle loadTest -Ploadtest.concurrency=32 ...).
+ *
+ *  loadtest.employees   → employees created before the run (default 200)
+ *  loadtest.history     → leave requests seeded per employee (default 20)
+ *  loadtest.concurrency → parallel clients (default 16)
+ *  loadtest.warmup      → seconds run before measuring (default 10)
+ *  loadtest.duration    → seconds measured (default 30)
+ *  loadtest.mix         → weight of every endpoint
+ *                         (default apply=2,history=4,pending=3,approve=1)
+ *  loadtest.virtualThreads → run the server on virtual threads (default false)
+ *  loadtest.credentialCache → cache verified passwords (default true,
+ *                         false = BCrypt on every request)
+ *  loadtest.profile     → Spring profile of the server, for example prod (default none)
+ *  loadtest.quietLogs   → server logs WARN and above only (default true,
+ *                         false = logging of the chosen profile)
+ */
+public class LoadTestConfig {
+
+    private final int employees;
+    private final int historyPerEmployee;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Map<Endpoint, Integer> mix;
+    private final boolean virtualThreads;
+    private final boolean credentialCache;
+    private final String profile;
+    private final boolean quietLogs;
+
+    private LoadTestConfig(int employees,
+                           int historyPerEmployee,
+                           int concurrency,
+                           Duration warmup,
+                           Duration duration,
+                           Map<Endpoint, Integer> mix,
+                           boolean virtualThreads,
+                           boolean credentialCache,
+                           String profile,
+                           boolean quietLogs) {
+        this.employees = employees;
+        this.historyPerEmployee = historyPerEmployee;
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.mix = mix;
+        this.virtualThreads = virtualThreads;
+        this.credentialCache = credentialCache;
+        this.profile = profile;
+        this.quietLogs = quietLogs;
+    }
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.employees", 200),
+                Integer.getInteger("loadtest.history", 20),
+                Integer.getInteger("loadtest.concurrency", 16),
+                Duration.ofSeconds(Integer.getInteger("loadtest.warmup", 10)),
+                Duration.ofSeconds(Integer.getInteger("loadtest.duration", 30)),
+                parseMix(System.getProperty("loadtest.mix", "apply=2,history=4,pending=3,approve=1")),
+                Boolean.getBoolean("loadtest.virtualThreads"),
+                Boolean.parseBoolean(System.getProperty("loadtest.credentialCache", "true")),
+                System.getProperty("loadtest.profile", ""),
+                Boolean.parseBoolean(System.getProperty("loadtest.quietLogs", "true")));
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String value) {
+
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + part);
+            }
+            mix.put(Endpoint.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("loadtest.mix needs at least one positive weight");
+        }
+
+        return mix;
+    }
+
+    public int getEmployees() {
+        return employees;
+    }
+
+    public int getHistoryPerEmployee() {
+        return historyPerEmployee;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Map<Endpoint, Integer> getMix() {
+        return mix;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public boolean isCredentialCache() {
+        return credentialCache;
+    }
+
+    public String getProfile() {
+        return profile;
+    }
+
+    public boolean isQuietLogs() {
+        return quietLogs;
+    }
+
+    @Override
+    public String toString() {
+        return "employees=" + employees
+                + ", history=" + historyPerEmployee
+                + ", concurrency=" + concurrency
+                + ", warmup=" + warmup.toSeconds() + "s"
+                + ", duration=" + duration.toSeconds() + "s"
+                + ", mix=" + mix
+                + ", virtualThreads=" + virtualThreads
+                + ", credentialCache=" + credentialCache
+                + ", profile=" + profile
+                + ", quietLogs=" + quietLogs;
+    }
+}
@@ -0,0 +1,387 @@
+package com.example.hrms.loadtest;
+
+import com.example.hrms.HrmsApplication;
+import com.example.hrms.dto.EmployeeRequestDTO;
+import com.example.hrms.entity.Department;
+import com.example.hrms.entity.UserAccount;
+import com.example.hrms.entity.UserRole;
+import com.example.hrms.repository.EmployeesRepository;
+import com.example.hrms.repository.UserAccountRepository;
+import com.example.hrms.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * LoadTestMain
+ *
+ * In-JVM HTTP load test.
+ *
+ * Steps:
+ *  - Boot the application on a random port with an in-memory H2
+ *    (platform or virtual request threads, see LoadTestConfig)
+ *  - Seed employees (bulk API), one login account per employee
+ *    and their leave history (JDBC batch)
+ *  - Run "concurrency" clients calling a weighted mix of endpoints
+ *    with HTTP Basic auth, first for the warmup, then measured
+ *  - Print throughput and latency percentiles per endpoint and
+ *    write the HdrHistogram distributions to the report directory
+ *
+ * Run with: gradle loadTest (settings: see LoadTestConfig)
+ */
+public class LoadTestMain {
+
+    static final String EMPLOYEE_PASSWORD = "loadtest123";
+
+    private static final LocalDate HISTORY_START = LocalDate.of(2020, 1, 6);
+    private static final LocalDate APPLY_START = LocalDate.of(2027, 1, 4);
+
+    private final LoadTestConfig config;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, String> authHeaders = new EnumMap<>(Endpoint.class);
+    private final Queue<Long> pendingIds = new ConcurrentLinkedQueue<>();
+
+    private String baseUrl;
+    private List<Long> employeeIds;
+    private List<String> employeeAuthHeaders;
+    private AtomicReferenceArray<LocalDate> nextApplyDates;
+    private volatile boolean running = true;
+
+    public LoadTestMain(LoadTestConfig config) {
+        this.config = config;
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+            if (!endpoint.isEmployeeLogin()) {
+                authHeaders.put(endpoint, basicAuth(endpoint.getUsername(), endpoint.getPassword()));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        Path reportDir = Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest"));
+
+        System.out.println("Load test: " + config);
+
+        try (ConfigurableApplicationContext context = start(config)) {
+            new LoadTestMain(config).run(context, reportDir);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(LoadTestConfig config) {
+
+        List<String> args = new ArrayList<>(List.of("--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.threads.virtual.enabled=" + config.isVirtualThreads(),
+                "--hrms.security.credential-cache.enabled=" + config.isCredentialCache(),
+                "--spring.profiles.active=" + config.getProfile()));
+
+        // Quiet: no SQL or INFO lines, so logging does not weigh on the results
+        if (config.isQuietLogs()) {
+            args.add("--spring.jpa.show-sql=false");
+            args.add("--logging.level.root=WARN");
+        }
+
+        return new SpringApplicationBuilder(HrmsApplication.class).run(args.toArray(String[]::new));
+    }
+
+    private void run(ConfigurableApplicationContext context, Path reportDir) throws Exception {
+
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+        seed(context);
+
+        List<Thread> clients = new ArrayList<>();
+        for (int i = 0; i < config.getConcurrency(); i++) {
+            Thread client = new Thread(this::clientLoop, "loadtest-client-" + i);
+            client.start();
+            clients.add(client);
+        }
+
+        System.out.println("Warming up for " + config.getWarmup().toSeconds() + "s");
+        Thread.sleep(config.getWarmup().toMillis());
+        stats.values().forEach(EndpointStats::reset);
+
+        System.out.println("Measuring for " + config.getDuration().toSeconds() + "s");
+        long start = System.nanoTime();
+        Thread.sleep(config.getDuration().toMillis());
+
+        // Snapshot first, so calls still running after the window are not counted
+        Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+        stats.forEach((endpoint, endpointStats) -> histograms.put(endpoint, endpointStats.snapshot()));
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        running = false;
+        for (Thread client : clients) {
+            client.join();
+        }
+
+        report(histograms, seconds, reportDir);
+    }
+
+    /**
+     * Creates employees with the bulk API, gives them large balances,
+     * an account each (loadtest0, loadtest1, ... sharing one password hash)
+     * and inserts their leave history with JDBC batches.
+     * The last tenth of every history is PENDING, for the approvals.
+     */
+    private void seed(ConfigurableApplicationContext context) {
+
+        List<EmployeeRequestDTO> requests = new ArrayList<>();
+        Department[] departments = Department.values();
+
+        for (int i = 0; i < config.getEmployees(); i++) {
+            EmployeeRequestDTO request = new EmployeeRequestDTO();
+            request.setName("Load Test " + i);
+            request.setEmail("loadtest" + i + "@hrms.com");
+            request.setDepartment(departments[i % departments.length]);
+            requests.add(request);
+        }
+
+        context.getBean(EmployeeService.class).createEmployees(requests);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        employeeIds = jdbcTemplate.queryForList("SELECT id FROM employees ORDER BY id", Long.class);
+        jdbcTemplate.update("UPDATE leave_balances SET remaining_days = 1000000");
+
+        seedAccounts(context);
+
+        Long leaveTypeId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM leave_types", Long.class);
+
+        List<Object[]> rows = new ArrayList<>();
+        long id = 0;
+
+        for (Long employeeId : employeeIds) {
+            for (int i = 0; i < config.getHistoryPerEmployee(); i++) {
+
+                // One single day leave every week, all on Mondays
+                LocalDate day = HISTORY_START.plusWeeks(i);
+                String status = i >= config.getHistoryPerEmployee() * 9 / 10
+                        ? "PENDING"
+                        : (i % 5 == 0 ? "REJECTED" : "APPROVED");
+
+                rows.add(new Object[]{++id, employeeId, leaveTypeId, day, day, 1, status, "Seeded"});
+            }
+
+            if (rows.size() >= 5000) {
+                insertHistory(jdbcTemplate, rows);
+            }
+        }
+        insertHistory(jdbcTemplate, rows);
+
+        // Keep ids generated by Hibernate clear of the seeded ones
+        jdbcTemplate.execute("ALTER SEQUENCE leave_request_seq RESTART WITH " + (id + 1000));
+
+        pendingIds.addAll(jdbcTemplate.queryForList(
+                "SELECT id FROM leave_request WHERE status = 'PENDING' ORDER BY id", Long.class));
+
+        nextApplyDates = new AtomicReferenceArray<>(employeeIds.size());
+        for (int i = 0; i < employeeIds.size(); i++) {
+            nextApplyDates.set(i, APPLY_START);
+        }
+
+        System.out.println("Seeded " + employeeIds.size() + " employees, " + id
+                + " leave requests (" + pendingIds.size() + " pending)");
+    }
+
+    /**
+     * Saves one EMPLOYEE account per employee. The password is
+     * hashed once, so seeding does not pay BCrypt per account.
+     */
+    private void seedAccounts(ConfigurableApplicationContext context) {
+
+        String passwordHash = context.getBean(PasswordEncoder.class).encode(EMPLOYEE_PASSWORD);
+        EmployeesRepository employeesRepository = context.getBean(EmployeesRepository.class);
+
+        List<UserAccount> accounts = new ArrayList<>();
+        employeeAuthHeaders = new ArrayList<>();
+
+        for (int i = 0; i < employeeIds.size(); i++) {
+
+            UserAccount account = new UserAccount();
+            account.setUsername("loadtest" + i);
+            account.setPassword(passwordHash);
+            account.setRole(UserRole.EMPLOYEE);
+            account.setEmployee(employeesRepository.getReferenceById(employeeIds.get(i)));
+            accounts.add(account);
+
+            employeeAuthHeaders.add(basicAuth(account.getUsername(), EMPLOYEE_PASSWORD));
+        }
+
+        context.getBean(UserAccountRepository.class).saveAll(accounts);
+    }
+
+    private static String basicAuth(String username, String password) {
+        return "Basic " + Base64.getEncoder().encodeToString(
+                (username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void insertHistory(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO leave_request (id, employee_id, leave_type_id, start_date, end_date, "
+                        + "total_days, status, reason) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                rows);
+        rows.clear();
+    }
+
+    private void clientLoop() {
+
+        int totalWeight = config.getMix().values().stream().mapToInt(Integer::intValue).sum();
+
+        while (running) {
+
+            int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+            Endpoint endpoint = null;
+
+            for (Map.Entry<Endpoint, Integer> entry : config.getMix().entrySet()) {
+                pick -= entry.getValue();
+                if (pick < 0) {
+                    endpoint = entry.getKey();
+                    break;
+                }
+            }
+
+            try {
+                call(endpoint);
+            } catch (IOException ex) {
+                stats.get(endpoint).recordError();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void call(Endpoint endpoint) throws IOException, InterruptedException {
+
+        int employee = ThreadLocalRandom.current().nextInt(employeeIds.size());
+
+        HttpRequest.Builder request;
+
+        switch (endpoint) {
+            case APPLY -> {
+                LocalDate date = nextApplyDates.getAndUpdate(employee, LoadTestMain::nextWorkingDay);
+                request = HttpRequest.newBuilder(URI.create(baseUrl
+                                + "/leave-request-api/v1/apply"
+                                + "?leaveType=CASUAL&startDate=" + date + "&endDate=" + date
+                                + "&reason=LoadTest"))
+                        .POST(HttpRequest.BodyPublishers.noBody());
+            }
+            case HISTORY -> request = HttpRequest.newBuilder(URI.create(baseUrl
+                    + "/leave-request-api/v1/history?page=0&size=5"));
+            case PENDING -> request = HttpRequest.newBuilder(URI.create(baseUrl
+                    + "/manager-api/v1/pending?page=0&size=5"));
+            case APPROVE -> {
+                Long requestId = pendingIds.poll();
+                if (requestId == null) {
+                    // Nothing left to approve, the next pick creates more
+                    return;
+                }
+                request = HttpRequest.newBuilder(URI.create(baseUrl
+                                + "/manager-api/v1/approve/" + requestId))
+                        .method("PATCH", HttpRequest.BodyPublishers.noBody());
+            }
+            default -> throw new IllegalStateException("Unknown endpoint: " + endpoint);
+        }
+
+        request.header("Authorization", endpoint.isEmployeeLogin()
+                ? employeeAuthHeaders.get(employee)
+                : authHeaders.get(endpoint));
+
+        long start = System.nanoTime();
+        HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        long end = System.nanoTime();
+
+        // Error responses keep their real latency in the histogram
+        boolean success = response.statusCode() < 400;
+        stats.get(endpoint).record(start, end, success);
+
+        if (endpoint == Endpoint.APPLY && success) {
+            pendingIds.add(objectMapper.readTree(response.body()).get("id").asLong());
+        }
+    }
+
+    private static LocalDate nextWorkingDay(LocalDate date) {
+        LocalDate next = date.plusDays(1);
+        while (next.getDayOfWeek() == DayOfWeek.SATURDAY || next.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            next = next.plusDays(1);
+        }
+        return next;
+    }
+
+    private void report(Map<Endpoint, Histogram> histograms, double seconds, Path reportDir) throws IOException {
+
+        Files.createDirectories(reportDir);
+
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("%-36s %9s %9s %7s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Req/s", "Errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+
+        long totalRequests = 0;
+
+        for (Endpoint endpoint : Endpoint.values()) {
+
+            Histogram histogram = histograms.get(endpoint);
+            long count = histogram.getTotalCount();
+            totalRequests += count;
+
+            summary.append(String.format("%-36s %9d %9.1f %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.getLabel(),
+                    count,
+                    count / seconds,
+                    stats.get(endpoint).getErrors(),
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(90) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0));
+
+            // Full distribution in milliseconds, readable by HdrHistogram plotters
+            try (PrintStream out = new PrintStream(
+                    reportDir.resolve(endpoint.name().toLowerCase() + ".hgrm").toFile(), StandardCharsets.UTF_8)) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+
+        summary.append(String.format("%nTotal: %d requests in %.1fs (%.1f req/s), %s%n",
+                totalRequests, seconds, totalRequests / seconds, config));
+
+        System.out.println();
+        System.out.print(summary);
+
+        Files.writeString(reportDir.resolve("summary.txt"), summary.toString());
+        System.out.println("Reports written to " + reportDir.toAbsolutePath());
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.hrms.cli;
+
+import com.example.hrms.config.EmployeeImportProperties;
+import com.example.hrms.dto.EmployeeImportResultDTO;
+import com.example.hrms.service.EmployeeImportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/*
+ This runner imports employees from a CSV file
+ when the application is started from the command line.
+
+ It is only created when hrms.employee-import.file is set:
+
+ java -jar hrms.jar \
+      --hrms.employee-import.file=employees.csv \
+      --spring.main.web-application-type=none
+
+ The application stops when the import is done.
+ Exit code 0 → file imported (rejected rows are in the rejects file)
+ Exit code 1 → file could not be imported
+*/
+@Component
+@ConditionalOnProperty(prefix = "hrms.employee-import", name = "file")
+@Slf4j
+public class EmployeeImportRunner implements ApplicationRunner {
+
+    private final EmployeeImportService importService;
+    private final EmployeeImportProperties importProperties;
+    private final ConfigurableApplicationContext context;
+
+    public EmployeeImportRunner(EmployeeImportService importService,
+                                EmployeeImportProperties importProperties,
+                                ConfigurableApplicationContext context) {
+        this.importService = importService;
+        this.importProperties = importProperties;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+
+        Path file = Path.of(importProperties.getFile());
+
+        log.info("Importing employees from {}", file.toAbsolutePath());
+
+        int exitCode;
+
+        try (InputStream csv = Files.newInputStream(file)) {
+
+            EmployeeImportResultDTO result = importService.importEmployees(csv);
+
+            log.info("Import finished | total: {}, created: {}, failed: {}, rejects: {}",
+                    result.getTotal(), result.getCreated(), result.getFailed(),
+                    result.getRejectsFile() == null
+                            ? "none"
+                            : Path.of(importProperties.getRejectsDir()).resolve(result.getRejectsFile())
+                                    .toAbsolutePath());
+
+            exitCode = 0;
+
+        } catch (Exception ex) {
+            log.error("Import of {} failed", file, ex);
+            exitCode = 1;
+        }
+
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+}
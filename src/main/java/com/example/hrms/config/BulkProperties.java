@@ -0,0 +1,47 @@
+package com.example.hrms.config;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/*
+ This class holds the settings used by bulk APIs.
+
+ Example (application.properties):
+ hrms.bulk.chunk-size=500
+ hrms.bulk.max-rows=1000
+
+ Rows are written in chunks of this size.
+ Every chunk runs in its own transaction.
+
+ A single REST call (bulk employee creation, bulk decisions)
+ takes at most max-rows rows. The limit is checked after the
+ JSON body is read, it does not bound the request size.
+
+ chunk-size may not be larger than max-rows,
+ the application does not start otherwise.
+*/
+@Component
+@ConfigurationProperties(prefix = "hrms.bulk")
+@Validated
+@Getter
+@Setter
+public class BulkProperties {
+
+    // Number of rows saved in one transaction
+    @Min(1)
+    private int chunkSize = 500;
+
+    // Largest number of rows accepted in one call
+    @Min(1)
+    private int maxRows = 1000;
+
+    @AssertTrue(message = "hrms.bulk.chunk-size must not be larger than hrms.bulk.max-rows")
+    public boolean isChunkSizeWithinMaxRows() {
+        return chunkSize <= maxRows;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.hrms.config;
+
+import com.example.hrms.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/*
+ This interceptor is a bulkhead for one controller.
+
+ - preHandle takes a permit (waits up to max-wait)
+ - afterCompletion gives it back
+ - no permit in time → ServiceBusyException (503)
+
+ Async requests (like streamed responses) keep their
+ permit until the async part has finished.
+
+ Metrics:
+ - hrms.bulkhead.available → free permits
+ - hrms.bulkhead.rejected  → requests turned away
+*/
+@Slf4j
+public class BulkheadInterceptor implements AsyncHandlerInterceptor {
+
+    private final String name;
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+    private final String permitAttribute;
+    private final Counter rejected;
+
+    public BulkheadInterceptor(String name, int limit, Duration maxWait, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.permits = new Semaphore(limit, true);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permitAttribute = BulkheadInterceptor.class.getName() + "." + name;
+
+        Gauge.builder("hrms.bulkhead.available", permits, Semaphore::availablePermits)
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("hrms.bulkhead.rejected")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request,
+                             HttpServletResponse response,
+                             Object handler) throws InterruptedException {
+
+        // Async dispatch of a request that already holds a permit
+        if (request.getAttribute(permitAttribute) != null) {
+            return true;
+        }
+
+        if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+            rejected.increment();
+            log.warn("Bulkhead '{}' is full, rejecting {} {}", name,
+                    request.getMethod(), request.getRequestURI());
+            throw new ServiceBusyException("Too many requests in progress, please retry later");
+        }
+
+        request.setAttribute(permitAttribute, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request,
+                                HttpServletResponse response,
+                                Object handler,
+                                Exception ex) {
+
+        if (request.getAttribute(permitAttribute) != null) {
+            request.removeAttribute(permitAttribute);
+            permits.release();
+        }
+    }
+
+    // Bulkhead name (used by tests)
+    public String getName() {
+        return name;
+    }
+
+    // Free permits (used by tests and the gauge)
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+}
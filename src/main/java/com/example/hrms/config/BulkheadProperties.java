@@ -0,0 +1,45 @@
+package com.example.hrms.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+ This class holds the bulkhead settings.
+
+ Every controller gets its own limit of requests
+ running at the same time. A flood of calls on one
+ controller then waits (or gets 503) instead of
+ taking every database connection from the others.
+
+ Example (application.properties):
+ hrms.bulkhead.max-wait=200ms
+ hrms.bulkhead.limits.employee=3
+ hrms.bulkhead.limits.leave-request=4
+ hrms.bulkhead.limits.manager=3
+ hrms.bulkhead.limits.employee-import=1
+ hrms.bulkhead.limits.export=1
+
+ Keep the sum of the limits at or below the
+ connection pool size (spring.datasource.hikari.maximum-pool-size).
+*/
+@Component
+@ConfigurationProperties(prefix = "hrms.bulkhead")
+@Getter
+@Setter
+public class BulkheadProperties {
+
+    // Turns all bulkheads on or off
+    private boolean enabled = true;
+
+    // How long a request waits for a free slot before getting 503
+    private Duration maxWait = Duration.ofMillis(200);
+
+    // Requests running at the same time, per controller
+    private Map<String, Integer> limits = new LinkedHashMap<>();
+}
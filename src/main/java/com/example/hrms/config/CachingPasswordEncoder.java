@@ -0,0 +1,151 @@
+package com.example.hrms.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ This password encoder remembers passwords that were verified.
+
+ - matches() first looks for the (password, stored hash) pair in the cache
+ - not there (or expired) → the real encoder (BCrypt) checks it,
+   a correct password is kept for ttl
+ - wrong passwords are never kept, so guessing still pays BCrypt
+
+ The cache does not keep passwords: the key is an HMAC-SHA256
+ of stored hash + password, with a random key made at startup.
+ A new password means a new stored hash, so old entries never match.
+
+ At most max-entries are kept. When full, expired entries are
+ removed; if it is still full the password is just not cached.
+
+ Metrics:
+ - hrms.security.credential-cache (result = hit / miss)
+*/
+public class CachingPasswordEncoder implements PasswordEncoder {
+
+    private static final String HMAC = "HmacSHA256";
+
+    private final PasswordEncoder delegate;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macs;
+    private final Map<String, Long> verified = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public CachingPasswordEncoder(PasswordEncoder delegate, Duration ttl, int maxEntries,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, HMAC);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+
+        this.hits = Counter.builder("hrms.security.credential-cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("hrms.security.credential-cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+
+        if (rawPassword == null || encodedPassword == null) {
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+
+        String cacheKey = cacheKey(rawPassword, encodedPassword);
+        long now = System.nanoTime();
+
+        Long expiresAt = verified.get(cacheKey);
+
+        if (expiresAt != null && expiresAt - now > 0) {
+            hits.increment();
+            return true;
+        }
+
+        misses.increment();
+
+        if (!delegate.matches(rawPassword, encodedPassword)) {
+            return false;
+        }
+
+        remember(cacheKey, now);
+        return true;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    // Number of verified passwords in the cache
+    int size() {
+        return verified.size();
+    }
+
+    private void remember(String cacheKey, long now) {
+
+        if (verified.size() >= maxEntries) {
+            removeExpired(now);
+        }
+
+        if (verified.size() < maxEntries) {
+            verified.put(cacheKey, now + ttlNanos);
+        }
+    }
+
+    private void removeExpired(long now) {
+
+        Iterator<Long> expiries = verified.values().iterator();
+
+        while (expiries.hasNext()) {
+            if (expiries.next() - now <= 0) {
+                expiries.remove();
+            }
+        }
+    }
+
+    private String cacheKey(CharSequence rawPassword, String encodedPassword) {
+
+        Mac mac = macs.get();
+        mac.update(encodedPassword.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0);
+
+        return Base64.getEncoder().encodeToString(
+                mac.doFinal(rawPassword.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.hrms.config;
+
+import com.example.hrms.entity.Department;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ This class holds the working day calendar settings.
+
+ It defines:
+ - Public holidays for the whole company
+ - Extra holidays for a specific department
+ - Weekend days for a specific department
+
+ Example (application.properties):
+ hrms.calendar.holidays=2026-01-01,2026-12-25
+ hrms.calendar.department-holidays.SUPPORT=2026-05-01
+ hrms.calendar.weekends.SUPPORT=FRIDAY,SATURDAY
+
+ Departments without a weekend entry use Saturday and Sunday.
+*/
+@Component
+@ConfigurationProperties(prefix = "hrms.calendar")
+@Getter
+@Setter
+public class CalendarProperties {
+
+    // Holidays applied to every department
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private List<LocalDate> holidays = new ArrayList<>();
+
+    // Extra holidays applied only to one department
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private Map<Department, List<LocalDate>> departmentHolidays = new EnumMap<>(Department.class);
+
+    // Weekend days of a department (default: SATURDAY, SUNDAY)
+    private Map<Department, Set<DayOfWeek>> weekends = new EnumMap<>(Department.class);
+}
@@ -0,0 +1,39 @@
+package com.example.hrms.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/*
+ This class holds the settings of the verified credential cache.
+
+ BCrypt is slow on purpose (tens of milliseconds per check).
+ With HTTP Basic every request sends the password again,
+ so a password that was verified is remembered for ttl
+ and the next requests skip BCrypt.
+
+ Example (application.properties):
+ hrms.security.credential-cache.enabled=true
+ hrms.security.credential-cache.ttl=5m
+ hrms.security.credential-cache.max-entries=10000
+
+ A changed password never matches an old entry.
+*/
+@Component
+@ConfigurationProperties(prefix = "hrms.security.credential-cache")
+@Getter
+@Setter
+public class CredentialCacheProperties {
+
+    // Turns the cache on or off (off = BCrypt on every request)
+    private boolean enabled = true;
+
+    // How long a verified password is trusted
+    private Duration ttl = Duration.ofMinutes(5);
+
+    // Verified passwords kept at the same time
+    private int maxEntries = 10_000;
+}
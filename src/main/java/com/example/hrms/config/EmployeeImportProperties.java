@@ -0,0 +1,58 @@
+package com.example.hrms.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/*
+ This class holds the settings used by the CSV employee import.
+
+ Example (application.properties):
+ hrms.employee-import.queue-capacity=4
+ hrms.employee-import.rejects-dir=import-rejects
+ hrms.employee-import.max-record-chars=4096
+ hrms.employee-import.max-returned-rejects=100
+ hrms.employee-import.rejects-retention=7d
+
+ Rows are saved in chunks of hrms.bulk.chunk-size.
+ queue-capacity is the number of parsed chunks that may wait
+ for the writer. When the queue is full the parser waits,
+ so a fast upload cannot fill the memory.
+ A longer record than max-record-chars stops the import
+ (400), so a missing closing quote cannot either.
+
+ The first max-returned-rejects rejected rows are returned
+ in the response, all of them are written to a rejects file
+ (only when a row is rejected). Rejects files hold names and
+ emails; they are deleted once older than rejects-retention.
+
+ file is only used by the command line runner:
+ java -jar hrms.jar --hrms.employee-import.file=employees.csv
+*/
+@Component
+@ConfigurationProperties(prefix = "hrms.employee-import")
+@Getter
+@Setter
+public class EmployeeImportProperties {
+
+    // Parsed chunks waiting to be saved
+    private int queueCapacity = 4;
+
+    // Longest CSV record (line) accepted, in characters
+    private int maxRecordChars = 4096;
+
+    // Rejected rows returned in the import response
+    private int maxReturnedRejects = 100;
+
+    // Folder where the rejected rows of every import are written
+    private String rejectsDir = "import-rejects";
+
+    // Age after which a rejects file is deleted
+    private Duration rejectsRetention = Duration.ofDays(7);
+
+    // CSV file imported at startup (command line runner)
+    private String file;
+}
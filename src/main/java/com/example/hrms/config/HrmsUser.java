@@ -0,0 +1,33 @@
+package com.example.hrms.config;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/*
+ This class is the logged-in user.
+
+ Next to the Spring Security user details it carries
+ the employee linked to the account, so controllers can
+ read it with @AuthenticationPrincipal HrmsUser user.
+
+ employeeId is null for accounts without an employee (managers).
+*/
+public class HrmsUser extends User {
+
+    private final Long employeeId;
+
+    public HrmsUser(String username,
+                    String password,
+                    boolean enabled,
+                    Collection<? extends GrantedAuthority> authorities,
+                    Long employeeId) {
+        super(username, password, enabled, true, true, true, authorities);
+        this.employeeId = employeeId;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+}
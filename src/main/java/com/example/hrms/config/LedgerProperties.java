@@ -0,0 +1,26 @@
+package com.example.hrms.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/*
+ This class holds the settings of the leave balance ledger.
+
+ Example (application.properties):
+ hrms.ledger.snapshot-interval=50
+
+ A snapshot of a balance is saved every snapshot-interval
+ ledger entries. Reading a balance sums at most this
+ many entries after the latest snapshot.
+*/
+@Component
+@ConfigurationProperties(prefix = "hrms.ledger")
+@Getter
+@Setter
+public class LedgerProperties {
+
+    // Ledger entries between two snapshots of the same balance
+    private int snapshotInterval = 50;
+}
@@ -0,0 +1,92 @@
+package com.example.hrms.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ This logback filter samples INFO lines of hot-path loggers.
+
+ - Only loggers starting with one of "loggers" are sampled
+ - Every log statement (message pattern) has its own counter:
+   the 1st, (sampleEvery + 1)th, ... line is written, the others dropped
+ - WARN and ERROR are always written, DEBUG/TRACE follow the log level
+
+ It runs before the log event is built, so a dropped line
+ costs one counter increment.
+
+ Used by the prod profile (logback-spring.xml).
+*/
+public class LogSamplingFilter extends TurboFilter {
+
+    // Message patterns counted separately; beyond that they share one counter
+    private static final int MAX_PATTERNS = 10_000;
+
+    private final List<String> loggers = new ArrayList<>();
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final AtomicLong sharedCounter = new AtomicLong();
+
+    private int sampleEvery = 100;
+
+    // Comma separated logger name prefixes
+    public void setLoggers(String value) {
+        loggers.clear();
+        for (String logger : value.split(",")) {
+            if (!logger.isBlank()) {
+                loggers.add(logger.trim());
+            }
+        }
+    }
+
+    public void setSampleEvery(int sampleEvery) {
+        this.sampleEvery = sampleEvery;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level,
+                              String format, Object[] params, Throwable t) {
+
+        // format is null for isInfoEnabled() checks
+        if (level != Level.INFO || format == null || sampleEvery <= 1 || !sampled(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        return counter(format).getAndIncrement() % sampleEvery == 0
+                ? FilterReply.NEUTRAL
+                : FilterReply.DENY;
+    }
+
+    private boolean sampled(String loggerName) {
+
+        for (String logger : loggers) {
+            if (loggerName.startsWith(logger)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private AtomicLong counter(String format) {
+
+        AtomicLong counter = counters.get(format);
+
+        if (counter != null) {
+            return counter;
+        }
+
+        if (counters.size() >= MAX_PATTERNS) {
+            return sharedCounter;
+        }
+
+        return counters.computeIfAbsent(format, key -> new AtomicLong());
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.hrms.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/*
+ This class holds the settings of the cursor (keyset) paginated lists.
+
+ Example (application.properties):
+ hrms.paging.max-limit=100
+
+ A "limit" above max-limit is rejected (400), so one request
+ cannot read a whole table through a cursor endpoint.
+*/
+@Component
+@ConfigurationProperties(prefix = "hrms.paging")
+@Getter
+@Setter
+public class PagingProperties {
+
+    // Largest page (limit) of a cursor paginated list
+    private int maxLimit = 100;
+}
@@ -0,0 +1,36 @@
+package com.example.hrms.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/*
+ This class holds the settings of the login account cache.
+
+ Every request loads its account (role, linked employee).
+ Loaded accounts are kept in memory, so that lookup
+ does not go to the database on every request.
+
+ Example (application.properties):
+ hrms.security.principal-cache.ttl=5m
+ hrms.security.principal-cache.max-entries=10000
+
+ Changing or deleting an account removes it from the cache
+ at once; ttl only limits how long a change made by another
+ application instance can stay unseen.
+*/
+@Component
+@ConfigurationProperties(prefix = "hrms.security.principal-cache")
+@Getter
+@Setter
+public class PrincipalCacheProperties {
+
+    // How long a loaded account is kept
+    private Duration ttl = Duration.ofMinutes(5);
+
+    // Accounts kept at the same time
+    private int maxEntries = 10_000;
+}
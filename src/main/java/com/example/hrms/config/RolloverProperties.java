@@ -0,0 +1,67 @@
+package com.example.hrms.config;
+
+import com.example.hrms.entity.Department;
+import com.example.hrms.entity.LeaveTypeEnum;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ This class holds the settings of the year-end rollover.
+
+ Example (application.properties):
+ hrms.rollover.chunk-size=2000
+ hrms.rollover.workers=4
+ hrms.rollover.start-window-days=31
+ hrms.rollover.carry-forward-caps.EARNED=5
+ hrms.rollover.department-carry-forward-caps.TRAINEE.EARNED=0
+
+ At year end every balance becomes:
+ new yearly grant + min(remaining days, carry-forward cap)
+
+ The cap of a department overrides the cap of the leave type.
+ Leave types without a cap carry nothing over.
+
+ workers is the number of chunks saved at the same time.
+ Every worker holds one database connection while it saves a chunk.
+
+ The rollover into next year can start at most start-window-days
+ before January 1 (31 → from December 1).
+*/
+@Component
+@ConfigurationProperties(prefix = "hrms.rollover")
+@Getter
+@Setter
+public class RolloverProperties {
+
+    // Leave balances per chunk (one transaction each)
+    private int chunkSize = 2000;
+
+    // Chunks processed in parallel
+    private int workers = 4;
+
+    // Days before January 1 from which next year's rollover may start
+    private int startWindowDays = 31;
+
+    // Days that may be carried into the new year, per leave type
+    private Map<LeaveTypeEnum, Integer> carryForwardCaps = new HashMap<>();
+
+    // Caps of single departments (override carryForwardCaps)
+    private Map<Department, Map<LeaveTypeEnum, Integer>> departmentCarryForwardCaps = new HashMap<>();
+
+    // Returns the carry-forward cap of a department and leave type
+    public int capFor(Department department, LeaveTypeEnum leaveType) {
+
+        Map<LeaveTypeEnum, Integer> departmentCaps = departmentCarryForwardCaps.get(department);
+
+        if (departmentCaps != null && departmentCaps.containsKey(leaveType)) {
+            return departmentCaps.get(leaveType);
+        }
+
+        return carryForwardCaps.getOrDefault(leaveType, 0);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.hrms.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/*
+ This class enables @Scheduled methods.
+
+ Used by background jobs like reconciling
+ the pending summary with the database.
+*/
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,5 +1,6 @@
 package com.example.hrms.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -16,10 +17,16 @@ import org.springframework.security.web.SecurityFilterChain;
 
  In this project:
  - Manager APIs require authentication
- - Swagger and H2 console are public
+ - Swagger, H2 console and the health check are public
+ - Other actuator endpoints (metrics, prometheus) need MANAGER
+ - Bulk employee creation and the CSV import need MANAGER
  - Other APIs are allowed without login
+
+ Skipped when the application runs without a web server
+ (for example the command line employee import).
 */
 @Configuration
+@ConditionalOnWebApplication
 public class SecurityConfig {
 
     /*
@@ -40,9 +47,21 @@ public class SecurityConfig {
                                 "/swagger-ui.html",
                                 "/v3/api-docs/**",
                                 "/api-docs/**",
-                                "/h2-console/**"
+                                "/h2-console/**",
+                                "/actuator/health"
                         ).permitAll()
 
+                        // Metrics endpoints - only MANAGER
+                        .requestMatchers("/actuator/**")
+                        .hasRole("MANAGER")
+
+                        // Bulk employee creation and CSV import - only MANAGER
+                        // (must come before the general employee rule)
+                        .requestMatchers(
+                                "/employee-Api/v1/employees/bulk",
+                                "/employee-Api/v1/employees/import"
+                        ).hasRole("MANAGER")
+
                         // Employee APIs - accessible by EMPLOYEE and MANAGER
                         .requestMatchers("/employee-Api/v1/**")
                         .hasAnyRole("EMPLOYEE", "MANAGER")
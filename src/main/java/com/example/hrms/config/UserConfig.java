@@ -1,20 +1,21 @@
 package com.example.hrms.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 
 /*
- This class is used to create and configure users for authentication.
+ This class is used to configure password checks for authentication.
 
  In this project:
- - We are creating one manager user.
- - The user details are stored in memory (not in database).
+ - Users are stored in the database (user_accounts table),
+   see UserAccountServiceImpl (default users: manager, employee).
  - Password is encrypted using BCrypt.
+ - Verified passwords are cached for a few minutes,
+   so HTTP Basic does not run BCrypt on every request
+   (see CredentialCacheProperties).
 */
 
 @Configuration
@@ -23,34 +24,20 @@ public class UserConfig {
     /*
      This method creates a password encoder.
      BCrypt is used to encrypt passwords securely.
+     When the credential cache is enabled, BCrypt is
+     wrapped by CachingPasswordEncoder.
     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
-    /*
-     This method creates an in-memory user.
-     Example:
-     Username  : manager
-     Password  : manager123 (encrypted)
-     Role      : MANAGER
-    */
-    @Bean
-    public InMemoryUserDetailsManager userDetailsService(PasswordEncoder passwordEncoder) {
+    public PasswordEncoder passwordEncoder(CredentialCacheProperties cacheProperties,
+                                           MeterRegistry meterRegistry) {
 
-        // Manager User
-        UserDetails manager = User.withUsername("manager")
-                .password(passwordEncoder.encode("manager123"))
-                .roles("MANAGER")
-                .build();
+        PasswordEncoder bcrypt = new BCryptPasswordEncoder();
 
-        // Employee User
-        UserDetails employee = User.withUsername("employee")
-                .password(passwordEncoder.encode("employee123"))
-                .roles("EMPLOYEE")
-                .build();
+        if (!cacheProperties.isEnabled()) {
+            return bcrypt;
+        }
 
-        return new InMemoryUserDetailsManager(manager, employee);
+        return new CachingPasswordEncoder(bcrypt, cacheProperties.getTtl(),
+                cacheProperties.getMaxEntries(), meterRegistry);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,78 @@
+package com.example.hrms.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/*
+ This class registers one bulkhead per controller.
+
+ bulkhead name    → paths
+ employee         → /employee-Api/**       (EmployeeController, except the import)
+ leave-request    → /leave-request-api/**  (LeaveRequestController)
+ manager          → /manager-api/**        (ManagerController, except the export)
+ employee-import  → /employee-Api/v1/employees/import
+ export           → /manager-api/v1/export/**
+
+ The CSV import and the payroll export can run for many minutes,
+ so they get their own small bulkheads: a few long uploads or
+ downloads never take the permits of approve, reject or pending.
+
+ Limits come from BulkheadProperties.
+ A bulkhead without a limit is not registered.
+*/
+@Configuration
+@Slf4j
+public class WebConfig implements WebMvcConfigurer {
+
+    private static final String IMPORT_PATH = "/employee-Api/v1/employees/import";
+    private static final String EXPORT_PATH = "/manager-api/v1/export/**";
+
+    private static final List<Bulkhead> BULKHEADS = List.of(
+            new Bulkhead("employee", "/employee-Api/**", IMPORT_PATH),
+            new Bulkhead("leave-request", "/leave-request-api/**"),
+            new Bulkhead("manager", "/manager-api/**", EXPORT_PATH),
+            new Bulkhead("employee-import", IMPORT_PATH),
+            new Bulkhead("export", EXPORT_PATH)
+    );
+
+    private final BulkheadProperties bulkheadProperties;
+    private final MeterRegistry meterRegistry;
+
+    public WebConfig(BulkheadProperties bulkheadProperties, MeterRegistry meterRegistry) {
+        this.bulkheadProperties = bulkheadProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+
+        if (!bulkheadProperties.isEnabled()) {
+            log.info("Bulkheads disabled");
+            return;
+        }
+
+        for (Bulkhead bulkhead : BULKHEADS) {
+
+            Integer limit = bulkheadProperties.getLimits().get(bulkhead.name());
+            if (limit == null || limit <= 0) {
+                continue;
+            }
+
+            log.info("Bulkhead '{}' on {} allows {} concurrent requests",
+                    bulkhead.name(), bulkhead.path(), limit);
+            registry.addInterceptor(new BulkheadInterceptor(
+                            bulkhead.name(), limit, bulkheadProperties.getMaxWait(), meterRegistry))
+                    .addPathPatterns(bulkhead.path())
+                    .excludePathPatterns(bulkhead.excludedPaths());
+        }
+    }
+
+    // Bulkhead name, its paths and the paths that have a bulkhead of their own
+    private record Bulkhead(String name, String path, String... excludedPaths) {
+    }
+}
@@ -1,13 +1,20 @@
 package com.example.hrms.controller;
 
+import com.example.hrms.config.BulkProperties;
+import com.example.hrms.dto.BulkEmployeeResponseDTO;
+import com.example.hrms.dto.CursorPageDTO;
+import com.example.hrms.dto.EmployeeImportResultDTO;
 import com.example.hrms.dto.EmployeeRequestDTO;
 import com.example.hrms.dto.EmployeeResponseDTO;
+import com.example.hrms.exception.InvalidRequestException;
+import com.example.hrms.service.EmployeeImportService;
 import com.example.hrms.service.EmployeeService;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
 
 /*
@@ -15,7 +22,9 @@ import java.util.List;
 
  It is used to:
  - Create a new employee
- - Get all employees
+ - Create many employees in one call
+ - Import employees from a CSV file
+ - Get all employees (page or cursor based)
  - Get employee by ID
 
  This controller calls EmployeeService to perform business logic.
@@ -27,9 +36,15 @@ import java.util.List;
 public class EmployeeController {
 
     private final EmployeeService service;
+    private final EmployeeImportService importService;
+    private final BulkProperties bulkProperties;
 
-    public EmployeeController(EmployeeService service) {
+    public EmployeeController(EmployeeService service,
+                              EmployeeImportService importService,
+                              BulkProperties bulkProperties) {
         this.service = service;
+        this.importService = importService;
+        this.bulkProperties = bulkProperties;
     }
 
     /*
@@ -49,6 +64,74 @@ public class EmployeeController {
         return response;
     }
 
+    /*
+     This API is used to create many employees in one call.
+     It takes a list of employee details in request body.
+
+     Rows are validated one by one.
+     Invalid rows are skipped and returned in the errors list,
+     valid rows are saved in chunks.
+     At most hrms.bulk.max-rows (1000) rows per call,
+     use the CSV import for larger files.
+
+     The limit is checked after the JSON body is read,
+     so it bounds the work per call, not the request size.
+
+     Only MANAGER can call it.
+    */
+    @PostMapping("/employees/bulk")
+    public BulkEmployeeResponseDTO createEmployees(
+            @RequestBody List<EmployeeRequestDTO> requests) {
+
+        log.info("Bulk employee creation request received with {} rows", requests.size());
+
+        if (requests.size() > bulkProperties.getMaxRows()) {
+            log.warn("Bulk employee creation with {} rows exceeds the limit", requests.size());
+            throw new InvalidRequestException(
+                    "At most " + bulkProperties.getMaxRows() + " employees can be created at once");
+        }
+
+        BulkEmployeeResponseDTO response = service.createEmployees(requests);
+
+        log.info("Bulk employee creation finished | created: {}, failed: {}",
+                response.getCreated(), response.getFailed());
+
+        return response;
+    }
+
+    /*
+     This API imports employees from a CSV file
+     sent as the request body (Content-Type: text/csv).
+
+     Header: name,email,department
+
+     The file is read while it is uploaded and saved in chunks,
+     so files with hundreds of thousands of rows are fine.
+     The first 100 rejected rows are returned with their errors.
+     All of them are written to the rejects file named in the
+     response (inside hrms.employee-import.rejects-dir, deleted
+     after hrms.employee-import.rejects-retention).
+
+     Only MANAGER can call it.
+
+     Example:
+     curl -u manager:manager123 -H "Content-Type: text/csv" \
+          --data-binary @employees.csv \
+          http://localhost:8080/employee-Api/v1/employees/import
+    */
+    @PostMapping(value = "/employees/import", consumes = "text/csv")
+    public EmployeeImportResultDTO importEmployees(InputStream csv) {
+
+        log.info("Employee CSV import request received");
+
+        EmployeeImportResultDTO response = importService.importEmployees(csv);
+
+        log.info("Employee CSV import finished | total: {}, created: {}, failed: {}",
+                response.getTotal(), response.getCreated(), response.getFailed());
+
+        return response;
+    }
+
     /*
      This API returns the list of all employees.
     */
@@ -60,6 +143,20 @@ public class EmployeeController {
         return service.getAllEmployees(page, size);
     }
 
+    /*
+     This API returns employees using a cursor.
+     Pass nextCursor of the previous response as "after"
+     to read the next page.
+     limit is at most hrms.paging.max-limit (100).
+    */
+    @GetMapping("/employees/cursor")
+    public CursorPageDTO<EmployeeResponseDTO> getEmployeesAfter(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return service.getEmployeesAfter(after, limit);
+    }
+
     /*
      This API returns employee details by ID.
     */
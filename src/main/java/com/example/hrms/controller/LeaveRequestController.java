@@ -1,9 +1,13 @@
 package com.example.hrms.controller;
 
+import com.example.hrms.config.HrmsUser;
+import com.example.hrms.dto.CursorPageDTO;
 import com.example.hrms.dto.LeaveRequestDTO;
+import com.example.hrms.exception.InvalidRequestException;
 import com.example.hrms.service.LeaveRequestService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
@@ -14,7 +18,10 @@ import java.util.List;
 
  It is used to:
  - Apply for leave
- - View leave history of an employee
+ - View leave history of an employee (page or cursor based)
+
+ The employee is the one linked to the logged-in account
+ (see UserAccountServiceImpl), it is never taken from the request.
 
  This controller calls LeaveRequestService to handle business logic.
 */
@@ -32,15 +39,18 @@ public class LeaveRequestController {
 
     /*
      This API is used to apply for leave.
-     It takes employeeId, leaveType, startDate, endDate and reason.
+     It takes leaveType, startDate, endDate and reason.
+     A request covers at most 366 calendar days.
     */
     @PostMapping("/apply")
-    public LeaveRequestDTO applyLeave(@RequestParam Long employeeId,
+    public LeaveRequestDTO applyLeave(@AuthenticationPrincipal HrmsUser user,
                                       @RequestParam String leaveType,
                                       @RequestParam String startDate,
                                       @RequestParam String endDate,
                                       @RequestParam String reason) {
 
+        Long employeeId = employeeId(user);
+
         log.info("Leave apply request received for employeeId: {}, type: {}",
                 employeeId, leaveType);
 
@@ -58,18 +68,55 @@ public class LeaveRequestController {
     }
 
     /*
-     This API returns leave history for a specific employee.
+     This API returns leave history of the logged-in employee.
     */
     @GetMapping("/history")
     public Page<LeaveRequestDTO> getHistory(
-            @RequestParam Long employeeId,
+            @AuthenticationPrincipal HrmsUser user,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "5") int size
     ) {
 
+        Long employeeId = employeeId(user);
+
         log.info("Fetching leave history for employeeId: {}, page: {}, size: {}",
                 employeeId, page, size);
 
         return service.getLeaveHistory(employeeId, page, size);
     }
-}
\ No newline at end of file
+
+    /*
+     This API returns leave history of the logged-in employee using a cursor.
+     Pass nextCursor of the previous response as "after"
+     to read the next page.
+     limit is at most hrms.paging.max-limit (100).
+    */
+    @GetMapping("/history/cursor")
+    public CursorPageDTO<LeaveRequestDTO> getHistoryAfter(
+            @AuthenticationPrincipal HrmsUser user,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+
+        Long employeeId = employeeId(user);
+
+        log.info("Fetching leave history for employeeId: {}, after: {}, limit: {}",
+                employeeId, after, limit);
+
+        return service.getLeaveHistoryAfter(employeeId, after, limit);
+    }
+
+    /*
+     Returns the employee linked to the logged-in account.
+    */
+    private Long employeeId(HrmsUser user) {
+
+        if (user == null || user.getEmployeeId() == null) {
+            log.warn("Leave API called by an account without employee: {}",
+                    user == null ? null : user.getUsername());
+            throw new InvalidRequestException("The account is not linked to an employee");
+        }
+
+        return user.getEmployeeId();
+    }
+}
@@ -1,18 +1,54 @@
 package com.example.hrms.controller;
 
+import com.example.hrms.dto.AbsenceHeatmapDTO;
+import com.example.hrms.dto.CursorPageDTO;
+import com.example.hrms.dto.ExportFormat;
+import com.example.hrms.dto.LeaveBalanceAdjustmentDTO;
+import com.example.hrms.dto.LeaveBalanceDTO;
+import com.example.hrms.dto.LeaveDecisionRequestDTO;
+import com.example.hrms.dto.LeaveDecisionResultDTO;
 import com.example.hrms.dto.LeaveRequestDTO;
+import com.example.hrms.dto.PendingSummaryDTO;
+import com.example.hrms.dto.RolloverRunDTO;
+import com.example.hrms.dto.SlicePageDTO;
+import com.example.hrms.dto.UserAccountDTO;
+import com.example.hrms.dto.UserAccountRequestDTO;
+import com.example.hrms.entity.Department;
+import com.example.hrms.service.LeaveBalanceService;
+import com.example.hrms.service.LeaveExportService;
 import com.example.hrms.service.ManagerService;
+import com.example.hrms.service.RolloverService;
+import com.example.hrms.service.UserAccountService;
+import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.List;
 
 /*
  This controller handles all manager related APIs.
 
  It is used by the manager to:
  - View all pending leave requests (Paginated)
+ - View pending leave requests without an exact total (for polling)
+ - View pending leave requests with a cursor (Keyset paginated)
  - Approve a leave request
  - Reject a leave request
+ - Approve or reject many leave requests in one call
+ - View absent headcounts per day (absence heatmap)
+ - View pending counts per department and leave type (dashboard summary)
+ - Export leave requests for payroll (CSV or NDJSON, streamed)
+ - View leave balances of an employee (today or on a past day)
+ - Correct a leave balance
+ - Start and follow the year-end rollover of leave balances
+ - Create, change and delete login accounts
 
  These APIs are secured and require authentication.
 */
@@ -23,9 +59,21 @@ import org.springframework.web.bind.annotation.*;
 public class ManagerController {
 
     private final ManagerService service;
+    private final LeaveExportService exportService;
+    private final LeaveBalanceService balanceService;
+    private final RolloverService rolloverService;
+    private final UserAccountService userAccountService;
 
-    public ManagerController(ManagerService service){
+    public ManagerController(ManagerService service,
+                             LeaveExportService exportService,
+                             LeaveBalanceService balanceService,
+                             RolloverService rolloverService,
+                             UserAccountService userAccountService){
         this.service = service;
+        this.exportService = exportService;
+        this.balanceService = balanceService;
+        this.rolloverService = rolloverService;
+        this.userAccountService = userAccountService;
     }
 
     /*
@@ -48,6 +96,40 @@ public class ManagerController {
         return pendingPage;
     }
 
+    /*
+     This API returns PENDING leave requests without
+     running a COUNT query.
+
+     The response has "hasNext" and an approximate total
+     which is kept in memory (pending summary). Use it for
+     screens that poll the pending list every few seconds.
+    */
+    @GetMapping("/pending/slice")
+    public SlicePageDTO<LeaveRequestDTO> getPendingSlice(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "5") int size) {
+
+        log.info("Manager polled pending leave list | page: {}, size: {}", page, size);
+
+        return service.getPendingRequestsSlice(page, size);
+    }
+
+    /*
+     This API returns PENDING leave requests using a cursor.
+     Pass nextCursor of the previous response as "after"
+     to read the next page.
+     limit is at most hrms.paging.max-limit (100).
+    */
+    @GetMapping("/pending/cursor")
+    public CursorPageDTO<LeaveRequestDTO> getPendingAfter(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        log.info("Manager requested pending leave list | after: {}, limit: {}", after, limit);
+
+        return service.getPendingRequestsAfter(after, limit);
+    }
+
     /*
      This API is used to approve a leave request
      based on request ID.
@@ -81,4 +163,195 @@ public class ManagerController {
 
         return response;
     }
-}
\ No newline at end of file
+
+    /*
+     This API is used to approve or reject
+     many leave requests in one call.
+
+     Every request ID gets its own result, in the order sent,
+     so one failing request does not stop the others.
+     A repeated ID is decided once, its copies are failed.
+     At most hrms.bulk.max-rows (1000) IDs per call.
+    */
+    @PostMapping("/decisions")
+    public List<LeaveDecisionResultDTO> decide(
+            @Valid @RequestBody LeaveDecisionRequestDTO request) {
+
+        log.info("Manager submitted bulk decision | decision: {}, count: {}",
+                request.getDecision(), request.getRequestIds().size());
+
+        List<LeaveDecisionResultDTO> results =
+                service.decideLeaves(request.getRequestIds(), request.getDecision());
+
+        log.info("Bulk decision processed | results: {}", results.size());
+
+        return results;
+    }
+
+    /*
+     This API returns the number of absent employees per day
+     for each department and leave type (approved leave only).
+
+     department is optional, all departments are returned without it.
+     Dates are in yyyy-MM-dd format, both inclusive.
+    */
+    @GetMapping("/absence-heatmap")
+    public AbsenceHeatmapDTO getAbsenceHeatmap(
+            @RequestParam(required = false) Department department,
+            @RequestParam String from,
+            @RequestParam String to) {
+
+        log.info("Manager requested absence heatmap | department: {}, from: {}, to: {}",
+                department, from, to);
+
+        return service.getAbsenceHeatmap(department, LocalDate.parse(from), LocalDate.parse(to));
+    }
+
+    /*
+     This API returns the number of pending leave requests
+     per department and leave type, with totals.
+
+     Counts are kept in memory and checked against the database
+     every hrms.pending-summary.reconcile-ms, no query runs here.
+    */
+    @GetMapping("/summary")
+    public PendingSummaryDTO getPendingSummary() {
+
+        log.info("Manager requested pending summary");
+
+        return service.getPendingSummary();
+    }
+
+    /*
+     This API exports all leave requests sharing at least
+     one day with [from, to] for payroll.
+
+     format is csv (default) or ndjson.
+     gzip=true returns a .gz file.
+
+     Rows are streamed while they are read from the database,
+     so large exports do not need more memory.
+    */
+    @GetMapping("/export/leaves")
+    public ResponseEntity<StreamingResponseBody> exportLeaves(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+
+        log.info("Manager requested leave export | from: {}, to: {}, format: {}, gzip: {}",
+                from, to, format, gzip);
+
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = exportService.exportLeaves(
+                LocalDate.parse(from), LocalDate.parse(to), exportFormat, gzip);
+
+        String fileName = "leaves-" + from + "-" + to + "." + exportFormat.getExtension()
+                + (gzip ? ".gz" : "");
+
+        return ResponseEntity.ok()
+                .contentType(gzip
+                        ? MediaType.parseMediaType("application/gzip")
+                        : MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
+    /*
+     This API returns the leave balances of an employee.
+
+     asOf (optional, yyyy-MM-dd) returns the balances
+     at the end of that day, for example asOf=2026-03-01.
+    */
+    @GetMapping("/employees/{employeeId}/balances")
+    public List<LeaveBalanceDTO> getBalances(
+            @PathVariable Long employeeId,
+            @RequestParam(required = false) String asOf) {
+
+        log.info("Manager requested leave balances | employee ID: {}, asOf: {}", employeeId, asOf);
+
+        return balanceService.getBalances(employeeId, asOf == null ? null : LocalDate.parse(asOf));
+    }
+
+    /*
+     This API corrects a leave balance of an employee.
+     days can be positive (add) or negative (remove).
+     The reason is kept in the balance ledger.
+    */
+    @PostMapping("/employees/{employeeId}/balances/adjustments")
+    public LeaveBalanceDTO adjustBalance(
+            @PathVariable Long employeeId,
+            @Valid @RequestBody LeaveBalanceAdjustmentDTO adjustment) {
+
+        log.info("Manager adjusting leave balance | employee ID: {}, type: {}, days: {}",
+                employeeId, adjustment.getLeaveType(), adjustment.getDays());
+
+        LeaveBalanceDTO response = balanceService.adjustBalance(employeeId, adjustment);
+
+        log.info("Leave balance adjusted | employee ID: {}, remaining: {}",
+                employeeId, response.getRemainingDays());
+
+        return response;
+    }
+
+    /*
+     This API starts the year-end rollover into the given year.
+     It runs in the background and returns 202 Accepted at once.
+
+     Calling it again after a failure continues
+     after the last saved chunk.
+
+     Refused (400) for any year other than the current or next one,
+     for next year before hrms.rollover.start-window-days (31) ahead
+     of January 1, and for a year at or below a completed rollover.
+    */
+    @PostMapping("/rollover/{year}")
+    public ResponseEntity<RolloverRunDTO> startRollover(@PathVariable int year) {
+
+        log.info("Manager started year-end rollover | year: {}", year);
+
+        return ResponseEntity.accepted().body(rolloverService.startRollover(year));
+    }
+
+    /*
+     This API returns the progress of the rollover into the given year.
+    */
+    @GetMapping("/rollover/{year}")
+    public RolloverRunDTO getRollover(@PathVariable int year) {
+
+        log.info("Manager requested year-end rollover status | year: {}", year);
+
+        return rolloverService.getRollover(year);
+    }
+
+    /*
+     This API creates or changes a login account.
+
+     EMPLOYEE accounts need employeeId: the leave APIs
+     act for that employee. password may be left out
+     when an existing account is changed.
+    */
+    @PutMapping("/users/{username}")
+    public UserAccountDTO saveUser(
+            @PathVariable String username,
+            @Valid @RequestBody UserAccountRequestDTO request) {
+
+        log.info("Manager saving user account | username: {}, role: {}", username, request.getRole());
+
+        return userAccountService.saveAccount(username, request);
+    }
+
+    /*
+     This API deletes a login account.
+    */
+    @DeleteMapping("/users/{username}")
+    public ResponseEntity<Void> deleteUser(@PathVariable String username) {
+
+        log.info("Manager deleting user account | username: {}", username);
+
+        userAccountService.deleteAccount(username);
+
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.hrms.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AbsenceHeatmapDTO
+ *
+ * Number of absent employees per day, for a date range.
+ *
+ * It contains:
+ *  - from, to → requested range (both inclusive)
+ *  - rows     → one row per department and leave type
+ *
+ * Every row has one count per day, counts[0] is "from".
+ */
+@Getter
+@Setter
+public class AbsenceHeatmapDTO {
+
+    private LocalDate from;
+    private LocalDate to;
+    private List<AbsenceHeatmapRowDTO> rows = new ArrayList<>();
+
+    public AbsenceHeatmapDTO() {
+    }
+
+    public AbsenceHeatmapDTO(LocalDate from, LocalDate to) {
+        this.from = from;
+        this.to = to;
+    }
+}
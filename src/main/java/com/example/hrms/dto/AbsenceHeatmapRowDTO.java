@@ -0,0 +1,30 @@
+package com.example.hrms.dto;
+
+import com.example.hrms.entity.Department;
+import com.example.hrms.entity.LeaveTypeEnum;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * AbsenceHeatmapRowDTO
+ *
+ * Absent employees of one department on one leave type,
+ * one count per day of the requested range.
+ */
+@Getter
+@Setter
+public class AbsenceHeatmapRowDTO {
+
+    private Department department;
+    private LeaveTypeEnum leaveType;
+    private int[] counts;
+
+    public AbsenceHeatmapRowDTO() {
+    }
+
+    public AbsenceHeatmapRowDTO(Department department, LeaveTypeEnum leaveType, int[] counts) {
+        this.department = department;
+        this.leaveType = leaveType;
+        this.counts = counts;
+    }
+}
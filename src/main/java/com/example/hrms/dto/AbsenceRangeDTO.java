@@ -0,0 +1,35 @@
+package com.example.hrms.dto;
+
+import com.example.hrms.entity.Department;
+import com.example.hrms.entity.LeaveTypeEnum;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * AbsenceRangeDTO
+ *
+ * Dates of one approved leave, with the department
+ * of the employee and the leave type.
+ *
+ * Read by a JPQL constructor query when the
+ * absence heatmap is rebuilt.
+ */
+@Getter
+public class AbsenceRangeDTO {
+
+    private final Department department;
+    private final LeaveTypeEnum leaveType;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    public AbsenceRangeDTO(Department department,
+                           LeaveTypeEnum leaveType,
+                           LocalDate startDate,
+                           LocalDate endDate) {
+        this.department = department;
+        this.leaveType = leaveType;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+}
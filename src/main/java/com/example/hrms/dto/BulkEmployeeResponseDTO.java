@@ -0,0 +1,36 @@
+package com.example.hrms.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BulkEmployeeResponseDTO
+ *
+ * Result of a bulk employee creation.
+ *
+ * It contains:
+ *  - Number of rows received
+ *  - Number of employees created
+ *  - Number of rows rejected
+ *  - Error details for every rejected row
+ */
+@Getter
+@Setter
+public class BulkEmployeeResponseDTO {
+
+    private long total;
+    private long created;
+    private long failed;
+    private List<BulkRowErrorDTO> errors = new ArrayList<>();
+
+    /**
+     * Records a rejected row.
+     */
+    public void addError(long index, String email, List<String> messages) {
+        errors.add(new BulkRowErrorDTO(index, email, messages));
+        failed++;
+    }
+}
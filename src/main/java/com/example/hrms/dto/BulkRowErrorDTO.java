@@ -0,0 +1,33 @@
+package com.example.hrms.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * BulkRowErrorDTO
+ *
+ * Describes one row of a bulk request that could not be saved.
+ *
+ * index  → position of the row in the request (starting from 0)
+ * email  → email of the row (helps to find it in the source file)
+ * errors → reasons why the row was rejected
+ */
+@Getter
+@Setter
+public class BulkRowErrorDTO {
+
+    private long index;
+    private String email;
+    private List<String> errors;
+
+    public BulkRowErrorDTO() {
+    }
+
+    public BulkRowErrorDTO(long index, String email, List<String> errors) {
+        this.index = index;
+        this.email = email;
+        this.errors = errors;
+    }
+}
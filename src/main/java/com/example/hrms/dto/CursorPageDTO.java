@@ -0,0 +1,93 @@
+package com.example.hrms.dto;
+
+import com.example.hrms.exception.InvalidRequestException;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * CursorPageDTO
+ *
+ * One page of a cursor (keyset) paginated list.
+ *
+ * It contains:
+ *  - content    → rows of this page
+ *  - nextCursor → value to pass as "after" to get the next page
+ *                 (null when there are no more rows)
+ *
+ * The cursor is opaque for clients. Internally it is the
+ * ID of the last row, so the next page is read with
+ * "WHERE id > ? ORDER BY id LIMIT ?" instead of OFFSET.
+ */
+@Getter
+@Setter
+public class CursorPageDTO<T> {
+
+    private List<T> content;
+    private String nextCursor;
+
+    public CursorPageDTO() {
+    }
+
+    public CursorPageDTO(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Builds a page from rows read with limit + 1.
+     * The extra row only tells if a next page exists.
+     */
+    public static <E, T> CursorPageDTO<T> of(List<E> rows,
+                                             int limit,
+                                             Function<E, Long> idOf,
+                                             Function<E, T> mapper) {
+
+        boolean hasNext = rows.size() > limit;
+        List<E> pageRows = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = hasNext
+                ? encodeCursor(idOf.apply(pageRows.get(pageRows.size() - 1)))
+                : null;
+
+        return new CursorPageDTO<>(pageRows.stream().map(mapper).toList(), nextCursor);
+    }
+
+    /**
+     * Same as above, for rows that already are DTOs
+     * (read with a JPQL projection).
+     */
+    public static <T> CursorPageDTO<T> of(List<T> rows, int limit, Function<T, Long> idOf) {
+        return of(rows, limit, idOf, Function.identity());
+    }
+
+    /**
+     * Converts the last seen ID into an opaque cursor.
+     */
+    public static String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Converts a cursor back into the last seen ID.
+     * A missing cursor means "start from the beginning".
+     */
+    public static long decodeCursor(String cursor) {
+
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+
+        try {
+            return Long.parseLong(new String(
+                    Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
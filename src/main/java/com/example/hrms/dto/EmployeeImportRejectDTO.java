@@ -0,0 +1,33 @@
+package com.example.hrms.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * EmployeeImportRejectDTO
+ *
+ * Describes one row of a CSV import that could not be saved.
+ *
+ * line   → line number in the file (header is line 1)
+ * email  → email of the row, as written in the file
+ * errors → reasons why the row was rejected
+ */
+@Getter
+@Setter
+public class EmployeeImportRejectDTO {
+
+    private long line;
+    private String email;
+    private List<String> errors;
+
+    public EmployeeImportRejectDTO() {
+    }
+
+    public EmployeeImportRejectDTO(long line, String email, List<String> errors) {
+        this.line = line;
+        this.email = email;
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.hrms.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * EmployeeImportResultDTO
+ *
+ * Result of a CSV employee import.
+ *
+ * It contains:
+ *  - Number of data rows read from the file
+ *  - Number of employees created
+ *  - Number of rows rejected
+ *  - The first rejected rows with their errors
+ *    (at most hrms.employee-import.max-returned-rejects)
+ *  - Name of the rejects file with all rejected rows,
+ *    inside hrms.employee-import.rejects-dir
+ *    (null when no row was rejected)
+ *  - Time taken in milliseconds
+ *
+ * When failed is larger than the number of returned rows,
+ * the remaining ones are only in the rejects file.
+ */
+@Getter
+@Setter
+public class EmployeeImportResultDTO {
+
+    private long total;
+    private long created;
+    private long failed;
+    private List<EmployeeImportRejectDTO> rejects = new ArrayList<>();
+    private String rejectsFile;
+    private long durationMs;
+}
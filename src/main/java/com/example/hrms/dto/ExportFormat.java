@@ -0,0 +1,46 @@
+package com.example.hrms.dto;
+
+import com.example.hrms.exception.InvalidRequestException;
+
+import java.util.Locale;
+
+/**
+ * ExportFormat
+ *
+ * File formats of the leave export.
+ *
+ *  - CSV    → header line, then one comma separated line per row
+ *  - NDJSON → one JSON object per line (newline delimited JSON)
+ */
+public enum ExportFormat {
+
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Parses the "format" request parameter (case insensitive).
+     */
+    public static ExportFormat from(String value) {
+        try {
+            return ExportFormat.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRequestException("Export format must be csv or ndjson");
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.hrms.dto;
+
+import com.example.hrms.entity.LeaveTypeEnum;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * LeaveBalanceAdjustmentDTO
+ *
+ * Used by the manager to correct a leave balance.
+ *
+ * It contains:
+ *  - Leave type of the balance
+ *  - Days to add (positive) or remove (negative)
+ *  - Reason, kept in the balance ledger
+ */
+@Getter
+@Setter
+public class LeaveBalanceAdjustmentDTO {
+
+    @NotNull(message = "Leave type must not be null")
+    private LeaveTypeEnum leaveType;
+
+    private int days;
+
+    @NotBlank(message = "Reason must not be blank")
+    private String reason;
+}
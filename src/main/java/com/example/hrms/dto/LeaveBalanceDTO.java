@@ -0,0 +1,32 @@
+package com.example.hrms.dto;
+
+import com.example.hrms.entity.LeaveTypeEnum;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * LeaveBalanceDTO
+ *
+ * Balance of one leave type of an employee,
+ * computed from the balance ledger.
+ *
+ * asOf → day the balance was read for (end of that day)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class LeaveBalanceDTO {
+
+    private LeaveTypeEnum leaveType;
+    private int remainingDays;
+    private LocalDate asOf;
+
+    public LeaveBalanceDTO(LeaveTypeEnum leaveType, int remainingDays, LocalDate asOf) {
+        this.leaveType = leaveType;
+        this.remainingDays = remainingDays;
+        this.asOf = asOf;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.hrms.dto;
+
+import com.example.hrms.entity.LeaveStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * LeaveDecisionRequestDTO
+ *
+ * Used by the manager to approve or reject
+ * many leave requests in one call.
+ *
+ * It contains:
+ *  - IDs of the leave requests
+ *  - Decision (APPROVED or REJECTED)
+ */
+@Getter
+@Setter
+public class LeaveDecisionRequestDTO {
+
+    @NotEmpty(message = "Request IDs must not be empty")
+    private List<Long> requestIds;
+
+    @NotNull(message = "Decision must not be null")
+    private LeaveStatus decision;
+}
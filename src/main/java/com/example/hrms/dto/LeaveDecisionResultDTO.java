@@ -0,0 +1,35 @@
+package com.example.hrms.dto;
+
+import com.example.hrms.entity.LeaveStatus;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * LeaveDecisionResultDTO
+ *
+ * Result of a bulk decision for one leave request.
+ *
+ * success → true if the decision was applied
+ * status  → status of the leave request after the call
+ *           (null if the request does not exist)
+ * message → reason when the decision was not applied
+ */
+@Getter
+@Setter
+public class LeaveDecisionResultDTO {
+
+    private Long requestId;
+    private boolean success;
+    private LeaveStatus status;
+    private String message;
+
+    public LeaveDecisionResultDTO() {
+    }
+
+    public LeaveDecisionResultDTO(Long requestId, boolean success, LeaveStatus status, String message) {
+        this.requestId = requestId;
+        this.success = success;
+        this.status = status;
+        this.message = message;
+    }
+}
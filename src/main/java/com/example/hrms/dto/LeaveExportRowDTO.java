@@ -0,0 +1,58 @@
+package com.example.hrms.dto;
+
+import com.example.hrms.entity.Department;
+import com.example.hrms.entity.LeaveStatus;
+import com.example.hrms.entity.LeaveTypeEnum;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * LeaveExportRowDTO
+ *
+ * One row of the payroll leave export:
+ * the leave request with the employee's
+ * name, email and department.
+ *
+ * Read by a JPQL constructor query and streamed
+ * to the client one row at a time.
+ */
+@Getter
+public class LeaveExportRowDTO {
+
+    private final Long requestId;
+    private final Long employeeId;
+    private final String employeeName;
+    private final String employeeEmail;
+    private final Department department;
+    private final LeaveTypeEnum leaveType;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final int totalDays;
+    private final LeaveStatus status;
+    private final String reason;
+
+    public LeaveExportRowDTO(Long requestId,
+                             Long employeeId,
+                             String employeeName,
+                             String employeeEmail,
+                             Department department,
+                             LeaveTypeEnum leaveType,
+                             LocalDate startDate,
+                             LocalDate endDate,
+                             int totalDays,
+                             LeaveStatus status,
+                             String reason) {
+        this.requestId = requestId;
+        this.employeeId = employeeId;
+        this.employeeName = employeeName;
+        this.employeeEmail = employeeEmail;
+        this.department = department;
+        this.leaveType = leaveType;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.totalDays = totalDays;
+        this.status = status;
+        this.reason = reason;
+    }
+}
@@ -2,7 +2,9 @@ package com.example.hrms.dto;
 
 import com.example.hrms.entity.LeaveStatus;
 import com.example.hrms.entity.LeaveType;
+import com.example.hrms.entity.LeaveTypeEnum;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDate;
@@ -15,9 +17,14 @@ import java.time.LocalDate;
  *
  * This DTO does NOT expose entity objects directly.
  * It only contains primitive and safe values.
+ *
+ * List endpoints read it straight from JPQL
+ * ("select new ...LeaveRequestDTO(...)"), without
+ * loading LeaveRequest entities.
  */
 @Getter
 @Setter
+@NoArgsConstructor
 public class LeaveRequestDTO {
 
     private Long id;
@@ -28,4 +35,31 @@ public class LeaveRequestDTO {
     private int totalDays;
     private LeaveStatus status;
     private String reason;
+
+    /**
+     * Constructor used by JPQL projections.
+     * The leave type is a detached copy (id and name only).
+     */
+    public LeaveRequestDTO(Long id,
+                           Long employeeId,
+                           Long leaveTypeId,
+                           LeaveTypeEnum leaveTypeName,
+                           LocalDate startDate,
+                           LocalDate endDate,
+                           int totalDays,
+                           LeaveStatus status,
+                           String reason) {
+        this.id = id;
+        this.employeeId = employeeId;
+        if (leaveTypeId != null) {
+            this.leaveType = new LeaveType();
+            this.leaveType.setId(leaveTypeId);
+            this.leaveType.setName(leaveTypeName);
+        }
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.totalDays = totalDays;
+        this.status = status;
+        this.reason = reason;
+    }
 }
\ No newline at end of file
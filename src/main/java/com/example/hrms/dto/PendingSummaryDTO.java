@@ -0,0 +1,33 @@
+package com.example.hrms.dto;
+
+import com.example.hrms.entity.Department;
+import com.example.hrms.entity.LeaveTypeEnum;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * PendingSummaryDTO
+ *
+ * Number of PENDING leave requests, for the manager dashboard.
+ *
+ * It contains:
+ *  - total        → all pending requests
+ *  - byDepartment → pending requests per department
+ *  - byLeaveType  → pending requests per leave type
+ *  - counts       → pending requests per department and leave type
+ *  - reconciledAt → last time the counts were checked against the database
+ */
+@Getter
+@Setter
+public class PendingSummaryDTO {
+
+    private long total;
+    private Map<Department, Long> byDepartment = new EnumMap<>(Department.class);
+    private Map<LeaveTypeEnum, Long> byLeaveType = new EnumMap<>(LeaveTypeEnum.class);
+    private Map<Department, Map<LeaveTypeEnum, Long>> counts = new EnumMap<>(Department.class);
+    private LocalDateTime reconciledAt;
+}
@@ -0,0 +1,32 @@
+package com.example.hrms.dto;
+
+import com.example.hrms.entity.RolloverStatus;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * RolloverRunDTO
+ *
+ * Progress of a year-end rollover.
+ *
+ * It contains:
+ *  - Year the balances are rolled into
+ *  - Status (RUNNING, COMPLETED, FAILED)
+ *  - Checkpoint (highest committed leave balance id)
+ *  - Number of balances rolled over so far
+ *  - Start and end time, error of a failed run
+ */
+@Getter
+@Setter
+public class RolloverRunDTO {
+
+    private int year;
+    private RolloverStatus status;
+    private long lastBalanceId;
+    private long processedBalances;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
@@ -0,0 +1,44 @@
+package com.example.hrms.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * SlicePageDTO
+ *
+ * One page of a list without an exact total.
+ *
+ * It contains:
+ *  - content          → rows of this page
+ *  - page, size       → requested page number and size
+ *  - hasNext          → true when another page exists
+ *  - approximateTotal → in-memory total, checked against the
+ *                       database in the background
+ *
+ * Used by endpoints which are polled often, so no
+ * COUNT query is run on every call.
+ */
+@Getter
+@Setter
+public class SlicePageDTO<T> {
+
+    private List<T> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private Long approximateTotal;
+
+    public SlicePageDTO() {
+    }
+
+    public SlicePageDTO(Slice<T> slice, Long approximateTotal) {
+        this.content = slice.getContent();
+        this.page = slice.getNumber();
+        this.size = slice.getSize();
+        this.hasNext = slice.hasNext();
+        this.approximateTotal = approximateTotal;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.hrms.dto;
+
+import com.example.hrms.entity.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * UserAccountDTO
+ *
+ * Login account as returned by the API (without the password).
+ */
+@Getter
+@AllArgsConstructor
+public class UserAccountDTO {
+
+    private String username;
+    private UserRole role;
+    private Long employeeId;
+    private boolean enabled;
+}
@@ -0,0 +1,33 @@
+package com.example.hrms.dto;
+
+import com.example.hrms.entity.UserRole;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * UserAccountRequestDTO
+ *
+ * Used by the manager to create or change a login account.
+ *
+ * It contains:
+ *  - Password (required for a new account, optional on change)
+ *  - Role (MANAGER or EMPLOYEE)
+ *  - Employee ID (required for EMPLOYEE accounts)
+ *  - Enabled flag
+ */
+@Getter
+@Setter
+public class UserAccountRequestDTO {
+
+    @Size(min = 8, max = 72, message = "Password must have 8 to 72 characters")
+    private String password;
+
+    @NotNull(message = "Role must not be null")
+    private UserRole role;
+
+    private Long employeeId;
+
+    private boolean enabled = true;
+}
@@ -0,0 +1,20 @@
+package com.example.hrms.entity;
+
+/**
+ * BalanceEntryType
+ *
+ * Kind of movement recorded in the leave balance ledger.
+ *
+ *  - GRANT      → days given (new employee, opening balance)
+ *  - DEDUCT     → days taken by an approved leave request
+ *  - REFUND     → days given back for an approved leave that was cancelled
+ *  - ADJUSTMENT → manual correction by a manager (positive or negative)
+ *  - EXPIRE     → days above the carry-forward cap lost at year end
+ */
+public enum BalanceEntryType {
+    GRANT,
+    DEDUCT,
+    REFUND,
+    ADJUSTMENT,
+    EXPIRE
+}
@@ -3,6 +3,7 @@ package com.example.hrms.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * LeaveBalance Entity
@@ -19,28 +20,54 @@ import lombok.Setter;
  *  - Tracking available leave days
  *  - Validating leave requests
  *  - Deducting leave after approval
+ *
+ * balanceYear is the year the days belong to. The year-end rollover
+ * only touches balances of earlier years, so it can safely run again.
+ *
+ * An employee has at most one balance per leave type.
+ * The unique key is also the index used for balance lookups.
  */
 @Entity
-@Table(name = "leave_balances")
+@Table(name = "leave_balances", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_leave_balances_employee_leave_type",
+                columnNames = {"employee_id", "leave_type_id"})
+})
 @Getter
 @Setter
 public class LeaveBalance {
 
     // Primary key of the leave balance
+    // Sequence (not IDENTITY) so Hibernate can batch the inserts.
+    // Starts at 1000 to stay clear of ids issued by the old IDENTITY column.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "leave_balances_seq")
+    @SequenceGenerator(name = "leave_balances_seq", sequenceName = "leave_balances_seq",
+            initialValue = 1000, allocationSize = 50)
     private Long id;
 
     // Many leave balances belong to one employee
-    @ManyToOne
+    // Lazy: balance lookups only need the employee id
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id", nullable = false)
     private Employee employee;
 
     // Many leave balances can belong to one leave type
-    @ManyToOne
+    // Lazy: leave types are served from LeaveTypeService's registry
+    @ManyToOne(fetch = FetchType.LAZY)
     private LeaveType leaveType;
 
     // Number of leave days remaining for the employee
     private int remainingDays;
 
+    // Year of the last grant (null for balances created before rollovers)
+    private Integer balanceYear;
+
+    // Ledger entries written since the latest snapshot of this balance.
+    // Only decides when the ledger looks for a snapshot, the snapshot
+    // itself is computed from the entries. New balances start at 1
+    // (their opening GRANT), rows older than the column at 0.
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int entriesSinceSnapshot = 1;
+
 }
@@ -0,0 +1,71 @@
+package com.example.hrms.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * LeaveBalanceEntry Entity
+ *
+ * One movement of a leave balance (append-only ledger).
+ *
+ * Entries are never updated or deleted. The balance of an
+ * (employee, leave type) at any time is the sum of its
+ * entries up to that time.
+ *
+ * Example:
+ *  - GRANT  +6  (employee created)
+ *  - DEDUCT -2  (leave request 41 approved)
+ *  - ADJUSTMENT +1 (correction)
+ *  → balance 5
+ *
+ * Entries of one balance are written while its leave_balances row
+ * is locked, so their ids grow in the same order as createdAt.
+ *
+ * Index:
+ *  - (employee_id, leave_type_id, id) → tail after a snapshot
+ */
+@Entity
+@Table(name = "leave_balance_entries", indexes = {
+        @Index(name = "idx_leave_balance_entries_balance",
+                columnList = "employee_id, leave_type_id, id")
+})
+@Getter
+@Setter
+public class LeaveBalanceEntry {
+
+    // Sequence so Hibernate can batch the inserts (bulk creation)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "leave_balance_entries_seq")
+    @SequenceGenerator(name = "leave_balance_entries_seq", sequenceName = "leave_balance_entries_seq",
+            allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id", nullable = false)
+    private Employee employee;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "leave_type_id", nullable = false)
+    private LeaveType leaveType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BalanceEntryType type;
+
+    // Signed: positive for GRANT and REFUND, negative for DEDUCT
+    private int days;
+
+    // Leave request behind a DEDUCT or REFUND (null otherwise)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "leave_request_id")
+    private LeaveRequest leaveRequest;
+
+    // Reason of an adjustment
+    private String note;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
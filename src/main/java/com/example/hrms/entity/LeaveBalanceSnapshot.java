@@ -0,0 +1,57 @@
+package com.example.hrms.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * LeaveBalanceSnapshot Entity
+ *
+ * Balance of an (employee, leave type) after a given ledger entry.
+ *
+ * A snapshot is written every hrms.ledger.snapshot-interval entries,
+ * so a balance is read as: latest snapshot + the few entries after it,
+ * instead of summing the whole history.
+ *
+ * Index:
+ *  - (employee_id, leave_type_id, last_entry_id) → latest snapshot
+ */
+@Entity
+@Table(name = "leave_balance_snapshots", indexes = {
+        @Index(name = "idx_leave_balance_snapshots_balance",
+                columnList = "employee_id, leave_type_id, last_entry_id")
+})
+@Getter
+@Setter
+public class LeaveBalanceSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "leave_balance_snapshots_seq")
+    @SequenceGenerator(name = "leave_balance_snapshots_seq", sequenceName = "leave_balance_snapshots_seq",
+            allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id", nullable = false)
+    private Employee employee;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "leave_type_id", nullable = false)
+    private LeaveType leaveType;
+
+    // Last ledger entry included in this snapshot
+    @Column(nullable = false)
+    private Long lastEntryId;
+
+    // createdAt of that entry (used for as-of reads)
+    @Column(nullable = false)
+    private LocalDateTime lastEntryAt;
+
+    // Sum of all entries up to lastEntryId
+    private int balance;
+
+    // Number of entries up to lastEntryId
+    private long entryCount;
+}
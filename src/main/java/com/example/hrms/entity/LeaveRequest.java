@@ -11,8 +11,23 @@ import java.time.LocalDate;
  *
  * Represents a leave request submitted by an employee.
  * Stores leave details, duration, reason and approval status.
+ *
+ * Indexes:
+ *  - (status, id)      → pending lists, counts and status cursors
+ *  - (employee_id, id) → leave history of an employee
+ *  - (employee_id, end_date) → overlap check when applying leave
+ *  - (end_date, start_date)  → payroll export of a date range
+ *
+ * Employee and leave type are LAZY. Repository methods that need
+ * them declare an @EntityGraph, so a page of requests is one query.
  */
 @Entity
+@Table(name = "leave_request", indexes = {
+        @Index(name = "idx_leave_request_status_id", columnList = "status, id"),
+        @Index(name = "idx_leave_request_employee_id", columnList = "employee_id, id"),
+        @Index(name = "idx_leave_request_employee_end", columnList = "employee_id, end_date"),
+        @Index(name = "idx_leave_request_end_start", columnList = "end_date, start_date")
+})
 @Getter
 @Setter
 public class LeaveRequest {
@@ -23,11 +38,11 @@ public class LeaveRequest {
     private Long id;
 
     //Employee who applied for leave
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Employee employee;
 
     //Type of leave (Casual, Sick, Earned)
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private LeaveType leaveType;
 
     private LocalDate startDate;
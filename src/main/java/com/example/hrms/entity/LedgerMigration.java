@@ -0,0 +1,32 @@
+package com.example.hrms.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * LedgerMigration Entity
+ *
+ * Marks a one-time ledger migration as done.
+ *
+ * A migration that finds its row at startup is skipped,
+ * so its full-table query runs only once per database.
+ */
+@Entity
+@Table(name = "ledger_migrations")
+@Getter
+@Setter
+public class LedgerMigration {
+
+    // Name of the migration, e.g. "opening-balances"
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    // Leave balances the migration wrote entries for
+    private long recordedBalances;
+
+    private LocalDateTime completedAt;
+}
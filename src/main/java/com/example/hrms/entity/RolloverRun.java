@@ -0,0 +1,51 @@
+package com.example.hrms.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * RolloverRun Entity
+ *
+ * Progress of the year-end rollover into one year.
+ *
+ * lastBalanceId is the checkpoint: every leave balance with
+ * an id up to it is committed. A restarted run continues
+ * with the balances after it.
+ */
+@Entity
+@Table(name = "rollover_runs", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_rollover_runs_year", columnNames = {"rollover_year"})
+})
+@Getter
+@Setter
+public class RolloverRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private Long id;
+
+    // Year the balances are rolled into ("year" is a keyword in H2)
+    @Column(name = "rollover_year", nullable = false)
+    private int year;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RolloverStatus status;
+
+    // Highest leave balance id of the committed chunks (0 = none yet)
+    private long lastBalanceId;
+
+    // Balances rolled over by this run
+    private long processedBalances;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    // Error message of a FAILED run
+    @Column(length = 1000)
+    private String error;
+}
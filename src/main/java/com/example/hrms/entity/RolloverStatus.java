@@ -0,0 +1,17 @@
+package com.example.hrms.entity;
+
+/**
+ * RolloverStatus
+ *
+ * State of a year-end rollover run.
+ *
+ *  - RUNNING   → chunks are being processed
+ *  - COMPLETED → every balance was rolled over
+ *  - FAILED    → stopped on an error, can be started again
+ *                (continues after the last saved chunk)
+ */
+public enum RolloverStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,47 @@
+package com.example.hrms.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * UserAccount Entity
+ *
+ * Login account of the HRMS system.
+ *
+ * The password is stored as a BCrypt hash.
+ * An EMPLOYEE account is linked to one employee; the leave APIs
+ * read the employee from the logged-in account, never from the request.
+ */
+@Entity
+@Table(name = "user_accounts", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_accounts_username", columnNames = {"username"}),
+        @UniqueConstraint(name = "uk_user_accounts_employee", columnNames = {"employee_id"})
+})
+@Getter
+@Setter
+public class UserAccount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String username;
+
+    // BCrypt hash
+    @Column(nullable = false)
+    private String password;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private UserRole role;
+
+    // Employee acting through this account (null for managers)
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id")
+    private Employee employee;
+
+    // Disabled accounts cannot log in
+    private boolean enabled = true;
+}
@@ -0,0 +1,14 @@
+package com.example.hrms.entity;
+
+/**
+ * UserRole
+ *
+ * Role of a login account.
+ *
+ *  - MANAGER  → manager APIs
+ *  - EMPLOYEE → leave APIs, for the linked employee only
+ */
+public enum UserRole {
+    MANAGER,
+    EMPLOYEE
+}
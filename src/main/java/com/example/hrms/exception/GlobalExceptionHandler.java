@@ -133,6 +133,19 @@ public class GlobalExceptionHandler {
         );
     }
 
+    /**
+     * 503 - Bulkhead full (too many requests on one endpoint)
+     */
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ErrorResponse> handleServiceBusy(
+            ServiceBusyException ex) {
+
+        return buildResponse(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                List.of(ex.getMessage())
+        );
+    }
+
     /**
      * 403 - Access denied
      */
@@ -0,0 +1,14 @@
+package com.example.hrms.exception;
+
+/**
+ * ServiceBusyException
+ *
+ * Thrown when an endpoint already runs as many
+ * requests as its bulkhead allows.
+ * Mapped to 503 so clients can retry later.
+ */
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -1,14 +1,65 @@
 package com.example.hrms.repository;
 
+import com.example.hrms.dto.EmployeeResponseDTO;
+import com.example.hrms.entity.Department;
 import com.example.hrms.entity.Employee;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * EmployeesRepository
  *
  * Handles database operations for Employee entity.
  * Provides basic CRUD operations using JPA.
+ *
+ * Employee lists read EmployeeResponseDTO rows directly
+ * (JPQL constructor expression), without loading entities.
  */
 public interface EmployeesRepository extends JpaRepository<Employee,Long> {
+
+    // Columns of EmployeeResponseDTO, shared by the list queries
+    String DTO_SELECT = "select new com.example.hrms.dto.EmployeeResponseDTO(" +
+            "e.id, e.name, e.email, e.department, e.active) from Employee e ";
+
     boolean existsByEmail(String email);
+
+    // Employee row locked until the transaction ends,
+    // so leave applications of one employee run one at a time
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from Employee e where e.id = :id")
+    Optional<Employee> findForUpdateById(@Param("id") Long id);
+
+    // Returns the emails from the given list that are already registered
+    @Query("select e.email from Employee e where e.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // One page of employees
+    @Query(value = DTO_SELECT, countQuery = "select count(e) from Employee e")
+    Page<EmployeeResponseDTO> findAllResponses(Pageable pageable);
+
+    // Keyset pagination: employees after the given ID
+    @Query(DTO_SELECT + "where e.id > :id order by e.id")
+    List<EmployeeResponseDTO> findByIdGreaterThanOrderByIdAsc(@Param("id") Long id, Limit limit);
+
+    /**
+     * Department of an employee (rollover chunks).
+     */
+    interface EmployeeDepartment {
+        Long getId();
+        Department getDepartment();
+    }
+
+    // Departments of many employees in one query
+    @Query("select e.id as id, e.department as department from Employee e where e.id in :ids")
+    List<EmployeeDepartment> findDepartments(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,48 @@
+package com.example.hrms.repository;
+
+import com.example.hrms.entity.LeaveBalanceEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * LeaveBalanceEntryRepository
+ *
+ * Handles database operations for the leave balance ledger.
+ * Entries are only inserted and summed, never updated.
+ */
+public interface LeaveBalanceEntryRepository extends JpaRepository<LeaveBalanceEntry, Long> {
+
+    /**
+     * Totals of the entries written after a snapshot.
+     */
+    interface TailSummary {
+        long getDays();
+        long getEntries();
+        Long getLastEntryId();
+        LocalDateTime getLastEntryAt();
+    }
+
+    // Entries after afterEntryId (0 = from the start)
+    @Query("select coalesce(sum(e.days), 0) as days, count(e) as entries, " +
+            "max(e.id) as lastEntryId, max(e.createdAt) as lastEntryAt " +
+            "from LeaveBalanceEntry e " +
+            "where e.employee.id = :employeeId and e.leaveType.id = :leaveTypeId " +
+            "and e.id > :afterEntryId")
+    TailSummary summarizeAfter(@Param("employeeId") Long employeeId,
+                               @Param("leaveTypeId") Long leaveTypeId,
+                               @Param("afterEntryId") long afterEntryId);
+
+    // Entries after afterEntryId written before the given time
+    @Query("select coalesce(sum(e.days), 0) as days, count(e) as entries, " +
+            "max(e.id) as lastEntryId, max(e.createdAt) as lastEntryAt " +
+            "from LeaveBalanceEntry e " +
+            "where e.employee.id = :employeeId and e.leaveType.id = :leaveTypeId " +
+            "and e.id > :afterEntryId and e.createdAt < :before")
+    TailSummary summarizeAfterBefore(@Param("employeeId") Long employeeId,
+                                     @Param("leaveTypeId") Long leaveTypeId,
+                                     @Param("afterEntryId") long afterEntryId,
+                                     @Param("before") LocalDateTime before);
+}
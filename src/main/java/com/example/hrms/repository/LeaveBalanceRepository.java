@@ -3,8 +3,15 @@ package com.example.hrms.repository;
 import com.example.hrms.entity.Employee;
 import com.example.hrms.entity.LeaveBalance;
 import com.example.hrms.entity.LeaveType;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,4 +25,71 @@ public interface LeaveBalanceRepository extends JpaRepository<LeaveBalance, Long
 
     // Fetch leave balance for a specific employee and leave type
     Optional<LeaveBalance> findByEmployeeAndLeaveType(Employee employee, LeaveType leaveType);
+
+    // Fetch leave balances of many employees and leave types in one query
+    // (JPQL on the foreign keys, the derived query joined employees and leave_types)
+    @Query("select b from LeaveBalance b " +
+            "where b.employee.id in :employeeIds and b.leaveType.id in :leaveTypeIds")
+    List<LeaveBalance> findByEmployeeIdInAndLeaveTypeIdIn(@Param("employeeIds") Collection<Long> employeeIds,
+                                                         @Param("leaveTypeIds") Collection<Long> leaveTypeIds);
+
+    // Deduct days in one statement, only if enough days remain.
+    // entries is the number of ledger entries written for the deduction.
+    // Returns 0 when the balance is missing or too small.
+    @Modifying
+    @Query("update LeaveBalance b set b.remainingDays = b.remainingDays - :days, " +
+            "b.entriesSinceSnapshot = b.entriesSinceSnapshot + :entries " +
+            "where b.employee.id = :employeeId and b.leaveType.id = :leaveTypeId " +
+            "and b.remainingDays >= :days")
+    int deductDays(@Param("employeeId") Long employeeId,
+                   @Param("leaveTypeId") Long leaveTypeId,
+                   @Param("days") int days,
+                   @Param("entries") int entries);
+
+    // Add (or remove, when negative) days in one statement (one ledger entry).
+    // Returns 0 when the balance is missing or would go below zero.
+    @Modifying
+    @Query("update LeaveBalance b set b.remainingDays = b.remainingDays + :days, " +
+            "b.entriesSinceSnapshot = b.entriesSinceSnapshot + 1 " +
+            "where b.employee.id = :employeeId and b.leaveType.id = :leaveTypeId " +
+            "and b.remainingDays + :days >= 0")
+    int adjustDays(@Param("employeeId") Long employeeId,
+                   @Param("leaveTypeId") Long leaveTypeId,
+                   @Param("days") int days);
+
+    // Reset the ledger entry count once a snapshot is due.
+    // Returns 0, and changes nothing, while fewer entries were written.
+    @Modifying
+    @Query("update LeaveBalance b set b.entriesSinceSnapshot = 0 " +
+            "where b.employee.id = :employeeId and b.leaveType.id = :leaveTypeId " +
+            "and b.entriesSinceSnapshot >= :entries")
+    int resetEntriesSinceSnapshot(@Param("employeeId") Long employeeId,
+                                  @Param("leaveTypeId") Long leaveTypeId,
+                                  @Param("entries") int entries);
+
+    // Balances of one employee
+    @Query("select b from LeaveBalance b where b.employee.id = :employeeId order by b.leaveType.id")
+    List<LeaveBalance> findByEmployeeId(@Param("employeeId") Long employeeId);
+
+    // Balances created before the ledger existed (no ledger entry yet)
+    @Query("select b from LeaveBalance b where not exists (" +
+            "select e.id from LeaveBalanceEntry e " +
+            "where e.employee = b.employee and e.leaveType = b.leaveType) " +
+            "order by b.id")
+    List<LeaveBalance> findWithoutLedgerEntries(Limit limit);
+
+    // Keyset over all balances: ids of the next chunk
+    @Query("select b.id from LeaveBalance b where b.id > :afterId order by b.id")
+    List<Long> findIdsAfter(@Param("afterId") long afterId, Limit limit);
+
+    // Balances of one rollover chunk that are not rolled into the year yet.
+    // Locked, so approvals of these balances wait until the chunk commits.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from LeaveBalance b " +
+            "where b.id > :afterId and b.id <= :upToId " +
+            "and (b.balanceYear is null or b.balanceYear < :year) " +
+            "order by b.id")
+    List<LeaveBalance> findForRollover(@Param("afterId") long afterId,
+                                       @Param("upToId") long upToId,
+                                       @Param("year") int year);
 }
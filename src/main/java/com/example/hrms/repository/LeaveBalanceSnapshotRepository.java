@@ -0,0 +1,37 @@
+package com.example.hrms.repository;
+
+import com.example.hrms.entity.LeaveBalanceSnapshot;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * LeaveBalanceSnapshotRepository
+ *
+ * Handles database operations for leave balance snapshots.
+ * Callers pass Limit.of(1) to read only the latest snapshot.
+ */
+public interface LeaveBalanceSnapshotRepository extends JpaRepository<LeaveBalanceSnapshot, Long> {
+
+    // Latest snapshots of a balance, newest first
+    @Query("select s from LeaveBalanceSnapshot s " +
+            "where s.employee.id = :employeeId and s.leaveType.id = :leaveTypeId " +
+            "order by s.lastEntryId desc")
+    List<LeaveBalanceSnapshot> findLatest(@Param("employeeId") Long employeeId,
+                                          @Param("leaveTypeId") Long leaveTypeId,
+                                          Limit limit);
+
+    // Latest snapshots of a balance taken before the given time, newest first
+    @Query("select s from LeaveBalanceSnapshot s " +
+            "where s.employee.id = :employeeId and s.leaveType.id = :leaveTypeId " +
+            "and s.lastEntryAt < :before " +
+            "order by s.lastEntryId desc")
+    List<LeaveBalanceSnapshot> findLatestBefore(@Param("employeeId") Long employeeId,
+                                                @Param("leaveTypeId") Long leaveTypeId,
+                                                @Param("before") LocalDateTime before,
+                                                Limit limit);
+}
@@ -1,22 +1,148 @@
 package com.example.hrms.repository;
 
+import com.example.hrms.dto.AbsenceRangeDTO;
+import com.example.hrms.dto.LeaveExportRowDTO;
+import com.example.hrms.dto.LeaveRequestDTO;
+import com.example.hrms.entity.Department;
 import com.example.hrms.entity.LeaveRequest;
 import com.example.hrms.entity.LeaveStatus;
+import com.example.hrms.entity.LeaveTypeEnum;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * LeaveRequestRepository
  *
  * Handles database operations for LeaveRequest entity.
  * Used for fetching leave requests based on employee or status.
+ *
+ * Employee and leave type are LAZY on LeaveRequest.
+ *
+ * List endpoints (history and pending) read LeaveRequestDTO
+ * rows directly (JPQL constructor expression): no entities,
+ * no persistence context, no dirty checking.
+ * Methods returning entities are for updates.
  */
 public interface LeaveRequestRepository extends JpaRepository<LeaveRequest, Long> {
+
+    // Columns of LeaveRequestDTO, shared by the list queries.
+    // Left join keeps leave_request the driving table (index on status / employee).
+    String DTO_SELECT = "select new com.example.hrms.dto.LeaveRequestDTO(" +
+            "r.id, r.employee.id, t.id, t.name, r.startDate, r.endDate, " +
+            "r.totalDays, r.status, r.reason) " +
+            "from LeaveRequest r left join r.leaveType t ";
+
     // Fetch all leave requests for a specific employee
-    Page<LeaveRequest> findByEmployeeId(Long employeeId, Pageable pageable);
+    // (JPQL on the foreign key, the derived query joined employees)
+    @Query(value = DTO_SELECT + "where r.employee.id = :employeeId",
+            countQuery = "select count(r) from LeaveRequest r where r.employee.id = :employeeId")
+    Page<LeaveRequestDTO> findByEmployeeId(@Param("employeeId") Long employeeId, Pageable pageable);
     // Fetch all leave requests by status (PENDING, APPROVED, REJECTED)
-    Page<LeaveRequest> findByStatus(LeaveStatus status, Pageable pageable);
+    @Query(value = DTO_SELECT + "where r.status = :status",
+            countQuery = "select count(r) from LeaveRequest r where r.status = :status")
+    Page<LeaveRequestDTO> findByStatus(@Param("status") LeaveStatus status, Pageable pageable);
+    // Same as findByStatus, but without the COUNT query
+    @Query(DTO_SELECT + "where r.status = :status")
+    Slice<LeaveRequestDTO> findSliceByStatus(@Param("status") LeaveStatus status, Pageable pageable);
+
+    // Keyset pagination: requests of an employee after the given ID
+    @Query(DTO_SELECT + "where r.employee.id = :employeeId and r.id > :id order by r.id")
+    List<LeaveRequestDTO> findByEmployeeIdAndIdGreaterThanOrderByIdAsc(@Param("employeeId") Long employeeId,
+                                                                      @Param("id") Long id,
+                                                                      Limit limit);
+
+    // Keyset pagination: requests with a status after the given ID
+    @Query(DTO_SELECT + "where r.status = :status and r.id > :id order by r.id")
+    List<LeaveRequestDTO> findByStatusAndIdGreaterThanOrderByIdAsc(@Param("status") LeaveStatus status,
+                                                                  @Param("id") Long id,
+                                                                  Limit limit);
+
+    // One request with its employee and leave type
+    // (approve and reject need the department and leave type name)
+    @EntityGraph(attributePaths = {"employee", "leaveType"})
+    Optional<LeaveRequest> findWithDetailsById(Long id);
+
+    // Many requests with their employees and leave types (bulk decisions)
+    @EntityGraph(attributePaths = {"employee", "leaveType"})
+    List<LeaveRequest> findWithDetailsByIdIn(Collection<Long> ids);
+
+    // IDs of PENDING or APPROVED requests of an employee sharing at least
+    // one day with [startDate, endDate], both inclusive.
+    // Reads the (employee_id, end_date) index from startDate onwards,
+    // so old history is never scanned. The statuses are literals:
+    // a collection parameter makes Hibernate translate the query on every call.
+    @Query("select r.id from LeaveRequest r " +
+            "where r.employee.id = :employeeId and r.endDate >= :startDate " +
+            "and r.startDate <= :endDate and r.status in (" +
+            "com.example.hrms.entity.LeaveStatus.PENDING, com.example.hrms.entity.LeaveStatus.APPROVED)")
+    List<Long> findOverlappingIds(@Param("employeeId") Long employeeId,
+                                  @Param("startDate") LocalDate startDate,
+                                  @Param("endDate") LocalDate endDate,
+                                  Limit limit);
+
+    // Check if an employee has a PENDING or APPROVED request overlapping the dates
+    default boolean existsOverlapping(Long employeeId, LocalDate startDate, LocalDate endDate) {
+        return !findOverlappingIds(employeeId, startDate, endDate, Limit.of(1)).isEmpty();
+    }
+
+    // Number of requests with a status per department and leave type
+    // (used to reconcile the pending summary)
+    @Query("select r.employee.department as department, r.leaveType.name as leaveType, count(r) as count " +
+            "from LeaveRequest r where r.status = :status " +
+            "group by r.employee.department, r.leaveType.name")
+    List<StatusCount> countByDepartmentAndLeaveType(@Param("status") LeaveStatus status);
+
+    // Dates, department and leave type of all requests with a status
+    // (used to rebuild the absence heatmap)
+    @Query("select new com.example.hrms.dto.AbsenceRangeDTO(" +
+            "r.employee.department, r.leaveType.name, r.startDate, r.endDate) " +
+            "from LeaveRequest r where r.status = :status")
+    List<AbsenceRangeDTO> findAbsenceRanges(@Param("status") LeaveStatus status);
+
+    // Leave requests sharing at least one day with [from, to], for the payroll export.
+    // Rows are DTOs read from a cursor (fetch size 1000); the caller must keep
+    // a transaction open and close the stream.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.example.hrms.dto.LeaveExportRowDTO(" +
+            "r.id, e.id, e.name, e.email, e.department, t.name, " +
+            "r.startDate, r.endDate, r.totalDays, r.status, r.reason) " +
+            "from LeaveRequest r join r.employee e left join r.leaveType t " +
+            "where r.endDate >= :from and r.startDate <= :to order by r.id")
+    Stream<LeaveExportRowDTO> streamExportRows(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Move a request from one status to another in one statement.
+    // Returns 0 when the request is missing or not in the expected status.
+    @Modifying
+    @Query("update LeaveRequest r set r.status = :to where r.id = :id and r.status = :from")
+    int updateStatus(@Param("id") Long id,
+                     @Param("from") LeaveStatus from,
+                     @Param("to") LeaveStatus to);
+
+    /**
+     * Requests of one department and leave type.
+     */
+    interface StatusCount {
+
+        Department getDepartment();
+
+        LeaveTypeEnum getLeaveType();
+
+        long getCount();
+    }
 }
@@ -0,0 +1,12 @@
+package com.example.hrms.repository;
+
+import com.example.hrms.entity.LedgerMigration;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * LedgerMigrationRepository
+ *
+ * Handles database operations for completed ledger migrations.
+ */
+public interface LedgerMigrationRepository extends JpaRepository<LedgerMigration, String> {
+}
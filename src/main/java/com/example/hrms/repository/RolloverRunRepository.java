@@ -0,0 +1,19 @@
+package com.example.hrms.repository;
+
+import com.example.hrms.entity.RolloverRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+/**
+ * RolloverRunRepository
+ *
+ * Handles database operations for year-end rollover runs.
+ */
+public interface RolloverRunRepository extends JpaRepository<RolloverRun, Long> {
+
+    Optional<RolloverRun> findByYear(int year);
+
+    // Run of the latest year, whatever its status
+    Optional<RolloverRun> findFirstByOrderByYearDesc();
+}
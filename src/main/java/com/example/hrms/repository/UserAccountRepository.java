@@ -0,0 +1,18 @@
+package com.example.hrms.repository;
+
+import com.example.hrms.entity.UserAccount;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+/**
+ * UserAccountRepository
+ *
+ * Handles database operations for login accounts.
+ */
+public interface UserAccountRepository extends JpaRepository<UserAccount, Long> {
+
+    Optional<UserAccount> findByUsername(String username);
+
+    boolean existsByEmployeeIdAndUsernameNot(Long employeeId, String username);
+}
@@ -0,0 +1,35 @@
+package com.example.hrms.service;
+
+import com.example.hrms.dto.AbsenceHeatmapDTO;
+import com.example.hrms.entity.Department;
+import com.example.hrms.entity.LeaveRequest;
+
+import java.time.LocalDate;
+
+/**
+ * AbsenceHeatmap
+ *
+ * In-memory count of absent employees per day,
+ * department and leave type.
+ *
+ * Only APPROVED leave is counted, and only on working
+ * days of the employee's department.
+ *
+ * Counts are updated when a leave is approved (or cancelled),
+ * after the transaction commits, and rebuilt from the database
+ * at startup.
+ */
+public interface AbsenceHeatmap {
+
+    // Add an approved leave (applied after commit when a transaction is active)
+    void recordApproved(LeaveRequest request);
+
+    // Remove an approved leave which was cancelled
+    void recordCancelled(LeaveRequest request);
+
+    // Counts for [from, to]; a null department means all departments
+    AbsenceHeatmapDTO getHeatmap(Department department, LocalDate from, LocalDate to);
+
+    // Recount everything from the approved leave requests
+    void rebuild();
+}
@@ -0,0 +1,31 @@
+package com.example.hrms.service;
+
+import com.example.hrms.dto.EmployeeImportResultDTO;
+
+import java.io.InputStream;
+
+/**
+ * EmployeeImportService
+ *
+ * Imports employees from a CSV file (header: name,email,department).
+ *
+ * The file is parsed while it is read and saved in chunks,
+ * so very large files never have to fit in memory.
+ */
+public interface EmployeeImportService {
+
+    /**
+     * Reads the CSV stream until the end and returns the totals.
+     *
+     * Every chunk is committed on its own, rows of earlier chunks
+     * stay saved when a later chunk fails.
+     * Rejected rows are returned (up to a limit) and written
+     * to a rejects file, created on the first rejected row.
+     */
+    EmployeeImportResultDTO importEmployees(InputStream csv);
+
+    /**
+     * Deletes rejects files older than hrms.employee-import.rejects-retention.
+     */
+    void deleteExpiredRejects();
+}
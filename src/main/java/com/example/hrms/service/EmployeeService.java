@@ -1,5 +1,7 @@
 package com.example.hrms.service;
 
+import com.example.hrms.dto.BulkEmployeeResponseDTO;
+import com.example.hrms.dto.CursorPageDTO;
 import com.example.hrms.dto.EmployeeRequestDTO;
 import com.example.hrms.dto.EmployeeResponseDTO;
 import org.springframework.data.domain.Page;
@@ -12,7 +14,8 @@ import java.util.List;
  *
  * Defines employee-related operations:
  *  - Create employee
- *  - Get all employees
+ *  - Create employees in bulk
+ *  - Get all employees (offset or cursor pagination)
  *  - Get employee by ID
  */
 @Service
@@ -20,7 +23,11 @@ public interface EmployeeService {
 
     EmployeeResponseDTO createEmployee(EmployeeRequestDTO request);
 
+    BulkEmployeeResponseDTO createEmployees(List<EmployeeRequestDTO> requests);
+
     Page<EmployeeResponseDTO> getAllEmployees(int page, int size);
 
+    CursorPageDTO<EmployeeResponseDTO> getEmployeesAfter(String after, int limit);
+
     EmployeeResponseDTO getEmployeeById(Long id);
 }
\ No newline at end of file
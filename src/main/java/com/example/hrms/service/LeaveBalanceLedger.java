@@ -0,0 +1,48 @@
+package com.example.hrms.service;
+
+import com.example.hrms.entity.LeaveBalance;
+import com.example.hrms.entity.LeaveRequest;
+import com.example.hrms.entity.LeaveType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * LeaveBalanceLedger
+ *
+ * Append-only history of leave balance movements
+ * (grant, deduct, refund, adjustment) with periodic snapshots.
+ *
+ * LeaveBalance.remainingDays stays the value checked on approval,
+ * the ledger explains how it got there and answers
+ * "what was the balance on a given date".
+ *
+ * Record methods must run in the transaction that changes
+ * the leave_balances row, after the row was updated.
+ * Called without a transaction, they throw
+ * IllegalTransactionStateException.
+ */
+public interface LeaveBalanceLedger {
+
+    // Opening GRANT entries of newly created balances
+    void recordGrants(List<LeaveBalance> balances);
+
+    // DEDUCT entries of approved leave requests
+    void recordDeductions(List<LeaveRequest> requests);
+
+    // EXPIRE and GRANT entries of the year-end rollover (zero days are skipped)
+    void recordRollover(LeaveBalance balance, int expiredDays, int grantedDays, int year);
+
+    // ADJUSTMENT entry (days may be negative)
+    void recordAdjustment(Long employeeId, LeaveType leaveType, int days, String note);
+
+    // Current balance computed from the ledger
+    int getBalance(Long employeeId, Long leaveTypeId);
+
+    // Balance at the end of the given day
+    int getBalanceAsOf(Long employeeId, Long leaveTypeId, LocalDate date);
+
+    // GRANT entries for balances created before the ledger
+    // (runs at startup until it has completed once)
+    void recordOpeningBalances();
+}
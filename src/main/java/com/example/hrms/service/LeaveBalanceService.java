@@ -0,0 +1,23 @@
+package com.example.hrms.service;
+
+import com.example.hrms.dto.LeaveBalanceAdjustmentDTO;
+import com.example.hrms.dto.LeaveBalanceDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * LeaveBalanceService
+ *
+ * Defines leave balance operations for managers:
+ *  - Read the balances of an employee, now or on a past day
+ *  - Correct a balance (recorded as a ledger ADJUSTMENT)
+ */
+public interface LeaveBalanceService {
+
+    // Balances at the end of the given day (null = today)
+    List<LeaveBalanceDTO> getBalances(Long employeeId, LocalDate asOf);
+
+    // Add or remove days of one balance
+    LeaveBalanceDTO adjustBalance(Long employeeId, LeaveBalanceAdjustmentDTO adjustment);
+}
@@ -0,0 +1,28 @@
+package com.example.hrms.service;
+
+import com.example.hrms.dto.ExportFormat;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+/**
+ * LeaveExportService
+ *
+ * Streams leave requests to payroll as CSV or NDJSON.
+ *
+ * Rows are read from a database cursor and written
+ * one at a time, so memory use does not grow with
+ * the number of exported rows.
+ */
+public interface LeaveExportService {
+
+    /**
+     * Checks the parameters and returns a body that streams
+     * every leave request sharing at least one day with
+     * [from, to], ordered by request ID.
+     *
+     * The body is written after the controller returns
+     * (on an async thread), in its own read-only transaction.
+     */
+    StreamingResponseBody exportLeaves(LocalDate from, LocalDate to, ExportFormat format, boolean gzip);
+}
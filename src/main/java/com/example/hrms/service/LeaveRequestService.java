@@ -1,5 +1,6 @@
 package com.example.hrms.service;
 
+import com.example.hrms.dto.CursorPageDTO;
 import com.example.hrms.dto.LeaveRequestDTO;
 import com.example.hrms.entity.LeaveRequest;
 import com.example.hrms.entity.LeaveStatus;
@@ -28,4 +29,7 @@ public interface LeaveRequestService {
 
     // Get leave history by employee ID
     Page<LeaveRequestDTO> getLeaveHistory(Long employeeId, int page, int size);
+
+    // Get leave history after a cursor (keyset pagination)
+    CursorPageDTO<LeaveRequestDTO> getLeaveHistoryAfter(Long employeeId, String after, int limit);
 }
@@ -1,16 +1,33 @@
 package com.example.hrms.service;
 
+import com.example.hrms.entity.LeaveType;
+import com.example.hrms.entity.LeaveTypeEnum;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * LeaveTypeService
  *
  * Responsible for initializing default leave types
  * when the application starts.
+ *
+ * It also keeps an in-memory registry of all leave types,
+ * so other services can read them without a database query.
  */
 @Service
 public interface LeaveTypeService {
 
     // Initialize default leave types in the database
     void initializeLeaveTypes();
-}
\ No newline at end of file
+
+    // Get leave type by enum name (from memory)
+    Optional<LeaveType> getLeaveType(LeaveTypeEnum name);
+
+    // Get all leave types (from memory)
+    List<LeaveType> getAllLeaveTypes();
+
+    // Reload the registry from the database
+    void refresh();
+}
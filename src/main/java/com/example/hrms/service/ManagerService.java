@@ -1,8 +1,16 @@
 package com.example.hrms.service;
 
+import com.example.hrms.dto.AbsenceHeatmapDTO;
+import com.example.hrms.dto.CursorPageDTO;
+import com.example.hrms.dto.LeaveDecisionResultDTO;
 import com.example.hrms.dto.LeaveRequestDTO;
+import com.example.hrms.dto.PendingSummaryDTO;
+import com.example.hrms.dto.SlicePageDTO;
+import com.example.hrms.entity.Department;
+import com.example.hrms.entity.LeaveStatus;
 import org.springframework.data.domain.Page;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -14,6 +22,8 @@ import java.util.List;
  *  - View all pending leave requests
  *  - Approve a leave request
  *  - Reject a leave request
+ *  - Approve or reject many leave requests at once
+ *  - View absent headcounts per day (absence heatmap)
  *
  * These methods are intended to be accessed only by users
  * with MANAGER role.
@@ -22,9 +32,24 @@ public interface ManagerService {
     // Get all leave requests with PENDING status
     Page<LeaveRequestDTO> getPendingRequests(int page, int size);
 
+    // Get pending leave requests without an exact total (for polling)
+    SlicePageDTO<LeaveRequestDTO> getPendingRequestsSlice(int page, int size);
+
+    // Get pending leave requests after a cursor (keyset pagination)
+    CursorPageDTO<LeaveRequestDTO> getPendingRequestsAfter(String after, int limit);
+
     // Approve leave request by request ID
     LeaveRequestDTO approveLeave(Long requestId);
 
     // Reject leave request by request ID
     LeaveRequestDTO rejectLeave(Long requestId);
+
+    // Apply one decision (APPROVED or REJECTED) to many leave requests
+    List<LeaveDecisionResultDTO> decideLeaves(List<Long> requestIds, LeaveStatus decision);
+
+    // Absent headcounts per day, department and leave type (null department = all)
+    AbsenceHeatmapDTO getAbsenceHeatmap(Department department, LocalDate from, LocalDate to);
+
+    // Pending requests per department and leave type (from memory)
+    PendingSummaryDTO getPendingSummary();
 }
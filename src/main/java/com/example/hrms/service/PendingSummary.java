@@ -0,0 +1,35 @@
+package com.example.hrms.service;
+
+import com.example.hrms.dto.PendingSummaryDTO;
+import com.example.hrms.entity.LeaveRequest;
+
+/**
+ * PendingSummary
+ *
+ * Keeps the number of PENDING leave requests per department
+ * and leave type in memory, so the manager dashboard is
+ * served without queries.
+ *
+ * Counters change when requests are applied for, approved or
+ * rejected, and are checked against the database at startup
+ * and periodically.
+ *
+ * Also the total of the pending slice (/pending/slice).
+ */
+public interface PendingSummary {
+
+    // A request became PENDING (applied after commit when a transaction is active)
+    void recordPending(LeaveRequest request);
+
+    // A PENDING request was approved or rejected (applied after commit)
+    void recordDecided(LeaveRequest request);
+
+    // Pending counts (from memory)
+    PendingSummaryDTO getSummary();
+
+    // All pending requests (from memory)
+    long getTotal();
+
+    // Recount pending requests from the database
+    void reconcile();
+}
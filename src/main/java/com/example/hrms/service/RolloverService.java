@@ -0,0 +1,26 @@
+package com.example.hrms.service;
+
+import com.example.hrms.dto.RolloverRunDTO;
+
+/**
+ * RolloverService
+ *
+ * Year-end rollover of leave balances:
+ * every balance gets the yearly grant of the new year
+ * plus the days it may carry forward (hrms.rollover caps).
+ *
+ * A run can be started again after a failure and continues
+ * after the last committed chunk. Balances already rolled
+ * into the year are never rolled twice.
+ */
+public interface RolloverService {
+
+    // Starts (or resumes) the rollover into the given year in the background
+    RolloverRunDTO startRollover(int year);
+
+    // Runs (or resumes) the rollover into the given year and waits for the end
+    RolloverRunDTO runRollover(int year);
+
+    // Progress of the rollover into the given year
+    RolloverRunDTO getRollover(int year);
+}
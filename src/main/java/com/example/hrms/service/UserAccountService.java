@@ -0,0 +1,23 @@
+package com.example.hrms.service;
+
+import com.example.hrms.dto.UserAccountDTO;
+import com.example.hrms.dto.UserAccountRequestDTO;
+
+/**
+ * UserAccountService
+ *
+ * Login accounts stored in the database.
+ * Accounts are also loaded by Spring Security (UserDetailsService)
+ * through a bounded in-memory cache.
+ */
+public interface UserAccountService {
+
+    // Create the default manager and employee accounts when there are none
+    void initializeDefaultAccounts();
+
+    // Create or change the account with the given username
+    UserAccountDTO saveAccount(String username, UserAccountRequestDTO request);
+
+    // Delete the account with the given username
+    void deleteAccount(String username);
+}
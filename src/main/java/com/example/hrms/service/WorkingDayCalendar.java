@@ -0,0 +1,29 @@
+package com.example.hrms.service;
+
+import com.example.hrms.entity.Department;
+
+import java.time.LocalDate;
+
+/**
+ * WorkingDayCalendar
+ *
+ * Single source of truth for working days in the HRMS system.
+ *
+ * A working day is a day which is:
+ *  - Not a weekend day of the department
+ *  - Not a configured holiday
+ *
+ * A null department uses the default calendar
+ * (Saturday and Sunday weekends, company holidays only).
+ */
+public interface WorkingDayCalendar {
+
+    // Count working days between two dates (both inclusive)
+    int countWorkingDays(Department department, LocalDate startDate, LocalDate endDate);
+
+    // Check if a single date is a working day
+    boolean isWorkingDay(Department department, LocalDate date);
+
+    // Drop precomputed data so changed holidays are picked up
+    void refresh();
+}
@@ -0,0 +1,183 @@
+package com.example.hrms.service.impl;
+
+import com.example.hrms.dto.AbsenceHeatmapDTO;
+import com.example.hrms.dto.AbsenceHeatmapRowDTO;
+import com.example.hrms.dto.AbsenceRangeDTO;
+import com.example.hrms.entity.Department;
+import com.example.hrms.entity.LeaveRequest;
+import com.example.hrms.entity.LeaveStatus;
+import com.example.hrms.entity.LeaveTypeEnum;
+import com.example.hrms.repository.LeaveRequestRepository;
+import com.example.hrms.service.AbsenceHeatmap;
+import com.example.hrms.service.WorkingDayCalendar;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * AbsenceHeatmapImpl
+ *
+ * Keeps one AtomicIntegerArray per year:
+ *
+ *   index = slot * 366 + (dayOfYear - 1)
+ *   slot  = department * number of leave types + leave type
+ *
+ * A year for all departments and leave types is
+ * 4 * 3 * 366 ints (about 17 KB), so reading a full year
+ * only copies ints out of a few arrays.
+ */
+@Service
+@Slf4j
+public class AbsenceHeatmapImpl implements AbsenceHeatmap {
+
+    private static final int DAYS_PER_YEAR = 366;
+    private static final Department[] DEPARTMENTS = Department.values();
+    private static final LeaveTypeEnum[] LEAVE_TYPES = LeaveTypeEnum.values();
+    private static final int SLOTS = DEPARTMENTS.length * LEAVE_TYPES.length;
+
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final WorkingDayCalendar workingDayCalendar;
+
+    // Year → counts of that year
+    private volatile Map<Integer, AtomicIntegerArray> years = new ConcurrentHashMap<>();
+
+    public AbsenceHeatmapImpl(LeaveRequestRepository leaveRequestRepository,
+                              WorkingDayCalendar workingDayCalendar) {
+        this.leaveRequestRepository = leaveRequestRepository;
+        this.workingDayCalendar = workingDayCalendar;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        rebuild();
+    }
+
+    @Override
+    public void recordApproved(LeaveRequest request) {
+        afterCommit(request, 1);
+    }
+
+    @Override
+    public void recordCancelled(LeaveRequest request) {
+        afterCommit(request, -1);
+    }
+
+    @Override
+    public AbsenceHeatmapDTO getHeatmap(Department department, LocalDate from, LocalDate to) {
+
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        Map<Integer, AtomicIntegerArray> current = years;
+
+        AbsenceHeatmapDTO heatmap = new AbsenceHeatmapDTO(from, to);
+
+        for (Department dept : DEPARTMENTS) {
+
+            if (department != null && dept != department) {
+                continue;
+            }
+
+            for (LeaveTypeEnum leaveType : LEAVE_TYPES) {
+
+                int slot = slot(dept, leaveType);
+                int[] counts = new int[days];
+
+                LocalDate date = from;
+                for (int i = 0; i < days; i++) {
+                    AtomicIntegerArray year = current.get(date.getYear());
+                    if (year != null) {
+                        counts[i] = year.get(slot * DAYS_PER_YEAR + date.getDayOfYear() - 1);
+                    }
+                    date = date.plusDays(1);
+                }
+
+                heatmap.getRows().add(new AbsenceHeatmapRowDTO(dept, leaveType, counts));
+            }
+        }
+
+        return heatmap;
+    }
+
+    /**
+     * Builds new counts from all APPROVED requests
+     * and swaps them in at once.
+     */
+    @Override
+    public synchronized void rebuild() {
+
+        List<AbsenceRangeDTO> absences =
+                leaveRequestRepository.findAbsenceRanges(LeaveStatus.APPROVED);
+
+        Map<Integer, AtomicIntegerArray> rebuilt = new ConcurrentHashMap<>();
+
+        for (AbsenceRangeDTO absence : absences) {
+            add(rebuilt, absence.getDepartment(), absence.getLeaveType(),
+                    absence.getStartDate(), absence.getEndDate(), 1);
+        }
+
+        years = rebuilt;
+
+        log.info("Absence heatmap rebuilt from {} approved leave requests", absences.size());
+    }
+
+    /**
+     * Applies the change once the current transaction commits,
+     * so a rolled back approval never shows up in the counts.
+     */
+    private void afterCommit(LeaveRequest request, int delta) {
+
+        Department department = request.getEmployee().getDepartment();
+        LeaveTypeEnum leaveType = request.getLeaveType().getName();
+        LocalDate startDate = request.getStartDate();
+        LocalDate endDate = request.getEndDate();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(years, department, leaveType, startDate, endDate, delta);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(years, department, leaveType, startDate, endDate, delta);
+            }
+        });
+    }
+
+    private void add(Map<Integer, AtomicIntegerArray> target,
+                     Department department,
+                     LeaveTypeEnum leaveType,
+                     LocalDate startDate,
+                     LocalDate endDate,
+                     int delta) {
+
+        if (department == null || leaveType == null) {
+            log.debug("Skipping absence without department or leave type");
+            return;
+        }
+
+        int slot = slot(department, leaveType);
+
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+
+            if (!workingDayCalendar.isWorkingDay(department, date)) {
+                continue;
+            }
+
+            target.computeIfAbsent(date.getYear(), year -> new AtomicIntegerArray(SLOTS * DAYS_PER_YEAR))
+                    .addAndGet(slot * DAYS_PER_YEAR + date.getDayOfYear() - 1, delta);
+        }
+    }
+
+    private static int slot(Department department, LeaveTypeEnum leaveType) {
+        return department.ordinal() * LEAVE_TYPES.length + leaveType.ordinal();
+    }
+}
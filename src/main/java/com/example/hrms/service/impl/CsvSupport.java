@@ -0,0 +1,184 @@
+package com.example.hrms.service.impl;
+
+import com.example.hrms.exception.InvalidRequestException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CsvSupport
+ *
+ * Small RFC 4180 helpers shared by the CSV export and import.
+ *
+ *  - writeField / writeRow quote values only when needed
+ *  - writeTextField also defuses spreadsheet formulas in free text
+ *  - RecordReader reads one record at a time from a Reader,
+ *    so files of any size can be parsed without loading them.
+ *    A record (and so every field in it) is capped at maxRecordChars,
+ *    so a stray quote cannot pull the rest of the file into memory
+ */
+final class CsvSupport {
+
+    private CsvSupport() {
+    }
+
+    /**
+     * Writes a CSV field, quoted when it contains
+     * a comma, a quote or a line break (RFC 4180).
+     */
+    static void writeField(Writer writer, Object value) throws IOException {
+
+        if (value == null) {
+            return;
+        }
+
+        String text = value.toString();
+
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0
+                && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    /**
+     * Writes user-entered text (names, reasons) for a file that is
+     * opened in a spreadsheet.
+     *
+     * A value starting with =, +, -, @, TAB or CR would be run as a
+     * formula (CSV injection), so it gets a leading ' which makes
+     * spreadsheets show it as plain text.
+     */
+    static void writeTextField(Writer writer, String text) throws IOException {
+
+        if (text != null && !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+
+        writeField(writer, text);
+    }
+
+    /**
+     * Writes one CSV line.
+     */
+    static void writeRow(Writer writer, Object... values) throws IOException {
+
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(writer, values[i]);
+        }
+
+        writer.write('\n');
+    }
+
+    /**
+     * Reads CSV records one by one.
+     *
+     * Quoted fields may contain commas, doubled quotes and line breaks.
+     * Both \n and \r\n line endings are accepted.
+     * A record longer than maxRecordChars is rejected.
+     */
+    static final class RecordReader {
+
+        private final Reader reader;
+        private final int maxRecordChars;
+
+        private long line = 1;
+        private long recordLine;
+
+        RecordReader(Reader reader, int maxRecordChars) {
+            this.reader = reader;
+            this.maxRecordChars = maxRecordChars;
+        }
+
+        /**
+         * Returns the fields of the next record, or null at the end of input.
+         * An empty line is returned as a single empty field.
+         */
+        List<String> next() throws IOException {
+
+            int c = reader.read();
+
+            if (c == -1) {
+                return null;
+            }
+
+            recordLine = line;
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            int length = 0;
+
+            while (true) {
+
+                if (++length > maxRecordChars) {
+                    throw new InvalidRequestException("CSV record starting on line " + recordLine
+                            + " is longer than " + maxRecordChars + " characters"
+                            + (quoted ? " (unclosed quote?)" : ""));
+                }
+
+                if (quoted) {
+
+                    if (c == -1) {
+                        throw new InvalidRequestException(
+                                "Unclosed quote in CSV record starting on line " + recordLine);
+                    }
+
+                    if (c == '"') {
+                        c = reader.read();
+                        if (c != '"') {
+                            // Closing quote, c is the character after it
+                            quoted = false;
+                            continue;
+                        }
+                    } else if (c == '\n') {
+                        line++;
+                    }
+
+                    field.append((char) c);
+
+                } else if (c == -1 || c == '\n') {
+
+                    if (c == '\n') {
+                        line++;
+                    }
+
+                    fields.add(field.toString());
+                    return fields;
+
+                } else if (c == ',') {
+
+                    fields.add(field.toString());
+                    field.setLength(0);
+
+                } else if (c == '"' && field.isEmpty()) {
+
+                    quoted = true;
+
+                } else if (c != '\r') {
+
+                    field.append((char) c);
+                }
+
+                c = reader.read();
+            }
+        }
+
+        /**
+         * Line number (starting from 1) where the last returned record started.
+         */
+        long recordLine() {
+            return recordLine;
+        }
+    }
+}
@@ -0,0 +1,460 @@
+package com.example.hrms.service.impl;
+
+import com.example.hrms.config.BulkProperties;
+import com.example.hrms.config.EmployeeImportProperties;
+import com.example.hrms.dto.BulkEmployeeResponseDTO;
+import com.example.hrms.dto.BulkRowErrorDTO;
+import com.example.hrms.dto.EmployeeImportRejectDTO;
+import com.example.hrms.dto.EmployeeImportResultDTO;
+import com.example.hrms.dto.EmployeeRequestDTO;
+import com.example.hrms.entity.Department;
+import com.example.hrms.exception.InvalidRequestException;
+import com.example.hrms.service.EmployeeImportService;
+import com.example.hrms.service.EmployeeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EmployeeImportServiceImpl
+ *
+ * Service implementation for the CSV employee import.
+ *
+ * How a file is imported:
+ *  - The calling thread parses the CSV one record at a time
+ *    and groups rows into chunks (hrms.bulk.chunk-size)
+ *  - Chunks go through a bounded queue (hrms.employee-import.queue-capacity)
+ *    to a writer thread; a full queue blocks the parser (back-pressure)
+ *  - The writer saves every chunk with EmployeeService.createEmployees
+ *    (same validation, one transaction per chunk, batched inserts,
+ *    initial leave balances)
+ *  - Rejected rows are returned in the result (the first
+ *    hrms.employee-import.max-returned-rejects) and appended to a
+ *    rejects CSV file, created on the first rejected row
+ *
+ * At most queue-capacity + 2 chunks are in memory at any time.
+ *
+ * Rejects files hold names and emails, they are deleted once
+ * older than hrms.employee-import.rejects-retention.
+ */
+@Service
+@Slf4j
+public class EmployeeImportServiceImpl implements EmployeeImportService {
+
+    private static final List<String> COLUMNS = List.of("name", "email", "department");
+
+    private static final String REJECTS_PREFIX = "employee-import-";
+    private static final String REJECTS_SUFFIX = "-rejects.csv";
+
+    // Marks the end of the input for the writer thread
+    private static final List<ImportRow> END = List.of();
+
+    private final EmployeeService employeeService;
+    private final BulkProperties bulkProperties;
+    private final EmployeeImportProperties importProperties;
+
+    public EmployeeImportServiceImpl(EmployeeService employeeService,
+                                     BulkProperties bulkProperties,
+                                     EmployeeImportProperties importProperties) {
+        this.employeeService = employeeService;
+        this.bulkProperties = bulkProperties;
+        this.importProperties = importProperties;
+    }
+
+    @Override
+    public EmployeeImportResultDTO importEmployees(InputStream csv) {
+
+        long started = System.nanoTime();
+
+        log.info("Starting employee import");
+
+        EmployeeImportResultDTO result = new EmployeeImportResultDTO();
+
+        BlockingQueue<List<ImportRow>> queue =
+                new ArrayBlockingQueue<>(Math.max(1, importProperties.getQueueCapacity()));
+
+        // The writer owns the result and the rejects file until it finishes
+        FutureTask<Void> writer = new FutureTask<>(() -> {
+            writeChunks(queue, result);
+            return null;
+        });
+
+        Thread.ofPlatform().name("employee-import-writer").daemon(true).start(writer);
+
+        RuntimeException parseError = null;
+
+        try {
+            parse(csv, queue, writer);
+        } catch (RuntimeException ex) {
+            parseError = ex;
+        }
+
+        // Always let the writer finish the chunks it already received
+        if (!writer.isDone()) {
+            enqueue(queue, END, writer);
+        }
+
+        awaitWriter(writer);
+
+        if (parseError != null) {
+            log.warn("Employee import stopped after {} rows: {}", result.getTotal(), parseError.getMessage());
+            throw parseError;
+        }
+
+        result.setDurationMs((System.nanoTime() - started) / 1_000_000);
+
+        log.info("Employee import completed. Rows: {}, Created: {}, Failed: {}, Time: {} ms",
+                result.getTotal(), result.getCreated(), result.getFailed(), result.getDurationMs());
+
+        return result;
+    }
+
+    /**
+     * Reads the CSV records and puts chunks of rows on the queue.
+     * Runs on the calling thread.
+     */
+    private void parse(InputStream csv, BlockingQueue<List<ImportRow>> queue, FutureTask<Void> writer) {
+
+        int chunkSize = Math.max(1, bulkProperties.getChunkSize());
+
+        try {
+            CsvSupport.RecordReader reader = new CsvSupport.RecordReader(
+                    new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8)),
+                    importProperties.getMaxRecordChars());
+
+            int[] positions = readHeader(reader.next());
+
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+            List<String> record;
+
+            while ((record = reader.next()) != null) {
+
+                // Skip empty lines
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+
+                chunk.add(toRow(reader.recordLine(), record, positions));
+
+                if (chunk.size() == chunkSize) {
+                    enqueue(queue, chunk, writer);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                enqueue(queue, chunk, writer);
+            }
+
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read CSV input", ex);
+        }
+    }
+
+    /**
+     * Finds the position of every required column in the header.
+     * Columns may be in any order, extra columns are ignored.
+     */
+    private int[] readHeader(List<String> header) {
+
+        if (header == null) {
+            log.warn("Employee import rejected: empty file");
+            throw new InvalidRequestException("CSV file is empty");
+        }
+
+        List<String> names = header.stream()
+                .map(name -> name.replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT))
+                .toList();
+
+        int[] positions = new int[COLUMNS.size()];
+
+        for (int i = 0; i < COLUMNS.size(); i++) {
+
+            positions[i] = names.indexOf(COLUMNS.get(i));
+
+            if (positions[i] < 0) {
+                log.warn("Employee import rejected: header {} has no column {}", names, COLUMNS.get(i));
+                throw new InvalidRequestException("CSV header must contain the columns: "
+                        + String.join(", ", COLUMNS));
+            }
+        }
+
+        return positions;
+    }
+
+    /**
+     * Converts a CSV record to a request row.
+     * Problems the validator cannot see (missing columns,
+     * unknown department) are kept as a parse error.
+     */
+    private ImportRow toRow(long line, List<String> record, int[] positions) {
+
+        String name = value(record, positions[0]);
+        String email = value(record, positions[1]);
+        String department = value(record, positions[2]);
+
+        EmployeeRequestDTO request = new EmployeeRequestDTO();
+        request.setName(name);
+        request.setEmail(email);
+
+        int maxPosition = Arrays.stream(positions).max().orElse(0);
+
+        if (record.size() <= maxPosition) {
+            return new ImportRow(line, request, department,
+                    "Expected at least " + (maxPosition + 1) + " columns but found " + record.size());
+        }
+
+        if (department != null) {
+            try {
+                request.setDepartment(Department.valueOf(department.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException ex) {
+                return new ImportRow(line, request, department,
+                        "department: must be one of " + Arrays.toString(Department.values()));
+            }
+        }
+
+        return new ImportRow(line, request, department, null);
+    }
+
+    private static String value(List<String> record, int position) {
+
+        if (position >= record.size()) {
+            return null;
+        }
+
+        String value = record.get(position).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Puts a chunk on the queue, waiting while it is full.
+     * Stops waiting when the writer has died.
+     */
+    private void enqueue(BlockingQueue<List<ImportRow>> queue, List<ImportRow> chunk, FutureTask<Void> writer) {
+
+        try {
+            while (!queue.offer(chunk, 1, TimeUnit.SECONDS)) {
+                if (writer.isDone()) {
+                    awaitWriter(writer);
+                    throw new IllegalStateException("Employee import writer stopped");
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            writer.cancel(true);
+            throw new IllegalStateException("Employee import interrupted", ex);
+        }
+    }
+
+    /**
+     * Waits for the writer and rethrows its failure, if any.
+     */
+    private void awaitWriter(FutureTask<Void> writer) {
+
+        try {
+            writer.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            writer.cancel(true);
+            throw new IllegalStateException("Employee import interrupted", ex);
+        } catch (ExecutionException ex) {
+            log.error("Employee import writer failed", ex.getCause());
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Employee import failed", ex.getCause());
+        }
+    }
+
+    /**
+     * Writer thread: saves chunks until the END marker arrives.
+     */
+    private void writeChunks(BlockingQueue<List<ImportRow>> queue,
+                             EmployeeImportResultDTO result) throws IOException, InterruptedException {
+
+        try (Rejects rejects = new Rejects(result)) {
+
+            List<ImportRow> chunk;
+
+            while ((chunk = queue.take()) != END) {
+
+                writeChunk(chunk, rejects, result);
+
+                log.info("Employee import progress - rows: {}, created: {}, failed: {}",
+                        result.getTotal(), result.getCreated(), result.getFailed());
+            }
+        }
+    }
+
+    /**
+     * Saves the valid rows of one chunk and records the rejected ones
+     * (in file order).
+     */
+    private void writeChunk(List<ImportRow> chunk, Rejects rejects, EmployeeImportResultDTO result)
+            throws IOException {
+
+        List<EmployeeRequestDTO> requests = new ArrayList<>(chunk.size());
+        List<ImportRow> sources = new ArrayList<>(chunk.size());
+        Map<ImportRow, List<String>> rejected = new TreeMap<>(Comparator.comparingLong(ImportRow::line));
+
+        for (ImportRow row : chunk) {
+
+            if (row.error() != null) {
+                rejected.put(row, List.of(row.error()));
+                continue;
+            }
+
+            requests.add(row.request());
+            sources.add(row);
+        }
+
+        if (!requests.isEmpty()) {
+
+            BulkEmployeeResponseDTO response = employeeService.createEmployees(requests);
+
+            result.setCreated(result.getCreated() + response.getCreated());
+
+            for (BulkRowErrorDTO error : response.getErrors()) {
+                rejected.put(sources.get((int) error.getIndex()), error.getErrors());
+            }
+        }
+
+        for (Map.Entry<ImportRow, List<String>> entry : rejected.entrySet()) {
+            rejects.add(entry.getKey(), entry.getValue());
+        }
+
+        result.setTotal(result.getTotal() + chunk.size());
+        result.setFailed(result.getFailed() + rejected.size());
+    }
+
+    /**
+     * Deletes the rejects files of imports older than the retention.
+     * Runs every hrms.employee-import.rejects-cleanup-ms (default 1 hour).
+     */
+    @Override
+    @Scheduled(initialDelayString = "${hrms.employee-import.rejects-cleanup-ms:3600000}",
+            fixedDelayString = "${hrms.employee-import.rejects-cleanup-ms:3600000}")
+    public void deleteExpiredRejects() {
+
+        Path dir = Path.of(importProperties.getRejectsDir());
+
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+
+        Instant cutoff = Instant.now().minus(importProperties.getRejectsRetention());
+        int deleted = 0;
+
+        try (DirectoryStream<Path> files =
+                     Files.newDirectoryStream(dir, REJECTS_PREFIX + "*" + REJECTS_SUFFIX)) {
+
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+                    Files.deleteIfExists(file);
+                    deleted++;
+                }
+            }
+
+        } catch (IOException ex) {
+            // Keep the files, the next run will try again
+            log.warn("Could not delete expired rejects files in {}: {}", dir, ex.getMessage());
+        }
+
+        if (deleted > 0) {
+            log.info("Deleted {} expired employee import rejects files", deleted);
+        }
+    }
+
+    private Path createRejectsFile() {
+
+        try {
+            Path dir = Path.of(importProperties.getRejectsDir());
+            Files.createDirectories(dir);
+            return Files.createTempFile(dir, REJECTS_PREFIX, REJECTS_SUFFIX).toAbsolutePath();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not create rejects file", ex);
+        }
+    }
+
+    /**
+     * Rejected rows of one import.
+     *
+     * The first max-returned-rejects go into the result,
+     * every row goes to the rejects file. The file is created
+     * on the first rejected row, an import without rejects has none.
+     */
+    private final class Rejects implements Closeable {
+
+        private final EmployeeImportResultDTO result;
+
+        private Writer writer;
+
+        private Rejects(EmployeeImportResultDTO result) {
+            this.result = result;
+        }
+
+        private void add(ImportRow row, List<String> errors) throws IOException {
+
+            if (result.getRejects().size() < importProperties.getMaxReturnedRejects()) {
+                result.getRejects().add(new EmployeeImportRejectDTO(row.line(), row.request().getEmail(), errors));
+            }
+
+            if (writer == null) {
+                Path file = createRejectsFile();
+
+                log.info("Writing rejected rows to {}", file);
+
+                writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                CsvSupport.writeRow(writer, "line", "name", "email", "department", "errors");
+
+                // Only the file name: the server folder is not shown to API callers
+                result.setRejectsFile(file.getFileName().toString());
+            }
+
+            CsvSupport.writeRow(writer, row.line(), row.request().getName(), row.request().getEmail(),
+                    row.department(), String.join("; ", errors));
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+
+    /**
+     * One parsed CSV row.
+     *
+     * line       → line number in the file (header is line 1)
+     * department → department as written in the file
+     * error      → parse error, null when the row can be saved
+     */
+    private record ImportRow(long line, EmployeeRequestDTO request, String department, String error) {
+    }
+}
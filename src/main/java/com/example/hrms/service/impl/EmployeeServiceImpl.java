@@ -1,21 +1,38 @@
 package com.example.hrms.service.impl;
 
+import com.example.hrms.config.BulkProperties;
+import com.example.hrms.config.PagingProperties;
+import com.example.hrms.dto.BulkEmployeeResponseDTO;
+import com.example.hrms.dto.CursorPageDTO;
 import com.example.hrms.dto.EmployeeRequestDTO;
 import com.example.hrms.dto.EmployeeResponseDTO;
 import com.example.hrms.entity.*;
+import com.example.hrms.exception.InvalidRequestException;
 import com.example.hrms.exception.ResourceNotFoundException;
 import com.example.hrms.mapper.EmployeeMapper;
 import com.example.hrms.repository.EmployeesRepository;
 import com.example.hrms.repository.LeaveBalanceRepository;
-import com.example.hrms.repository.LeaveTypeRepository;
 import com.example.hrms.service.EmployeeService;
+import com.example.hrms.service.LeaveBalanceLedger;
+import com.example.hrms.service.LeaveTypeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * EmployeeServiceImpl
@@ -24,8 +41,10 @@ import java.util.List;
  *
  * Responsibilities:
  *  - Create employee
+ *  - Create employees in bulk (chunked, batched inserts)
  *  - Initialize leave balances based on department
- *  - Fetch employees with pagination
+ *    (with GRANT entries in the balance ledger)
+ *  - Fetch employees with pagination (offset or cursor)
  *  - Fetch employee by ID
  *
 
@@ -35,28 +54,53 @@ import java.util.List;
 public class EmployeeServiceImpl implements EmployeeService {
 
     private final EmployeesRepository repository;
-    private final LeaveTypeRepository leaveTypeRepository;
+    private final LeaveTypeService leaveTypeService;
     private final LeaveBalanceRepository leaveBalanceRepository;
     private final EmployeeMapper employeeMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final BulkProperties bulkProperties;
+    private final MeterRegistry meterRegistry;
+    private final LeaveBalanceLedger leaveBalanceLedger;
+    private final PagingProperties pagingProperties;
 
     public EmployeeServiceImpl(EmployeesRepository repository,
-                               LeaveTypeRepository leaveTypeRepository,
+                               LeaveTypeService leaveTypeService,
                                LeaveBalanceRepository leaveBalanceRepository,
-                               EmployeeMapper employeeMapper) {
+                               EmployeeMapper employeeMapper,
+                               Validator validator,
+                               TransactionTemplate transactionTemplate,
+                               BulkProperties bulkProperties,
+                               MeterRegistry meterRegistry,
+                               LeaveBalanceLedger leaveBalanceLedger,
+                               PagingProperties pagingProperties) {
         this.repository = repository;
-        this.leaveTypeRepository = leaveTypeRepository;
+        this.leaveTypeService = leaveTypeService;
         this.leaveBalanceRepository = leaveBalanceRepository;
         this.employeeMapper = employeeMapper;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.bulkProperties = bulkProperties;
+        this.meterRegistry = meterRegistry;
+        this.leaveBalanceLedger = leaveBalanceLedger;
+        this.pagingProperties = pagingProperties;
     }
 
     /**
      * Creates a new employee and initializes leave balances.
+     *
+     * The employee, its balances and their GRANT ledger entries
+     * are saved in one transaction.
      */
+    @Transactional
     @Override
     public EmployeeResponseDTO createEmployee(EmployeeRequestDTO request) {
 
         log.info("Starting employee creation process for email: {}", request.getEmail());
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = ServiceMetrics.SUCCESS;
+
         try {
             // Convert DTO to Entity
             Employee employee = employeeMapper.toEntity(request);
@@ -72,11 +116,171 @@ public class EmployeeServiceImpl implements EmployeeService {
 
             return employeeMapper.toResponseDTO(saved);
 
-        } catch (Exception ex) {
+        } catch (RuntimeException ex) {
+            outcome = ServiceMetrics.outcome(ex);
             log.error("Error occurred while creating employee with email: {}",
                     request.getEmail(), ex);
             throw ex;
+        } finally {
+            ServiceMetrics.stop(sample, meterRegistry, ServiceMetrics.EMPLOYEE_CREATE,
+                    "outcome", outcome, "department", String.valueOf(request.getDepartment()));
+        }
+    }
+
+    /**
+     * Creates many employees with their leave balances.
+     *
+     * Rows are processed in chunks (hrms.bulk.chunk-size).
+     * Every chunk is saved in its own transaction using JDBC batches,
+     * so one bad chunk does not undo the chunks before it.
+     *
+     * Invalid rows and duplicate emails are skipped
+     * and reported in the response.
+     *
+     * No row limit here: the CSV import calls this per chunk,
+     * the REST API checks hrms.bulk.max-rows itself.
+     */
+    @Override
+    public BulkEmployeeResponseDTO createEmployees(List<EmployeeRequestDTO> requests) {
+
+        log.info("Starting bulk employee creation for {} rows", requests.size());
+
+        BulkEmployeeResponseDTO response = new BulkEmployeeResponseDTO();
+        response.setTotal(requests.size());
+
+        List<LeaveType> leaveTypes = leaveTypeService.getAllLeaveTypes();
+        Set<String> seenEmails = new HashSet<>();
+
+        int chunkSize = Math.max(1, bulkProperties.getChunkSize());
+
+        for (int from = 0; from < requests.size(); from += chunkSize) {
+
+            int to = Math.min(from + chunkSize, requests.size());
+
+            createChunk(requests.subList(from, to), from, leaveTypes, seenEmails, response);
         }
+
+        log.info("Bulk employee creation completed. Created: {}, Failed: {}",
+                response.getCreated(), response.getFailed());
+
+        return response;
+    }
+
+    /**
+     * Validates and saves one chunk of a bulk request.
+     *
+     * offset is the index of the first row of the chunk
+     * in the original request (used for error reporting).
+     */
+    private void createChunk(List<EmployeeRequestDTO> chunk,
+                             long offset,
+                             List<LeaveType> leaveTypes,
+                             Set<String> seenEmails,
+                             BulkEmployeeResponseDTO response) {
+
+        List<EmployeeRequestDTO> validRows = new ArrayList<>();
+        List<Long> validIndexes = new ArrayList<>();
+
+        for (int i = 0; i < chunk.size(); i++) {
+
+            EmployeeRequestDTO row = chunk.get(i);
+            long index = offset + i;
+
+            if (row == null) {
+                response.addError(index, null, List.of("Row must not be empty"));
+                continue;
+            }
+
+            List<String> errors = validate(row);
+
+            if (errors.isEmpty() && !seenEmails.add(row.getEmail())) {
+                errors.add("Duplicate email in request: " + row.getEmail());
+            }
+
+            if (!errors.isEmpty()) {
+                response.addError(index, row.getEmail(), errors);
+                continue;
+            }
+
+            validRows.add(row);
+            validIndexes.add(index);
+        }
+
+        if (validRows.isEmpty()) {
+            return;
+        }
+
+        // One query per chunk to find emails that are already registered
+        Set<String> existingEmails = new HashSet<>(repository.findExistingEmails(
+                validRows.stream().map(EmployeeRequestDTO::getEmail).toList()));
+
+        List<Employee> employees = new ArrayList<>();
+        List<Long> employeeIndexes = new ArrayList<>();
+
+        for (int i = 0; i < validRows.size(); i++) {
+
+            EmployeeRequestDTO row = validRows.get(i);
+
+            if (existingEmails.contains(row.getEmail())) {
+                response.addError(validIndexes.get(i), row.getEmail(),
+                        List.of("Employee already exists with email: " + row.getEmail()));
+                continue;
+            }
+
+            Employee employee = employeeMapper.toEntity(row);
+            employee.setActive(true);
+
+            employees.add(employee);
+            employeeIndexes.add(validIndexes.get(i));
+        }
+
+        if (employees.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.execute(status -> {
+
+                repository.saveAll(employees);
+
+                List<LeaveBalance> balances = new ArrayList<>();
+                for (Employee employee : employees) {
+                    balances.addAll(buildLeaveBalances(employee, leaveTypes));
+                }
+
+                leaveBalanceRepository.saveAll(balances);
+                leaveBalanceLedger.recordGrants(balances);
+
+                return employees.size();
+            });
+
+            response.setCreated(response.getCreated() + employees.size());
+
+            log.debug("Saved chunk starting at row {} with {} employees", offset, employees.size());
+
+        } catch (RuntimeException ex) {
+
+            log.error("Failed to save chunk starting at row {}", offset, ex);
+
+            for (int i = 0; i < employees.size(); i++) {
+                response.addError(employeeIndexes.get(i), employees.get(i).getEmail(),
+                        List.of("Chunk could not be saved: " + ex.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * Runs the same validation rules as @Valid on EmployeeRequestDTO.
+     */
+    private List<String> validate(EmployeeRequestDTO row) {
+
+        List<String> errors = new ArrayList<>();
+
+        for (ConstraintViolation<EmployeeRequestDTO> violation : validator.validate(row)) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+
+        return errors;
     }
 
     /**
@@ -84,13 +288,26 @@ public class EmployeeServiceImpl implements EmployeeService {
      */
     private void initializeLeaveBalances(Employee employee) {
 
-        log.debug("Fetching all leave types for initialization");
+        // Leave types come from the in-memory registry (no query)
+        List<LeaveType> leaveTypes = leaveTypeService.getAllLeaveTypes();
 
-        List<LeaveType> leaveTypes = leaveTypeRepository.findAll();
+        List<LeaveBalance> balances = buildLeaveBalances(employee, leaveTypes);
+
+        leaveBalanceRepository.saveAll(balances);
+        leaveBalanceLedger.recordGrants(balances);
+    }
+
+    /**
+     * Builds the initial leave balances of an employee.
+     * Leave types with no initial days are skipped.
+     */
+    private List<LeaveBalance> buildLeaveBalances(Employee employee, List<LeaveType> leaveTypes) {
+
+        List<LeaveBalance> balances = new ArrayList<>();
 
         for (LeaveType leaveType : leaveTypes) {
 
-            int days = getInitialDays(employee.getDepartment(), leaveType.getName());
+            int days = LeaveEntitlements.annualDays(employee.getDepartment(), leaveType.getName());
 
             if (days == 0) {
                 log.debug("No initial leave assigned for type: {} and department: {}",
@@ -102,44 +319,22 @@ public class EmployeeServiceImpl implements EmployeeService {
             balance.setEmployee(employee);
             balance.setLeaveType(leaveType);
             balance.setRemainingDays(days);
+            balance.setBalanceYear(LocalDate.now().getYear());
 
-            leaveBalanceRepository.save(balance);
+            balances.add(balance);
 
             log.debug("Assigned {} days of {} leave to employee ID: {}",
                     days, leaveType.getName(), employee.getId());
         }
-    }
-
-    /**
-     * Returns initial leave days based on department and leave type.
-     */
-    private int getInitialDays(Department department, LeaveTypeEnum leaveTypeEnum) {
-
-        switch (department) {
-            case CONSULTING:
-            case SUPPORT:
-            case DEVELOPMENT:
-                if (leaveTypeEnum == LeaveTypeEnum.SICK) return 6;
-                if (leaveTypeEnum == LeaveTypeEnum.CASUAL) return 6;
-                if (leaveTypeEnum == LeaveTypeEnum.EARNED) return 3;
-                break;
-
-            case TRAINEE:
-                if (leaveTypeEnum == LeaveTypeEnum.SICK) return 6;
-                if (leaveTypeEnum == LeaveTypeEnum.CASUAL) return 6;
-                if (leaveTypeEnum == LeaveTypeEnum.EARNED) return 0;
-                break;
-        }
-
-        log.warn("No leave configuration found for Department: {} and LeaveType: {}",
-                department, leaveTypeEnum);
 
-        return 0;
+        return balances;
     }
 
     /**
      * Fetches all employees with pagination.
+     * Rows are read as DTOs (no entities) in a read-only transaction.
      */
+    @Transactional(readOnly = true)
     @Override
     public Page<EmployeeResponseDTO> getAllEmployees(int page, int size) {
 
@@ -147,14 +342,39 @@ public class EmployeeServiceImpl implements EmployeeService {
 
         Pageable pageable = PageRequest.of(page, size);
 
-        Page<EmployeeResponseDTO> result = repository.findAll(pageable)
-                .map(employeeMapper::toResponseDTO);
+        Page<EmployeeResponseDTO> result = repository.findAllResponses(pageable);
 
         log.debug("Fetched {} employees from database", result.getNumberOfElements());
 
         return result;
     }
 
+    /**
+     * Fetches employees after a cursor (keyset pagination).
+     *
+     * Uses "WHERE id > ? ORDER BY id LIMIT ?", so deep pages
+     * cost the same as the first one and no COUNT query is run.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageDTO<EmployeeResponseDTO> getEmployeesAfter(String after, int limit) {
+
+        log.info("Fetching employees - after: {}, limit: {}", after, limit);
+
+        if (limit <= 0 || limit > pagingProperties.getMaxLimit()) {
+            log.warn("Invalid page limit: {}", limit);
+            throw new InvalidRequestException(
+                    "Limit must be between 1 and " + pagingProperties.getMaxLimit());
+        }
+
+        List<EmployeeResponseDTO> rows = repository.findByIdGreaterThanOrderByIdAsc(
+                CursorPageDTO.decodeCursor(after), Limit.of(limit + 1));
+
+        log.debug("Fetched {} employees from database", rows.size());
+
+        return CursorPageDTO.of(rows, limit, EmployeeResponseDTO::getId);
+    }
+
     /**
      * Fetches employee by ID.
      */
@@ -0,0 +1,329 @@
+package com.example.hrms.service.impl;
+
+import com.example.hrms.config.LedgerProperties;
+import com.example.hrms.entity.BalanceEntryType;
+import com.example.hrms.entity.Employee;
+import com.example.hrms.entity.LeaveBalance;
+import com.example.hrms.entity.LeaveBalanceEntry;
+import com.example.hrms.entity.LeaveBalanceSnapshot;
+import com.example.hrms.entity.LeaveRequest;
+import com.example.hrms.entity.LeaveType;
+import com.example.hrms.entity.LedgerMigration;
+import com.example.hrms.repository.EmployeesRepository;
+import com.example.hrms.repository.LeaveBalanceEntryRepository;
+import com.example.hrms.repository.LeaveBalanceEntryRepository.TailSummary;
+import com.example.hrms.repository.LeaveBalanceRepository;
+import com.example.hrms.repository.LeaveBalanceSnapshotRepository;
+import com.example.hrms.repository.LedgerMigrationRepository;
+import com.example.hrms.service.LeaveBalanceLedger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LeaveBalanceLedgerImpl
+ *
+ * Writes ledger entries next to every balance change and
+ * reads balances as: latest snapshot + entries after it.
+ *
+ * Snapshots:
+ *  - leave_balances.entries_since_snapshot counts the entries written
+ *    since the latest snapshot; the statement that changes the balance
+ *    also increments it
+ *  - After entries are written, one conditional update resets the
+ *    count once it reaches hrms.ledger.snapshot-interval. Only then are
+ *    the entries after the latest snapshot summed and a new snapshot
+ *    saved, so approvals and adjustments below the interval read
+ *    nothing from the ledger
+ *
+ * So no read ever sums more than snapshot-interval entries,
+ * however long the history of a balance is.
+ *
+ * Record methods join the caller's transaction (MANDATORY):
+ * called without one, they fail instead of committing
+ * entries apart from the balance change.
+ *
+ * Balances created before the ledger get a GRANT entry with their
+ * remaining days when the application starts. This is a one-time
+ * migration: once it completes, a ledger_migrations row is saved
+ * and later startups skip it.
+ */
+@Service
+@Slf4j
+public class LeaveBalanceLedgerImpl implements LeaveBalanceLedger {
+
+    // Balances given an opening entry per transaction at startup
+    private static final int OPENING_CHUNK_SIZE = 500;
+
+    // ledger_migrations row of the opening balances migration
+    static final String OPENING_BALANCES_MIGRATION = "opening-balances";
+
+    private final LeaveBalanceEntryRepository entryRepository;
+    private final LeaveBalanceSnapshotRepository snapshotRepository;
+    private final LeaveBalanceRepository leaveBalanceRepository;
+    private final EmployeesRepository employeesRepository;
+    private final LedgerMigrationRepository ledgerMigrationRepository;
+    private final LedgerProperties ledgerProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public LeaveBalanceLedgerImpl(LeaveBalanceEntryRepository entryRepository,
+                                  LeaveBalanceSnapshotRepository snapshotRepository,
+                                  LeaveBalanceRepository leaveBalanceRepository,
+                                  EmployeesRepository employeesRepository,
+                                  LedgerMigrationRepository ledgerMigrationRepository,
+                                  LedgerProperties ledgerProperties,
+                                  TransactionTemplate transactionTemplate) {
+        this.entryRepository = entryRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.leaveBalanceRepository = leaveBalanceRepository;
+        this.employeesRepository = employeesRepository;
+        this.ledgerMigrationRepository = ledgerMigrationRepository;
+        this.ledgerProperties = ledgerProperties;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * A new balance has a single entry, so no snapshot is needed.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public void recordGrants(List<LeaveBalance> balances) {
+
+        LocalDateTime now = LocalDateTime.now();
+        List<LeaveBalanceEntry> entries = new ArrayList<>(balances.size());
+
+        for (LeaveBalance balance : balances) {
+            entries.add(entry(balance.getEmployee(), balance.getLeaveType(),
+                    BalanceEntryType.GRANT, balance.getRemainingDays(), now));
+        }
+
+        entryRepository.saveAll(entries);
+    }
+
+    /**
+     * Requests of the same balance share one snapshot check.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public void recordDeductions(List<LeaveRequest> requests) {
+
+        LocalDateTime now = LocalDateTime.now();
+        List<LeaveBalanceEntry> entries = new ArrayList<>(requests.size());
+        Map<BalanceKey, LeaveBalanceEntry> lastEntries = new LinkedHashMap<>();
+
+        for (LeaveRequest request : requests) {
+
+            LeaveBalanceEntry entry = entry(request.getEmployee(), request.getLeaveType(),
+                    BalanceEntryType.DEDUCT, -request.getTotalDays(), now);
+            entry.setLeaveRequest(request);
+
+            entries.add(entry);
+            lastEntries.put(new BalanceKey(request.getEmployee().getId(),
+                    request.getLeaveType().getId()), entry);
+        }
+
+        entryRepository.saveAll(entries);
+
+        for (LeaveBalanceEntry entry : lastEntries.values()) {
+            snapshotIfDue(entry.getEmployee(), entry.getLeaveType());
+        }
+    }
+
+    /**
+     * No snapshot check: a rollover adds at most two entries per
+     * balance and year, the next approval or adjustment of the
+     * balance takes the snapshot when it is due.
+     *
+     * The rollover changes the (managed) balance, so its entries
+     * are counted on the balance in the same update.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public void recordRollover(LeaveBalance balance, int expiredDays, int grantedDays, int year) {
+
+        LocalDateTime now = LocalDateTime.now();
+        String note = "Year-end rollover " + year;
+
+        if (expiredDays > 0) {
+            LeaveBalanceEntry expired = entry(balance.getEmployee(), balance.getLeaveType(),
+                    BalanceEntryType.EXPIRE, -expiredDays, now);
+            expired.setNote(note);
+            entryRepository.save(expired);
+        }
+
+        if (grantedDays > 0) {
+            LeaveBalanceEntry granted = entry(balance.getEmployee(), balance.getLeaveType(),
+                    BalanceEntryType.GRANT, grantedDays, now);
+            granted.setNote(note);
+            entryRepository.save(granted);
+        }
+
+        int entries = (expiredDays > 0 ? 1 : 0) + (grantedDays > 0 ? 1 : 0);
+        balance.setEntriesSinceSnapshot(balance.getEntriesSinceSnapshot() + entries);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public void recordAdjustment(Long employeeId, LeaveType leaveType, int days, String note) {
+
+        Employee employee = employeesRepository.getReferenceById(employeeId);
+
+        LeaveBalanceEntry entry = entry(employee, leaveType, BalanceEntryType.ADJUSTMENT, days,
+                LocalDateTime.now());
+        entry.setNote(note);
+
+        entryRepository.save(entry);
+
+        snapshotIfDue(employee, leaveType);
+    }
+
+    @Override
+    public int getBalance(Long employeeId, Long leaveTypeId) {
+
+        List<LeaveBalanceSnapshot> latest =
+                snapshotRepository.findLatest(employeeId, leaveTypeId, Limit.of(1));
+
+        TailSummary tail = entryRepository.summarizeAfter(employeeId, leaveTypeId, lastEntryId(latest));
+
+        return (int) (snapshotBalance(latest) + tail.getDays());
+    }
+
+    @Override
+    public int getBalanceAsOf(Long employeeId, Long leaveTypeId, LocalDate date) {
+
+        LocalDateTime before = date.plusDays(1).atStartOfDay();
+
+        List<LeaveBalanceSnapshot> latest =
+                snapshotRepository.findLatestBefore(employeeId, leaveTypeId, before, Limit.of(1));
+
+        TailSummary tail = entryRepository.summarizeAfterBefore(
+                employeeId, leaveTypeId, lastEntryId(latest), before);
+
+        return (int) (snapshotBalance(latest) + tail.getDays());
+    }
+
+    /**
+     * Gives balances created before the ledger an opening GRANT entry,
+     * so the ledger total matches remainingDays.
+     *
+     * The NOT EXISTS query reads every balance, so it is skipped
+     * once the migration row exists. A run stopped halfway saves
+     * no row and continues at the next startup.
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void recordOpeningBalances() {
+
+        if (ledgerMigrationRepository.existsById(OPENING_BALANCES_MIGRATION)) {
+            log.debug("Opening ledger entries already recorded, skipping");
+            return;
+        }
+
+        long total = 0;
+        int recorded;
+
+        do {
+            recorded = transactionTemplate.execute(status -> {
+
+                List<LeaveBalance> balances =
+                        leaveBalanceRepository.findWithoutLedgerEntries(Limit.of(OPENING_CHUNK_SIZE));
+
+                recordGrants(balances);
+
+                return balances.size();
+            });
+
+            total += recorded;
+
+        } while (recorded == OPENING_CHUNK_SIZE);
+
+        LedgerMigration migration = new LedgerMigration();
+        migration.setName(OPENING_BALANCES_MIGRATION);
+        migration.setRecordedBalances(total);
+        migration.setCompletedAt(LocalDateTime.now());
+        ledgerMigrationRepository.save(migration);
+
+        log.info("Recorded opening ledger entries for {} leave balances", total);
+    }
+
+    /**
+     * Saves a snapshot when snapshot-interval entries were written
+     * since the latest one. Runs while the balance row is locked,
+     * so no other entry of this balance can be written meanwhile.
+     *
+     * The count on the balance row decides, the ledger is only read
+     * once a snapshot is due.
+     */
+    private void snapshotIfDue(Employee employee, LeaveType leaveType) {
+
+        if (leaveBalanceRepository.resetEntriesSinceSnapshot(employee.getId(), leaveType.getId(),
+                Math.max(2, ledgerProperties.getSnapshotInterval())) == 0) {
+            return;
+        }
+
+        List<LeaveBalanceSnapshot> latest =
+                snapshotRepository.findLatest(employee.getId(), leaveType.getId(), Limit.of(1));
+
+        TailSummary tail = entryRepository.summarizeAfter(
+                employee.getId(), leaveType.getId(), lastEntryId(latest));
+
+        if (tail.getEntries() == 0) {
+            return;
+        }
+
+        LeaveBalanceSnapshot snapshot = new LeaveBalanceSnapshot();
+        snapshot.setEmployee(employee);
+        snapshot.setLeaveType(leaveType);
+        snapshot.setLastEntryId(tail.getLastEntryId());
+        snapshot.setLastEntryAt(tail.getLastEntryAt());
+        snapshot.setBalance((int) (snapshotBalance(latest) + tail.getDays()));
+        snapshot.setEntryCount((latest.isEmpty() ? 0 : latest.get(0).getEntryCount()) + tail.getEntries());
+
+        snapshotRepository.save(snapshot);
+
+        log.debug("Saved leave balance snapshot for employee ID: {}, leave type ID: {} at entry {}",
+                employee.getId(), leaveType.getId(), snapshot.getLastEntryId());
+    }
+
+    private static LeaveBalanceEntry entry(Employee employee,
+                                           LeaveType leaveType,
+                                           BalanceEntryType type,
+                                           int days,
+                                           LocalDateTime createdAt) {
+
+        LeaveBalanceEntry entry = new LeaveBalanceEntry();
+        entry.setEmployee(employee);
+        entry.setLeaveType(leaveType);
+        entry.setType(type);
+        entry.setDays(days);
+        entry.setCreatedAt(createdAt);
+
+        return entry;
+    }
+
+    private static long lastEntryId(List<LeaveBalanceSnapshot> latest) {
+        return latest.isEmpty() ? 0 : latest.get(0).getLastEntryId();
+    }
+
+    private static long snapshotBalance(List<LeaveBalanceSnapshot> latest) {
+        return latest.isEmpty() ? 0 : latest.get(0).getBalance();
+    }
+
+    /**
+     * Identifies one leave balance: (employee, leave type).
+     */
+    private record BalanceKey(Long employeeId, Long leaveTypeId) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.hrms.service.impl;
+
+import com.example.hrms.dto.LeaveBalanceAdjustmentDTO;
+import com.example.hrms.dto.LeaveBalanceDTO;
+import com.example.hrms.entity.LeaveBalance;
+import com.example.hrms.entity.LeaveType;
+import com.example.hrms.exception.InvalidRequestException;
+import com.example.hrms.exception.ResourceNotFoundException;
+import com.example.hrms.repository.EmployeesRepository;
+import com.example.hrms.repository.LeaveBalanceRepository;
+import com.example.hrms.service.LeaveBalanceLedger;
+import com.example.hrms.service.LeaveBalanceService;
+import com.example.hrms.service.LeaveTypeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LeaveBalanceServiceImpl
+ *
+ * Service layer responsible for reading and correcting leave balances.
+ *
+ * Responsibilities:
+ *  - Balances of an employee now or at the end of a past day,
+ *    computed from the balance ledger (snapshot + tail)
+ *  - Manual corrections: remainingDays is updated with a guarded
+ *    statement and an ADJUSTMENT entry is written with the reason
+ */
+@Service
+@Slf4j
+public class LeaveBalanceServiceImpl implements LeaveBalanceService {
+
+    private final LeaveBalanceRepository leaveBalanceRepository;
+    private final EmployeesRepository employeesRepository;
+    private final LeaveTypeService leaveTypeService;
+    private final LeaveBalanceLedger leaveBalanceLedger;
+
+    public LeaveBalanceServiceImpl(LeaveBalanceRepository leaveBalanceRepository,
+                                   EmployeesRepository employeesRepository,
+                                   LeaveTypeService leaveTypeService,
+                                   LeaveBalanceLedger leaveBalanceLedger) {
+        this.leaveBalanceRepository = leaveBalanceRepository;
+        this.employeesRepository = employeesRepository;
+        this.leaveTypeService = leaveTypeService;
+        this.leaveBalanceLedger = leaveBalanceLedger;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<LeaveBalanceDTO> getBalances(Long employeeId, LocalDate asOf) {
+
+        log.info("Fetching leave balances for employee ID: {}, as of: {}", employeeId, asOf);
+
+        List<LeaveBalance> balances = leaveBalanceRepository.findByEmployeeId(employeeId);
+
+        if (balances.isEmpty() && !employeesRepository.existsById(employeeId)) {
+            log.error("Employee not found with ID: {}", employeeId);
+            throw new ResourceNotFoundException("Employee not found with ID: " + employeeId);
+        }
+
+        // Leave types come from the in-memory registry (no query)
+        Map<Long, LeaveType> leaveTypes = new HashMap<>();
+        for (LeaveType leaveType : leaveTypeService.getAllLeaveTypes()) {
+            leaveTypes.put(leaveType.getId(), leaveType);
+        }
+
+        LocalDate day = asOf != null ? asOf : LocalDate.now();
+        List<LeaveBalanceDTO> result = new ArrayList<>();
+
+        for (LeaveBalance balance : balances) {
+
+            Long leaveTypeId = balance.getLeaveType().getId();
+
+            int days = asOf != null
+                    ? leaveBalanceLedger.getBalanceAsOf(employeeId, leaveTypeId, asOf)
+                    : leaveBalanceLedger.getBalance(employeeId, leaveTypeId);
+
+            result.add(new LeaveBalanceDTO(leaveTypes.get(leaveTypeId).getName(), days, day));
+        }
+
+        return result;
+    }
+
+    /**
+     * Adds or removes days of one balance.
+     *
+     * The update is refused when the balance would go below zero,
+     * the ledger entry is written in the same transaction.
+     */
+    @Transactional
+    @Override
+    public LeaveBalanceDTO adjustBalance(Long employeeId, LeaveBalanceAdjustmentDTO adjustment) {
+
+        log.info("Adjusting {} balance of employee ID: {} by {} days",
+                adjustment.getLeaveType(), employeeId, adjustment.getDays());
+
+        if (adjustment.getDays() == 0) {
+            log.warn("Balance adjustment without days for employee ID: {}", employeeId);
+            throw new InvalidRequestException("Adjustment days must not be zero");
+        }
+
+        LeaveType leaveType = leaveTypeService.getLeaveType(adjustment.getLeaveType())
+                .orElseThrow(() -> {
+                    log.error("Leave type not found: {}", adjustment.getLeaveType());
+                    return new ResourceNotFoundException("Leave type not found");
+                });
+
+        if (leaveBalanceRepository.adjustDays(employeeId, leaveType.getId(), adjustment.getDays()) == 0) {
+
+            boolean balanceExists = leaveBalanceRepository.findByEmployeeId(employeeId).stream()
+                    .anyMatch(balance -> balance.getLeaveType().getId().equals(leaveType.getId()));
+
+            if (!balanceExists) {
+                log.error("Leave balance not found for employee ID: {} and type: {}",
+                        employeeId, leaveType.getName());
+                throw new ResourceNotFoundException("Leave balance not found");
+            }
+
+            log.warn("Adjustment would make the {} balance of employee ID: {} negative",
+                    leaveType.getName(), employeeId);
+            throw new InvalidRequestException("Adjustment would make the leave balance negative");
+        }
+
+        leaveBalanceLedger.recordAdjustment(employeeId, leaveType, adjustment.getDays(), adjustment.getReason());
+
+        int remaining = leaveBalanceLedger.getBalance(employeeId, leaveType.getId());
+
+        log.info("Leave balance adjusted. Employee ID: {}, type: {}, remaining: {}",
+                employeeId, leaveType.getName(), remaining);
+
+        return new LeaveBalanceDTO(leaveType.getName(), remaining, LocalDate.now());
+    }
+}
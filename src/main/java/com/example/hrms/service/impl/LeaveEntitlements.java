@@ -0,0 +1,47 @@
+package com.example.hrms.service.impl;
+
+import com.example.hrms.entity.Department;
+import com.example.hrms.entity.LeaveTypeEnum;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * LeaveEntitlements
+ *
+ * Leave days granted per year, based on department and leave type.
+ *
+ * Used when an employee is created (first grant)
+ * and by the year-end rollover (grant of the new year).
+ */
+@Slf4j
+final class LeaveEntitlements {
+
+    private LeaveEntitlements() {
+    }
+
+    /**
+     * Returns the yearly leave days for a department and leave type.
+     */
+    static int annualDays(Department department, LeaveTypeEnum leaveTypeEnum) {
+
+        switch (department) {
+            case CONSULTING:
+            case SUPPORT:
+            case DEVELOPMENT:
+                if (leaveTypeEnum == LeaveTypeEnum.SICK) return 6;
+                if (leaveTypeEnum == LeaveTypeEnum.CASUAL) return 6;
+                if (leaveTypeEnum == LeaveTypeEnum.EARNED) return 3;
+                break;
+
+            case TRAINEE:
+                if (leaveTypeEnum == LeaveTypeEnum.SICK) return 6;
+                if (leaveTypeEnum == LeaveTypeEnum.CASUAL) return 6;
+                if (leaveTypeEnum == LeaveTypeEnum.EARNED) return 0;
+                break;
+        }
+
+        log.warn("No leave configuration found for Department: {} and LeaveType: {}",
+                department, leaveTypeEnum);
+
+        return 0;
+    }
+}
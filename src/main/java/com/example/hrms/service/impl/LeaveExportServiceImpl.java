@@ -0,0 +1,174 @@
+package com.example.hrms.service.impl;
+
+import com.example.hrms.dto.ExportFormat;
+import com.example.hrms.dto.LeaveExportRowDTO;
+import com.example.hrms.exception.InvalidRequestException;
+import com.example.hrms.repository.LeaveRequestRepository;
+import com.example.hrms.service.LeaveExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * LeaveExportServiceImpl
+ *
+ * Service layer responsible for the payroll leave export.
+ *
+ * How rows are streamed:
+ *  - LeaveRequestRepository.streamExportRows reads DTO rows
+ *    (no entities) with a JDBC fetch size
+ *  - Each row is written to a buffered writer straight away
+ *  - Optional gzip wraps the response stream
+ *
+ * Nothing is collected into a list, so a multi-million row
+ * export uses the same memory as a ten row one.
+ */
+@Service
+@Slf4j
+public class LeaveExportServiceImpl implements LeaveExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String CSV_HEADER = "request_id,employee_id,employee_name,employee_email,"
+            + "department,leave_type,start_date,end_date,total_days,status,reason";
+
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public LeaveExportServiceImpl(LeaveRequestRepository leaveRequestRepository,
+                                  ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager) {
+        this.leaveRequestRepository = leaveRequestRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Validates the range before anything is written,
+     * so errors still get a normal JSON error response.
+     */
+    @Override
+    public StreamingResponseBody exportLeaves(LocalDate from, LocalDate to, ExportFormat format, boolean gzip) {
+
+        log.info("Preparing leave export - from: {}, to: {}, format: {}, gzip: {}", from, to, format, gzip);
+
+        if (to.isBefore(from)) {
+            log.warn("Invalid export range: {} - {}", from, to);
+            throw new InvalidRequestException("End date cannot be before start date");
+        }
+
+        return out -> write(from, to, format, gzip, out);
+    }
+
+    private void write(LocalDate from,
+                       LocalDate to,
+                       ExportFormat format,
+                       boolean gzip,
+                       OutputStream out) throws IOException {
+
+        long started = System.nanoTime();
+
+        GZIPOutputStream gzipOut = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(
+                gzipOut != null ? gzipOut : out, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        // The stream needs an open transaction until the last row is read
+        Long rows = readOnlyTransaction.execute(status -> {
+            try (Stream<LeaveExportRowDTO> stream = leaveRequestRepository.streamExportRows(from, to)) {
+                return format == ExportFormat.CSV
+                        ? writeCsv(stream.iterator(), writer)
+                        : writeNdjson(stream.iterator(), writer);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+
+        writer.flush();
+        if (gzipOut != null) {
+            gzipOut.finish();
+        }
+
+        log.info("Leave export finished - {} rows in {} ms", rows, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private long writeCsv(Iterator<LeaveExportRowDTO> rows, Writer writer) throws IOException {
+
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        long count = 0;
+
+        while (rows.hasNext()) {
+            LeaveExportRowDTO row = rows.next();
+
+            writer.write(String.valueOf(row.getRequestId()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getEmployeeId()));
+            writer.write(',');
+            CsvSupport.writeTextField(writer, row.getEmployeeName());
+            writer.write(',');
+            CsvSupport.writeTextField(writer, row.getEmployeeEmail());
+            writer.write(',');
+            CsvSupport.writeField(writer, row.getDepartment());
+            writer.write(',');
+            CsvSupport.writeField(writer, row.getLeaveType());
+            writer.write(',');
+            CsvSupport.writeField(writer, row.getStartDate());
+            writer.write(',');
+            CsvSupport.writeField(writer, row.getEndDate());
+            writer.write(',');
+            writer.write(Integer.toString(row.getTotalDays()));
+            writer.write(',');
+            CsvSupport.writeField(writer, row.getStatus());
+            writer.write(',');
+            CsvSupport.writeTextField(writer, row.getReason());
+            writer.write('\n');
+
+            count++;
+        }
+
+        return count;
+    }
+
+    private long writeNdjson(Iterator<LeaveExportRowDTO> rows, Writer writer) throws IOException {
+
+        long count = 0;
+
+        // One JSON object per line, the response writer stays open
+        try (SequenceWriter sequence = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(writer)) {
+
+            while (rows.hasNext()) {
+                sequence.write(rows.next());
+                count++;
+            }
+        }
+
+        if (count > 0) {
+            writer.write('\n');
+        }
+
+        return count;
+    }
+}
@@ -1,23 +1,33 @@
 package com.example.hrms.service.impl;
 
+import com.example.hrms.config.PagingProperties;
+import com.example.hrms.dto.CursorPageDTO;
 import com.example.hrms.dto.LeaveRequestDTO;
 import com.example.hrms.entity.*;
+import com.example.hrms.exception.DuplicateResourceException;
 import com.example.hrms.exception.InvalidRequestException;
 import com.example.hrms.exception.ResourceNotFoundException;
 import com.example.hrms.mapper.LeaveRequestMapper;
 import com.example.hrms.repository.EmployeesRepository;
 import com.example.hrms.repository.LeaveBalanceRepository;
 import com.example.hrms.repository.LeaveRequestRepository;
-import com.example.hrms.repository.LeaveTypeRepository;
 import com.example.hrms.service.LeaveRequestService;
-import jakarta.transaction.Transactional;
+import com.example.hrms.service.LeaveTypeService;
+import com.example.hrms.service.PendingSummary;
+import com.example.hrms.service.WorkingDayCalendar;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 /**
  * LeaveRequestServiceImpl
@@ -27,8 +37,9 @@ import java.time.LocalDate;
  * Responsibilities:
  *  - Apply leave
  *  - Validate business rules
+ *  - Reject requests overlapping pending or approved leave
  *  - Verify leave balance
- *  - Fetch paginated leave history
+ *  - Fetch paginated leave history (offset or cursor)
  *
  * Transactional:
  *  - Ensures atomic execution of leave request creation.
@@ -40,35 +51,54 @@ import java.time.LocalDate;
 @Transactional
 public class LeaveRequestServiceImpl implements LeaveRequestService {
 
+    // Longest leave request in calendar days (one year),
+    // keeps the working day count to at most two calendar years
+    private static final int MAX_LEAVE_DAYS = 366;
+
     private final LeaveRequestRepository leaveRequestRepository;
     private final EmployeesRepository employeesRepository;
     private final LeaveBalanceRepository leaveBalanceRepository;
-    private final LeaveTypeRepository leaveTypeRepository;
+    private final LeaveTypeService leaveTypeService;
     private final LeaveRequestMapper leaveRequestMapper;
+    private final WorkingDayCalendar workingDayCalendar;
+    private final MeterRegistry meterRegistry;
+    private final PendingSummary pendingSummary;
+    private final PagingProperties pagingProperties;
 
     public LeaveRequestServiceImpl(
             LeaveRequestRepository leaveRequestRepository,
             EmployeesRepository employeesRepository,
             LeaveBalanceRepository leaveBalanceRepository,
-            LeaveTypeRepository leaveTypeRepository,
-            LeaveRequestMapper leaveRequestMapper) {
+            LeaveTypeService leaveTypeService,
+            LeaveRequestMapper leaveRequestMapper,
+            WorkingDayCalendar workingDayCalendar,
+            MeterRegistry meterRegistry,
+            PendingSummary pendingSummary,
+            PagingProperties pagingProperties) {
 
         this.leaveRequestRepository = leaveRequestRepository;
         this.employeesRepository = employeesRepository;
         this.leaveBalanceRepository = leaveBalanceRepository;
-        this.leaveTypeRepository = leaveTypeRepository;
+        this.leaveTypeService = leaveTypeService;
         this.leaveRequestMapper = leaveRequestMapper;
+        this.workingDayCalendar = workingDayCalendar;
+        this.meterRegistry = meterRegistry;
+        this.pendingSummary = pendingSummary;
+        this.pagingProperties = pagingProperties;
     }
 
     /**
      * Applies leave for an employee.
      *
      * Validations:
-     *  - Date range validation
+     *  - Date range validation (at most 366 calendar days)
      *  - Employee existence
      *  - Leave type validation
+     *  - No overlap with a PENDING or APPROVED request
+     *    (ranges sharing even one day overlap)
      *  - Leave balance availability
-     *  - Working days calculation (excludes weekends)
+     *  - Working days calculation (excludes weekends and holidays
+     *    of the employee's department)
      */
     @Override
     public LeaveRequestDTO applyLeave(Long employeeId,
@@ -79,73 +109,108 @@ public class LeaveRequestServiceImpl implements LeaveRequestService {
 
         log.info("Applying leave for employeeId: {}", employeeId);
 
-        if (endDate.isBefore(startDate)) {
-            log.warn("Invalid date range: {} - {}", startDate, endDate);
-            throw new InvalidRequestException("End date cannot be before start date");
-        }
-
-        Employee employee = employeesRepository.findById(employeeId)
-                .orElseThrow(() -> {
-                    log.error("Employee not found with id: {}", employeeId);
-                    return new ResourceNotFoundException(
-                            "Employee not found with id: " + employeeId);
-                });
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = ServiceMetrics.SUCCESS;
+        String leaveTag = ServiceMetrics.UNKNOWN;
 
-        LeaveTypeEnum leaveTypeEnum;
         try {
-            leaveTypeEnum = LeaveTypeEnum.valueOf(leaveTypeName.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            log.warn("Invalid leave type received: {}", leaveTypeName);
-            throw new InvalidRequestException("Invalid leave type: " + leaveTypeName);
-        }
 
-        LeaveType leaveType = leaveTypeRepository.findByName(leaveTypeEnum)
-                .orElseThrow(() -> {
-                    log.error("Leave type not configured: {}", leaveTypeEnum);
-                    return new InvalidRequestException("Leave type not configured");
-                });
+            if (endDate.isBefore(startDate)) {
+                log.warn("Invalid date range: {} - {}", startDate, endDate);
+                throw new InvalidRequestException("End date cannot be before start date");
+            }
+
+            if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_LEAVE_DAYS) {
+                log.warn("Leave range too long: {} - {}", startDate, endDate);
+                throw new InvalidRequestException(
+                        "Leave request cannot be longer than " + MAX_LEAVE_DAYS + " days");
+            }
+
+            // Locked, so a concurrent apply of the same employee waits here
+            // and sees this request in its overlap check
+            Employee employee = employeesRepository.findForUpdateById(employeeId)
+                    .orElseThrow(() -> {
+                        log.error("Employee not found with id: {}", employeeId);
+                        return new ResourceNotFoundException(
+                                "Employee not found with id: " + employeeId);
+                    });
+
+            LeaveTypeEnum leaveTypeEnum;
+            try {
+                leaveTypeEnum = LeaveTypeEnum.valueOf(leaveTypeName.toUpperCase());
+                leaveTag = leaveTypeEnum.name();
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid leave type received: {}", leaveTypeName);
+                throw new InvalidRequestException("Invalid leave type: " + leaveTypeName);
+            }
 
-        LeaveBalance balance = leaveBalanceRepository
-                .findByEmployeeAndLeaveType(employee, leaveType)
-                .orElseThrow(() -> {
-                    log.error("Leave balance not found for employeeId: {}", employeeId);
-                    return new InvalidRequestException("Leave balance not found");
-                });
+            // Leave types come from the in-memory registry (no query)
+            LeaveType leaveType = leaveTypeService.getLeaveType(leaveTypeEnum)
+                    .orElseThrow(() -> {
+                        log.error("Leave type not configured: {}", leaveTypeEnum);
+                        return new InvalidRequestException("Leave type not configured");
+                    });
+
+            if (leaveRequestRepository.existsOverlapping(employeeId, startDate, endDate)) {
+                log.warn("Leave overlaps an existing request. EmployeeId: {}, Dates: {} - {}",
+                        employeeId, startDate, endDate);
+                throw new DuplicateResourceException(
+                        "Leave already requested for some of the selected dates");
+            }
 
-        int days = calculateWorkingDays(startDate, endDate);
+            LeaveBalance balance = leaveBalanceRepository
+                    .findByEmployeeAndLeaveType(employee, leaveType)
+                    .orElseThrow(() -> {
+                        log.error("Leave balance not found for employeeId: {}", employeeId);
+                        return new InvalidRequestException("Leave balance not found");
+                    });
 
-        log.debug("Calculated working days: {}", days);
+            int days = workingDayCalendar.countWorkingDays(
+                    employee.getDepartment(), startDate, endDate);
 
-        if (days <= 0) {
-            log.warn("Selected dates contain no working days");
-            throw new InvalidRequestException("Selected dates contain no working days");
-        }
+            log.debug("Calculated working days: {}", days);
 
-        if (balance.getRemainingDays() < days) {
-            log.warn("Insufficient leave balance. Available: {}, Requested: {}",
-                    balance.getRemainingDays(), days);
-            throw new InvalidRequestException("Insufficient leave balance");
-        }
+            if (days <= 0) {
+                log.warn("Selected dates contain no working days");
+                throw new InvalidRequestException("Selected dates contain no working days");
+            }
+
+            if (balance.getRemainingDays() < days) {
+                log.warn("Insufficient leave balance. Available: {}, Requested: {}",
+                        balance.getRemainingDays(), days);
+                throw new InvalidRequestException("Insufficient leave balance");
+            }
+
+            LeaveRequest request = new LeaveRequest();
+            request.setEmployee(employee);
+            request.setLeaveType(leaveType);
+            request.setStartDate(startDate);
+            request.setEndDate(endDate);
+            request.setTotalDays(days);
+            request.setStatus(LeaveStatus.PENDING);
+            request.setReason(reason);
 
-        LeaveRequest request = new LeaveRequest();
-        request.setEmployee(employee);
-        request.setLeaveType(leaveType);
-        request.setStartDate(startDate);
-        request.setEndDate(endDate);
-        request.setTotalDays(days);
-        request.setStatus(LeaveStatus.PENDING);
-        request.setReason(reason);
+            LeaveRequest saved = leaveRequestRepository.save(request);
+            pendingSummary.recordPending(saved);
 
-        LeaveRequest saved = leaveRequestRepository.save(request);
+            log.info("Leave request created successfully with ID: {}", saved.getId());
 
-        log.info("Leave request created successfully with ID: {}", saved.getId());
+            return leaveRequestMapper.toDTO(saved);
 
-        return leaveRequestMapper.toDTO(saved);
+        } catch (RuntimeException ex) {
+            outcome = ServiceMetrics.outcome(ex);
+            throw ex;
+        } finally {
+            ServiceMetrics.stop(sample, meterRegistry, ServiceMetrics.LEAVE_APPLY,
+                    "outcome", outcome, "leave_type", leaveTag);
+        }
     }
 
     /**
      * Fetches paginated leave history for an employee.
+     * Rows are read as DTOs (no entities) in a read-only transaction.
      */
+    @Transactional(readOnly = true)
     @Override
     public Page<LeaveRequestDTO> getLeaveHistory(Long employeeId, int page, int size) {
 
@@ -159,36 +224,43 @@ public class LeaveRequestServiceImpl implements LeaveRequestService {
 
         Pageable pageable = PageRequest.of(page, size);
 
-        Page<LeaveRequest> leavePage =
+        Page<LeaveRequestDTO> leavePage =
                 leaveRequestRepository.findByEmployeeId(employeeId, pageable);
 
         log.debug("Fetched {} leave records", leavePage.getNumberOfElements());
 
-        return leavePage.map(leaveRequestMapper::toDTO);
+        return leavePage;
     }
 
     /**
-     * Calculates working days between two dates.
-     * Excludes Saturday and Sunday.
+     * Fetches leave history of an employee after a cursor (keyset pagination).
+     *
+     * Uses "WHERE id > ? ORDER BY id LIMIT ?", so deep pages
+     * cost the same as the first one and no COUNT query is run.
      */
-    private int calculateWorkingDays(LocalDate startDate, LocalDate endDate) {
-
-        int workingDays = 0;
-        LocalDate date = startDate;
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageDTO<LeaveRequestDTO> getLeaveHistoryAfter(Long employeeId, String after, int limit) {
 
-        while (!date.isAfter(endDate)) {
+        log.info("Fetching leave history for employeeId: {}, after: {}", employeeId, after);
 
-            switch (date.getDayOfWeek()) {
-                case SATURDAY:
-                case SUNDAY:
-                    break;
-                default:
-                    workingDays++;
-            }
+        if (limit <= 0 || limit > pagingProperties.getMaxLimit()) {
+            log.warn("Invalid page limit: {}", limit);
+            throw new InvalidRequestException(
+                    "Limit must be between 1 and " + pagingProperties.getMaxLimit());
+        }
 
-            date = date.plusDays(1);
+        if (!employeesRepository.existsById(employeeId)) {
+            log.error("Employee not found while fetching history. ID: {}", employeeId);
+            throw new ResourceNotFoundException(
+                    "Employee not found with id: " + employeeId);
         }
 
-        return workingDays;
+        List<LeaveRequestDTO> rows = leaveRequestRepository.findByEmployeeIdAndIdGreaterThanOrderByIdAsc(
+                employeeId, CursorPageDTO.decodeCursor(after), Limit.of(limit + 1));
+
+        log.debug("Fetched {} leave records", rows.size());
+
+        return CursorPageDTO.of(rows, limit, LeaveRequestDTO::getId);
     }
-}
\ No newline at end of file
+}
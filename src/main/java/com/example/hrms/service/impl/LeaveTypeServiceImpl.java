@@ -8,19 +8,32 @@ import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 /**
  * LeaveTypeServiceImpl
  *
- * Service responsible for initializing default Leave Types.
+ * Service responsible for initializing default Leave Types
+ * and keeping them in memory.
  *
  * Purpose:
  *  - Ensures required leave types exist in database
  *  - Prevents manual database setup
+ *  - Serves leave types without database queries
  *
  * Execution:
  *  - Runs automatically when application starts
  *  - Uses @PostConstruct (executed after Spring bean initialization)
  *
+ * Registry:
+ *  - Leave types are static reference data, so they are loaded once
+ *    into an immutable EnumMap
+ *  - refresh() replaces the whole map, readers never see a half-built map
+ *
  * Default Leave Types:
  *  - SICK
  *  - CASUAL
@@ -32,6 +45,13 @@ public class LeaveTypeServiceImpl implements LeaveTypeService {
 
     private final LeaveTypeRepository repository;
 
+    // Immutable snapshot of all leave types
+    private volatile Map<LeaveTypeEnum, LeaveType> registry =
+            Collections.unmodifiableMap(new EnumMap<>(LeaveTypeEnum.class));
+
+    // Same snapshot as a list (used when all types are needed)
+    private volatile List<LeaveType> allLeaveTypes = List.of();
+
     public LeaveTypeServiceImpl(LeaveTypeRepository repository) {
         this.repository = repository;
     }
@@ -41,6 +61,7 @@ public class LeaveTypeServiceImpl implements LeaveTypeService {
      *
      * If a leave type does not exist in database,
      * it will be inserted.
+     * The registry is loaded afterwards.
      */
     @Override
     @PostConstruct
@@ -64,6 +85,55 @@ public class LeaveTypeServiceImpl implements LeaveTypeService {
             }
         }
 
+        refresh();
+
         log.info("Leave type initialization completed.");
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the leave type from the registry.
+     *
+     * If the type is missing (for example added after startup),
+     * the registry is reloaded once before giving up.
+     */
+    @Override
+    public Optional<LeaveType> getLeaveType(LeaveTypeEnum name) {
+
+        LeaveType leaveType = registry.get(name);
+
+        if (leaveType == null) {
+            log.warn("Leave type {} not found in registry, reloading", name);
+            refresh();
+            leaveType = registry.get(name);
+        }
+
+        return Optional.ofNullable(leaveType);
+    }
+
+    /**
+     * Returns all leave types from the registry.
+     */
+    @Override
+    public List<LeaveType> getAllLeaveTypes() {
+        return allLeaveTypes;
+    }
+
+    /**
+     * Loads all leave types from the database
+     * and replaces the registry.
+     */
+    @Override
+    public synchronized void refresh() {
+
+        Map<LeaveTypeEnum, LeaveType> loaded = new EnumMap<>(LeaveTypeEnum.class);
+
+        for (LeaveType leaveType : repository.findAll()) {
+            loaded.put(leaveType.getName(), leaveType);
+        }
+
+        allLeaveTypes = List.copyOf(loaded.values());
+        registry = Collections.unmodifiableMap(loaded);
+
+        log.debug("Leave type registry loaded with {} types", loaded.size());
+    }
+}
@@ -1,6 +1,14 @@
 package com.example.hrms.service.impl;
 
+import com.example.hrms.config.BulkProperties;
+import com.example.hrms.config.PagingProperties;
+import com.example.hrms.dto.AbsenceHeatmapDTO;
+import com.example.hrms.dto.CursorPageDTO;
+import com.example.hrms.dto.LeaveDecisionResultDTO;
 import com.example.hrms.dto.LeaveRequestDTO;
+import com.example.hrms.dto.PendingSummaryDTO;
+import com.example.hrms.dto.SlicePageDTO;
+import com.example.hrms.entity.Department;
 import com.example.hrms.entity.LeaveBalance;
 import com.example.hrms.entity.LeaveRequest;
 import com.example.hrms.entity.LeaveStatus;
@@ -9,13 +17,32 @@ import com.example.hrms.exception.ResourceNotFoundException;
 import com.example.hrms.mapper.LeaveRequestMapper;
 import com.example.hrms.repository.LeaveBalanceRepository;
 import com.example.hrms.repository.LeaveRequestRepository;
+import com.example.hrms.service.AbsenceHeatmap;
+import com.example.hrms.service.LeaveBalanceLedger;
 import com.example.hrms.service.ManagerService;
-import jakarta.transaction.Transactional;
+import com.example.hrms.service.PendingSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * ManagerServiceImpl
@@ -24,8 +51,14 @@ import org.springframework.stereotype.Service;
  *
  * Responsibilities:
  *  - View all pending leave requests (Paginated)
- *  - Approve leave requests (with balance deduction)
+ *  - View pending leave requests without a COUNT query (for polling)
+ *  - Approve leave requests (with balance deduction
+ *    and a DEDUCT entry in the balance ledger)
  *  - Reject leave requests
+ *  - Approve or reject many leave requests at once
+ *  - Serve the absence heatmap (counts kept up to date on approval)
+ *  - Serve pending counts per department and leave type
+ *    (counts kept up to date on every decision)
  *
  * Security:
  *  - These operations are intended to be accessed only by MANAGER role.
@@ -36,21 +69,44 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class ManagerServiceImpl implements ManagerService {
 
+    // Longest range served by the absence heatmap (two years)
+    private static final int MAX_HEATMAP_DAYS = 732;
+
     private final LeaveRequestRepository leaveRequestRepository;
     private final LeaveBalanceRepository leaveBalanceRepository;
     private final LeaveRequestMapper leaveRequestMapper;
+    private final BulkProperties bulkProperties;
+    private final AbsenceHeatmap absenceHeatmap;
+    private final MeterRegistry meterRegistry;
+    private final LeaveBalanceLedger leaveBalanceLedger;
+    private final PendingSummary pendingSummary;
+    private final PagingProperties pagingProperties;
 
     public ManagerServiceImpl(LeaveRequestRepository leaveRequestRepository,
                               LeaveBalanceRepository leaveBalanceRepository,
-                              LeaveRequestMapper leaveRequestMapper) {
+                              LeaveRequestMapper leaveRequestMapper,
+                              BulkProperties bulkProperties,
+                              AbsenceHeatmap absenceHeatmap,
+                              MeterRegistry meterRegistry,
+                              LeaveBalanceLedger leaveBalanceLedger,
+                              PendingSummary pendingSummary,
+                              PagingProperties pagingProperties) {
         this.leaveRequestRepository = leaveRequestRepository;
         this.leaveBalanceRepository = leaveBalanceRepository;
         this.leaveRequestMapper = leaveRequestMapper;
+        this.bulkProperties = bulkProperties;
+        this.absenceHeatmap = absenceHeatmap;
+        this.meterRegistry = meterRegistry;
+        this.leaveBalanceLedger = leaveBalanceLedger;
+        this.pendingSummary = pendingSummary;
+        this.pagingProperties = pagingProperties;
     }
 
     /**
      * Fetch all pending leave requests (Paginated).
+     * Rows are read as DTOs (no entities) in a read-only transaction.
      */
+    @Transactional(readOnly = true)
     @Override
     public Page<LeaveRequestDTO> getPendingRequests(int page, int size) {
 
@@ -58,17 +114,75 @@ public class ManagerServiceImpl implements ManagerService {
 
         Pageable pageable = PageRequest.of(page, size);
 
-        Page<LeaveRequest> pendingPage =
+        Page<LeaveRequestDTO> pendingPage =
                 leaveRequestRepository.findByStatus(LeaveStatus.PENDING, pageable);
 
         log.debug("Fetched {} pending requests", pendingPage.getNumberOfElements());
 
-        return pendingPage.map(leaveRequestMapper::toDTO);
+        return pendingPage;
+    }
+
+    /**
+     * Fetch pending leave requests without counting them.
+     *
+     * One extra row is read to fill "hasNext", and the total
+     * comes from the in-memory PendingSummary (no COUNT query).
+     * Meant for screens that poll often.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public SlicePageDTO<LeaveRequestDTO> getPendingRequestsSlice(int page, int size) {
+
+        log.info("Fetching pending leave slice - page: {}, size: {}", page, size);
+
+        Pageable pageable = PageRequest.of(page, size);
+
+        Slice<LeaveRequestDTO> pendingSlice =
+                leaveRequestRepository.findSliceByStatus(LeaveStatus.PENDING, pageable);
+
+        log.debug("Fetched {} pending requests", pendingSlice.getNumberOfElements());
+
+        return new SlicePageDTO<>(pendingSlice, pendingSummary.getTotal());
+    }
+
+    /**
+     * Fetch pending leave requests after a cursor (keyset pagination).
+     *
+     * Uses "WHERE id > ? ORDER BY id LIMIT ?", so deep pages
+     * cost the same as the first one and no COUNT query is run.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageDTO<LeaveRequestDTO> getPendingRequestsAfter(String after, int limit) {
+
+        log.info("Fetching pending leave requests - after: {}, limit: {}", after, limit);
+
+        if (limit <= 0 || limit > pagingProperties.getMaxLimit()) {
+            log.warn("Invalid page limit: {}", limit);
+            throw new InvalidRequestException(
+                    "Limit must be between 1 and " + pagingProperties.getMaxLimit());
+        }
+
+        List<LeaveRequestDTO> rows = leaveRequestRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                LeaveStatus.PENDING, CursorPageDTO.decodeCursor(after), Limit.of(limit + 1));
+
+        log.debug("Fetched {} pending requests", rows.size());
+
+        return CursorPageDTO.of(rows, limit, LeaveRequestDTO::getId);
     }
 
     /**
      * Approves leave request and deducts leave balance.
      *
+     * The status moves PENDING → APPROVED with a guarded update
+     * (WHERE status = PENDING), so an approve and a reject racing
+     * on the same request cannot both succeed.
+     *
+     * The balance is deducted with a conditional update
+     * (remaining_days >= days), so concurrent approvals for
+     * the same employee cannot overdraw the balance.
+     * Approvals for other employees are not blocked.
+     *
      * Transactional:
      *  - Ensures balance deduction and status update
      *    happen atomically.
@@ -79,74 +193,424 @@ public class ManagerServiceImpl implements ManagerService {
 
         log.info("Attempting to approve leave request with ID: {}", requestId);
 
-        LeaveRequest request = leaveRequestRepository.findById(requestId)
-                .orElseThrow(() -> {
-                    log.error("Leave request not found with id: {}", requestId);
-                    return new ResourceNotFoundException(
-                            "Leave request not found with id: " + requestId);
-                });
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = ServiceMetrics.SUCCESS;
+        String leaveTag = ServiceMetrics.UNKNOWN;
 
-        if (request.getStatus() != LeaveStatus.PENDING) {
-            log.warn("Leave request already processed. Current status: {}", request.getStatus());
-            throw new InvalidRequestException("Leave already processed");
-        }
+        try {
 
-        LeaveBalance balance = leaveBalanceRepository
-                .findByEmployeeAndLeaveType(
-                        request.getEmployee(),
-                        request.getLeaveType()
-                )
-                .orElseThrow(() -> {
-                    log.error("Leave balance not found for employee during approval");
-                    return new ResourceNotFoundException("Leave balance not found");
-                });
+            LeaveRequest request = leaveRequestRepository.findWithDetailsById(requestId)
+                    .orElseThrow(() -> {
+                        log.error("Leave request not found with id: {}", requestId);
+                        return new ResourceNotFoundException(
+                                "Leave request not found with id: " + requestId);
+                    });
 
-        if (balance.getRemainingDays() < request.getTotalDays()) {
-            log.warn("Insufficient balance during approval. Available: {}, Required: {}",
-                    balance.getRemainingDays(), request.getTotalDays());
-            throw new InvalidRequestException("Insufficient leave balance during approval");
-        }
+            leaveTag = request.getLeaveType().getName().name();
+
+            if (leaveRequestRepository.updateStatus(
+                    requestId, LeaveStatus.PENDING, LeaveStatus.APPROVED) == 0) {
+                log.warn("Leave request already processed. ID: {}", requestId);
+                throw new InvalidRequestException("Leave already processed");
+            }
+
+            // Check and deduct in one statement, so two approvals
+            // for the same balance can never both pass the check
+            int updated = leaveBalanceRepository.deductDays(
+                    request.getEmployee().getId(),
+                    request.getLeaveType().getId(),
+                    request.getTotalDays(),
+                    1);
+
+            if (updated == 0) {
+
+                LeaveBalance balance = leaveBalanceRepository
+                        .findByEmployeeAndLeaveType(
+                                request.getEmployee(),
+                                request.getLeaveType()
+                        )
+                        .orElseThrow(() -> {
+                            log.error("Leave balance not found for employee during approval");
+                            return new ResourceNotFoundException("Leave balance not found");
+                        });
 
-        // Deduct balance
-        int updatedBalance = balance.getRemainingDays() - request.getTotalDays();
-        balance.setRemainingDays(updatedBalance);
-        leaveBalanceRepository.save(balance);
+                // Exception rolls back the status update as well
+                log.warn("Insufficient balance during approval. Available: {}, Required: {}",
+                        balance.getRemainingDays(), request.getTotalDays());
+                throw new InvalidRequestException("Insufficient leave balance during approval");
+            }
 
-        log.debug("Leave balance updated. New balance: {}", updatedBalance);
+            log.debug("Leave balance deducted by {} days", request.getTotalDays());
 
-        request.setStatus(LeaveStatus.APPROVED);
-        LeaveRequest saved = leaveRequestRepository.save(request);
+            leaveBalanceLedger.recordDeductions(List.of(request));
 
-        log.info("Leave request approved successfully for ID: {}", requestId);
+            // Counted once the transaction commits
+            absenceHeatmap.recordApproved(request);
+            pendingSummary.recordDecided(request);
+            recordApprovedDays(request);
 
-        return leaveRequestMapper.toDTO(saved);
+            log.info("Leave request approved successfully for ID: {}", requestId);
+
+            LeaveRequestDTO response = leaveRequestMapper.toDTO(request);
+            response.setStatus(LeaveStatus.APPROVED);
+
+            return response;
+
+        } catch (RuntimeException ex) {
+            outcome = ServiceMetrics.outcome(ex);
+            throw ex;
+        } finally {
+            ServiceMetrics.stop(sample, meterRegistry, ServiceMetrics.LEAVE_APPROVE,
+                    "outcome", outcome, "leave_type", leaveTag);
+        }
     }
 
     /**
      * Rejects leave request.
+     *
+     * The request is read once (with employee and leave type),
+     * then the status moves PENDING → REJECTED with a guarded update.
+     * The response is built from the loaded copy, without reading it again.
      */
+    @Transactional
     @Override
     public LeaveRequestDTO rejectLeave(Long requestId) {
 
         log.info("Attempting to reject leave request with ID: {}", requestId);
 
-        LeaveRequest request = leaveRequestRepository.findById(requestId)
-                .orElseThrow(() -> {
-                    log.error("Leave request not found with id: {}", requestId);
-                    return new ResourceNotFoundException(
-                            "Leave request not found with id: " + requestId);
-                });
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = ServiceMetrics.SUCCESS;
+        String leaveTag = ServiceMetrics.UNKNOWN;
+
+        try {
+
+            LeaveRequest request = leaveRequestRepository.findWithDetailsById(requestId)
+                    .orElseThrow(() -> {
+                        log.error("Leave request not found with id: {}", requestId);
+                        return new ResourceNotFoundException(
+                                "Leave request not found with id: " + requestId);
+                    });
+
+            leaveTag = request.getLeaveType().getName().name();
+
+            if (leaveRequestRepository.updateStatus(
+                    requestId, LeaveStatus.PENDING, LeaveStatus.REJECTED) == 0) {
+                log.warn("Leave request already processed. ID: {}", requestId);
+                throw new InvalidRequestException("Leave already processed");
+            }
+
+            pendingSummary.recordDecided(request);
+
+            log.info("Leave request rejected successfully for ID: {}", requestId);
+
+            LeaveRequestDTO response = leaveRequestMapper.toDTO(request);
+            response.setStatus(LeaveStatus.REJECTED);
+
+            return response;
 
-        if (request.getStatus() != LeaveStatus.PENDING) {
-            log.warn("Leave request already processed. Current status: {}", request.getStatus());
-            throw new InvalidRequestException("Leave already processed");
+        } catch (RuntimeException ex) {
+            outcome = ServiceMetrics.outcome(ex);
+            throw ex;
+        } finally {
+            ServiceMetrics.stop(sample, meterRegistry, ServiceMetrics.LEAVE_REJECT,
+                    "outcome", outcome, "leave_type", leaveTag);
         }
+    }
 
-        request.setStatus(LeaveStatus.REJECTED);
-        LeaveRequest saved = leaveRequestRepository.save(request);
+    /**
+     * Approves or rejects many leave requests in one transaction.
+     *
+     * Steps:
+     *  - Load requests with their employee and leave type
+     *    (in chunks of hrms.bulk.chunk-size)
+     *  - Skip missing or already processed requests
+     *  - Move every request with a guarded status update
+     *    (WHERE status = PENDING)
+     *  - For approvals, load all needed balances in one query and
+     *    deduct per (employee, leave type) group in request ID order
+     *
+     * A failing request does not stop the others.
+     * Every ID gets its own result in the same order as the input;
+     * an ID repeated in the list is decided once, its later
+     * copies are reported as failed.
+     *
+     * At most hrms.bulk.max-rows IDs are accepted per call.
+     */
+    @Transactional
+    @Override
+    public List<LeaveDecisionResultDTO> decideLeaves(List<Long> requestIds, LeaveStatus decision) {
 
-        log.info("Leave request rejected successfully for ID: {}", requestId);
+        log.info("Applying decision {} to {} leave requests", decision, requestIds.size());
 
-        return leaveRequestMapper.toDTO(saved);
+        if (decision != LeaveStatus.APPROVED && decision != LeaveStatus.REJECTED) {
+            log.warn("Invalid bulk decision received: {}", decision);
+            throw new InvalidRequestException("Decision must be APPROVED or REJECTED");
+        }
+
+        if (requestIds.size() > bulkProperties.getMaxRows()) {
+            log.warn("Bulk decision with {} leave requests exceeds the limit", requestIds.size());
+            throw new InvalidRequestException(
+                    "At most " + bulkProperties.getMaxRows() + " leave requests can be decided at once");
+        }
+
+        Set<Long> uniqueIds = new LinkedHashSet<>(requestIds);
+        Map<Long, LeaveDecisionResultDTO> results = new LinkedHashMap<>();
+        Map<BalanceKey, List<LeaveRequest>> approvalGroups = new HashMap<>();
+
+        for (List<Long> chunk : chunks(new ArrayList<>(uniqueIds))) {
+
+            Map<Long, LeaveRequest> loaded = new HashMap<>();
+            for (LeaveRequest request : leaveRequestRepository.findWithDetailsByIdIn(chunk)) {
+                loaded.put(request.getId(), request);
+            }
+
+            for (Long id : chunk) {
+
+                LeaveRequest request = loaded.get(id);
+
+                if (request == null) {
+                    results.put(id, failure(id, null, "Leave request not found with id: " + id));
+                    continue;
+                }
+
+                if (request.getStatus() != LeaveStatus.PENDING
+                        || leaveRequestRepository.updateStatus(id, LeaveStatus.PENDING, decision) == 0) {
+                    results.put(id, failure(id, request.getStatus(), "Leave already processed"));
+                    continue;
+                }
+
+                // Approvals undone below are counted as pending again
+                pendingSummary.recordDecided(request);
+
+                if (decision == LeaveStatus.REJECTED) {
+                    results.put(id, success(id, LeaveStatus.REJECTED));
+                    continue;
+                }
+
+                // Result is filled after the balance check
+                results.put(id, null);
+                approvalGroups
+                        .computeIfAbsent(BalanceKey.of(request), key -> new ArrayList<>())
+                        .add(request);
+            }
+        }
+
+        if (!approvalGroups.isEmpty()) {
+            approveGroups(approvalGroups, results);
+        }
+
+        // One result per input position, repeated IDs fail
+        List<LeaveDecisionResultDTO> response = new ArrayList<>(requestIds.size());
+        Set<Long> decided = new HashSet<>();
+
+        for (Long id : requestIds) {
+            response.add(decided.add(id)
+                    ? results.get(id)
+                    : failure(id, null, "Duplicate leave request id: " + id));
+        }
+
+        log.info("Bulk decision completed. Applied: {}, Requested: {}",
+                results.values().stream().filter(LeaveDecisionResultDTO::isSuccess).count(),
+                requestIds.size());
+
+        return response;
+    }
+
+    /**
+     * Deducts balances for grouped approvals.
+     *
+     * The requests of every group are already APPROVED
+     * by the guarded status update; the ones that cannot be
+     * covered by the balance are moved back to PENDING.
+     *
+     * All balances are loaded with one query.
+     * Inside a group, requests are approved in ID order
+     * while the remaining balance covers them, and the group total
+     * is deducted with one conditional update.
+     */
+    private void approveGroups(Map<BalanceKey, List<LeaveRequest>> approvalGroups,
+                               Map<Long, LeaveDecisionResultDTO> results) {
+
+        Set<Long> employeeIds = new LinkedHashSet<>();
+        Set<Long> leaveTypeIds = new LinkedHashSet<>();
+
+        for (BalanceKey key : approvalGroups.keySet()) {
+            employeeIds.add(key.employeeId());
+            leaveTypeIds.add(key.leaveTypeId());
+        }
+
+        Map<BalanceKey, LeaveBalance> balances = new HashMap<>();
+        for (LeaveBalance balance : leaveBalanceRepository
+                .findByEmployeeIdInAndLeaveTypeIdIn(employeeIds, leaveTypeIds)) {
+            balances.put(BalanceKey.of(balance), balance);
+        }
+
+        int deductions = 0;
+
+        for (Map.Entry<BalanceKey, List<LeaveRequest>> group : approvalGroups.entrySet()) {
+
+            LeaveBalance balance = balances.get(group.getKey());
+            List<LeaveRequest> requests = group.getValue();
+            requests.sort(Comparator.comparing(LeaveRequest::getId));
+
+            if (balance == null) {
+                log.error("Leave balance not found during bulk approval for {}", group.getKey());
+                for (LeaveRequest request : requests) {
+                    undoApproval(request, results, "Leave balance not found");
+                }
+                continue;
+            }
+
+            int remaining = balance.getRemainingDays();
+            List<LeaveRequest> approvable = new ArrayList<>();
+
+            for (LeaveRequest request : requests) {
+
+                if (remaining < request.getTotalDays()) {
+                    log.warn("Insufficient balance during bulk approval for request ID: {}", request.getId());
+                    undoApproval(request, results, "Insufficient leave balance during approval");
+                    continue;
+                }
+
+                remaining -= request.getTotalDays();
+                approvable.add(request);
+            }
+
+            int plannedDays = balance.getRemainingDays() - remaining;
+
+            if (plannedDays == 0) {
+                continue;
+            }
+
+            // One conditional update for the whole group
+            if (leaveBalanceRepository.deductDays(
+                    group.getKey().employeeId(), group.getKey().leaveTypeId(), plannedDays,
+                    approvable.size()) == 1) {
+
+                for (LeaveRequest request : approvable) {
+                    results.put(request.getId(), success(request.getId(), LeaveStatus.APPROVED));
+                    absenceHeatmap.recordApproved(request);
+                    recordApprovedDays(request);
+                }
+                leaveBalanceLedger.recordDeductions(approvable);
+                deductions++;
+                continue;
+            }
+
+            // Balance changed after it was read: deduct request by request
+            log.warn("Leave balance changed during bulk approval for {}, deducting one by one",
+                    group.getKey());
+
+            List<LeaveRequest> deducted = new ArrayList<>();
+
+            for (LeaveRequest request : approvable) {
+
+                if (leaveBalanceRepository.deductDays(group.getKey().employeeId(),
+                        group.getKey().leaveTypeId(), request.getTotalDays(), 1) == 1) {
+                    results.put(request.getId(), success(request.getId(), LeaveStatus.APPROVED));
+                    absenceHeatmap.recordApproved(request);
+                    recordApprovedDays(request);
+                    deducted.add(request);
+                } else {
+                    undoApproval(request, results, "Insufficient leave balance during approval");
+                }
+                deductions++;
+            }
+
+            if (!deducted.isEmpty()) {
+                leaveBalanceLedger.recordDeductions(deducted);
+            }
+        }
+
+        log.debug("Ran {} balance deductions during bulk approval", deductions);
+    }
+
+    /**
+     * Returns absent headcounts per day for [from, to],
+     * served from the in-memory AbsenceHeatmap (no query).
+     */
+    @Override
+    public AbsenceHeatmapDTO getAbsenceHeatmap(Department department, LocalDate from, LocalDate to) {
+
+        log.info("Fetching absence heatmap - department: {}, from: {}, to: {}", department, from, to);
+
+        if (to.isBefore(from)) {
+            log.warn("Invalid heatmap range: {} - {}", from, to);
+            throw new InvalidRequestException("End date cannot be before start date");
+        }
+
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_HEATMAP_DAYS) {
+            log.warn("Heatmap range too long: {} - {}", from, to);
+            throw new InvalidRequestException(
+                    "Heatmap range cannot be longer than " + MAX_HEATMAP_DAYS + " days");
+        }
+
+        return absenceHeatmap.getHeatmap(department, from, to);
+    }
+
+    /**
+     * Returns pending counts per department and leave type,
+     * served from the in-memory PendingSummary (no query).
+     */
+    @Override
+    public PendingSummaryDTO getPendingSummary() {
+
+        log.info("Fetching pending summary");
+
+        return pendingSummary.getSummary();
+    }
+
+    /**
+     * Moves a request that could not be approved back to PENDING.
+     * The row is still locked by this transaction, so nobody else
+     * has seen the APPROVED status.
+     */
+    private void undoApproval(LeaveRequest request,
+                              Map<Long, LeaveDecisionResultDTO> results,
+                              String message) {
+        leaveRequestRepository.updateStatus(request.getId(), LeaveStatus.APPROVED, LeaveStatus.PENDING);
+        pendingSummary.recordPending(request);
+        results.put(request.getId(), failure(request.getId(), LeaveStatus.PENDING, message));
+    }
+
+    // Approved leave days per leave type, used for capacity dashboards
+    private void recordApprovedDays(LeaveRequest request) {
+        meterRegistry.counter(ServiceMetrics.LEAVE_APPROVED_DAYS,
+                        "leave_type", request.getLeaveType().getName().name())
+                .increment(request.getTotalDays());
+    }
+
+    private List<List<Long>> chunks(List<Long> ids) {
+
+        int chunkSize = Math.max(1, bulkProperties.getChunkSize());
+        List<List<Long>> chunks = new ArrayList<>();
+
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            chunks.add(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+        }
+
+        return chunks;
+    }
+
+    private static LeaveDecisionResultDTO success(Long requestId, LeaveStatus status) {
+        return new LeaveDecisionResultDTO(requestId, true, status, null);
+    }
+
+    private static LeaveDecisionResultDTO failure(Long requestId, LeaveStatus status, String message) {
+        return new LeaveDecisionResultDTO(requestId, false, status, message);
+    }
+
+    /**
+     * Identifies one leave balance: (employee, leave type).
+     */
+    private record BalanceKey(Long employeeId, Long leaveTypeId) {
+
+        static BalanceKey of(LeaveRequest request) {
+            return new BalanceKey(request.getEmployee().getId(), request.getLeaveType().getId());
+        }
+
+        static BalanceKey of(LeaveBalance balance) {
+            return new BalanceKey(balance.getEmployee().getId(), balance.getLeaveType().getId());
+        }
     }
 }
\ No newline at end of file
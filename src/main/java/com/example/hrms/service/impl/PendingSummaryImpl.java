@@ -0,0 +1,198 @@
+package com.example.hrms.service.impl;
+
+import com.example.hrms.dto.PendingSummaryDTO;
+import com.example.hrms.entity.Department;
+import com.example.hrms.entity.LeaveRequest;
+import com.example.hrms.entity.LeaveStatus;
+import com.example.hrms.entity.LeaveTypeEnum;
+import com.example.hrms.repository.LeaveRequestRepository;
+import com.example.hrms.service.PendingSummary;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PendingSummaryImpl
+ *
+ * Keeps one LongAdder per department and leave type:
+ *
+ *   slot = department * number of leave types + leave type
+ *
+ * Applying, approving and rejecting only add +1 / -1 to a slot
+ * (after commit), so writers on different slots never contend
+ * and reading the summary sums 12 adders.
+ *
+ * Reconcile:
+ *  - Runs at startup and every hrms.pending-summary.reconcile-ms
+ *    (default 5 minutes) with one grouped COUNT query
+ *  - Every slot is moved to the counted value
+ *  - A decision committed while the query runs can leave a slot
+ *    one off until the next reconcile
+ */
+@Service
+@Slf4j
+public class PendingSummaryImpl implements PendingSummary {
+
+    private static final Department[] DEPARTMENTS = Department.values();
+    private static final LeaveTypeEnum[] LEAVE_TYPES = LeaveTypeEnum.values();
+
+    private final LeaveRequestRepository leaveRequestRepository;
+
+    private final LongAdder[] counts = new LongAdder[DEPARTMENTS.length * LEAVE_TYPES.length];
+
+    private volatile LocalDateTime reconciledAt;
+
+    public PendingSummaryImpl(LeaveRequestRepository leaveRequestRepository) {
+        this.leaveRequestRepository = leaveRequestRepository;
+
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    @PostConstruct
+    public void initialize() {
+        reconcile();
+    }
+
+    @Override
+    public void recordPending(LeaveRequest request) {
+        afterCommit(request, 1);
+    }
+
+    @Override
+    public void recordDecided(LeaveRequest request) {
+        afterCommit(request, -1);
+    }
+
+    @Override
+    public PendingSummaryDTO getSummary() {
+
+        PendingSummaryDTO summary = new PendingSummaryDTO();
+        long total = 0;
+
+        for (LeaveTypeEnum leaveType : LEAVE_TYPES) {
+            summary.getByLeaveType().put(leaveType, 0L);
+        }
+
+        for (Department department : DEPARTMENTS) {
+
+            Map<LeaveTypeEnum, Long> row = new EnumMap<>(LeaveTypeEnum.class);
+            long departmentTotal = 0;
+
+            for (LeaveTypeEnum leaveType : LEAVE_TYPES) {
+
+                // Never negative, even while a reconcile catches up
+                long count = Math.max(0, counts[slot(department, leaveType)].sum());
+
+                row.put(leaveType, count);
+                summary.getByLeaveType().merge(leaveType, count, Long::sum);
+                departmentTotal += count;
+            }
+
+            summary.getCounts().put(department, row);
+            summary.getByDepartment().put(department, departmentTotal);
+            total += departmentTotal;
+        }
+
+        summary.setTotal(total);
+        summary.setReconciledAt(reconciledAt);
+
+        return summary;
+    }
+
+    @Override
+    public long getTotal() {
+
+        long total = 0;
+
+        for (LongAdder counter : counts) {
+            total += Math.max(0, counter.sum());
+        }
+
+        return total;
+    }
+
+    /**
+     * Counts PENDING requests per department and leave type
+     * and moves every counter to the counted value.
+     */
+    @Override
+    @Scheduled(initialDelayString = "${hrms.pending-summary.reconcile-ms:300000}",
+            fixedDelayString = "${hrms.pending-summary.reconcile-ms:300000}")
+    public synchronized void reconcile() {
+
+        try {
+            long[] counted = new long[counts.length];
+
+            for (LeaveRequestRepository.StatusCount row :
+                    leaveRequestRepository.countByDepartmentAndLeaveType(LeaveStatus.PENDING)) {
+
+                if (row.getDepartment() != null && row.getLeaveType() != null) {
+                    counted[slot(row.getDepartment(), row.getLeaveType())] = row.getCount();
+                }
+            }
+
+            long drift = 0;
+
+            for (int i = 0; i < counts.length; i++) {
+                long difference = counted[i] - counts[i].sum();
+                counts[i].add(difference);
+                drift += Math.abs(difference);
+            }
+
+            reconciledAt = LocalDateTime.now();
+
+            if (drift > 0) {
+                log.info("Pending summary reconciled, corrected by {} requests", drift);
+            } else {
+                log.debug("Pending summary reconciled, no difference");
+            }
+
+        } catch (RuntimeException ex) {
+            // Keep the counters, the next run will try again
+            log.warn("Could not reconcile pending summary: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Applies the change once the current transaction commits,
+     * so a rolled back request or decision never shows up in the counts.
+     */
+    private void afterCommit(LeaveRequest request, int delta) {
+
+        Department department = request.getEmployee().getDepartment();
+        LeaveTypeEnum leaveType = request.getLeaveType().getName();
+
+        if (department == null || leaveType == null) {
+            log.debug("Skipping pending count without department or leave type");
+            return;
+        }
+
+        LongAdder counter = counts[slot(department, leaveType)];
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counter.add(delta);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                counter.add(delta);
+            }
+        });
+    }
+
+    private static int slot(Department department, LeaveTypeEnum leaveType) {
+        return department.ordinal() * LEAVE_TYPES.length + leaveType.ordinal();
+    }
+}
@@ -0,0 +1,402 @@
+package com.example.hrms.service.impl;
+
+import com.example.hrms.config.RolloverProperties;
+import com.example.hrms.dto.RolloverRunDTO;
+import com.example.hrms.entity.Department;
+import com.example.hrms.entity.LeaveBalance;
+import com.example.hrms.entity.LeaveTypeEnum;
+import com.example.hrms.entity.LeaveType;
+import com.example.hrms.entity.RolloverRun;
+import com.example.hrms.entity.RolloverStatus;
+import com.example.hrms.exception.InvalidRequestException;
+import com.example.hrms.exception.ResourceNotFoundException;
+import com.example.hrms.repository.EmployeesRepository;
+import com.example.hrms.repository.LeaveBalanceRepository;
+import com.example.hrms.repository.RolloverRunRepository;
+import com.example.hrms.service.LeaveBalanceLedger;
+import com.example.hrms.service.LeaveTypeService;
+import com.example.hrms.service.RolloverService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * RolloverServiceImpl
+ *
+ * Service layer responsible for the year-end rollover.
+ *
+ * How a run works:
+ *  - The coordinator reads leave balance ids in keyset order
+ *    (id > last id, hrms.rollover.chunk-size at a time)
+ *  - Every chunk is handed to a fixed pool of hrms.rollover.workers
+ *    threads; at most 2 × workers chunks are in flight
+ *  - A worker locks the balances of its chunk that are not rolled
+ *    into the year yet, sets grant + carried days and writes
+ *    EXPIRE / GRANT ledger entries, all in one transaction
+ *  - Chunks are confirmed in id order: the checkpoint
+ *    (RolloverRun.lastBalanceId) only moves past a chunk when
+ *    every chunk before it is committed
+ *
+ * After a failure or a restart, the run continues after the checkpoint.
+ * Chunks past the checkpoint that were already committed are skipped
+ * row by row (balanceYear is already the target year).
+ *
+ * Metrics:
+ *  - hrms.rollover.chunk    → timer per chunk (outcome tag)
+ *  - hrms.rollover.balances → counter of rolled balances (throughput)
+ */
+@Service
+@Slf4j
+public class RolloverServiceImpl implements RolloverService {
+
+    private final LeaveBalanceRepository leaveBalanceRepository;
+    private final EmployeesRepository employeesRepository;
+    private final RolloverRunRepository rolloverRunRepository;
+    private final LeaveTypeService leaveTypeService;
+    private final LeaveBalanceLedger leaveBalanceLedger;
+    private final RolloverProperties rolloverProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // One run at a time
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public RolloverServiceImpl(LeaveBalanceRepository leaveBalanceRepository,
+                               EmployeesRepository employeesRepository,
+                               RolloverRunRepository rolloverRunRepository,
+                               LeaveTypeService leaveTypeService,
+                               LeaveBalanceLedger leaveBalanceLedger,
+                               RolloverProperties rolloverProperties,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry) {
+        this.leaveBalanceRepository = leaveBalanceRepository;
+        this.employeesRepository = employeesRepository;
+        this.rolloverRunRepository = rolloverRunRepository;
+        this.leaveTypeService = leaveTypeService;
+        this.leaveBalanceLedger = leaveBalanceLedger;
+        this.rolloverProperties = rolloverProperties;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public RolloverRunDTO startRollover(int year) {
+
+        RolloverRun run = begin(year);
+
+        Thread.ofPlatform().name("rollover-" + year).start(() -> {
+            try {
+                process(run);
+            } catch (RuntimeException ex) {
+                // Already logged and saved as FAILED
+            } finally {
+                running.set(false);
+            }
+        });
+
+        return toDTO(run);
+    }
+
+    @Override
+    public RolloverRunDTO runRollover(int year) {
+
+        RolloverRun run = begin(year);
+
+        try {
+            return toDTO(process(run));
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    public RolloverRunDTO getRollover(int year) {
+
+        return rolloverRunRepository.findByYear(year)
+                .map(this::toDTO)
+                .orElseThrow(() -> {
+                    log.warn("No rollover found for year: {}", year);
+                    return new ResourceNotFoundException("No rollover found for year: " + year);
+                });
+    }
+
+    /**
+     * Creates the run of the year, or marks an unfinished one as RUNNING again.
+     *
+     * Accepted years:
+     *  - Next year, from hrms.rollover.start-window-days before January 1
+     *  - The current year (a late or resumed rollover)
+     * and never a year at or below a completed run, or below any
+     * other run: those balances were already rolled further.
+     */
+    private RolloverRun begin(int year) {
+
+        LocalDate today = LocalDate.now();
+        int currentYear = today.getYear();
+
+        if (year != currentYear && year != currentYear + 1) {
+            log.warn("Invalid rollover year: {}", year);
+            throw new InvalidRequestException(
+                    "Rollover year must be " + currentYear + " or " + (currentYear + 1));
+        }
+
+        LocalDate opensOn = LocalDate.of(year, 1, 1)
+                .minusDays(Math.max(0, rolloverProperties.getStartWindowDays()));
+
+        if (today.isBefore(opensOn)) {
+            log.warn("Rollover into {} refused, it opens on {}", year, opensOn);
+            throw new InvalidRequestException("Rollover into " + year + " can start from " + opensOn);
+        }
+
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Rollover into {} refused, another rollover is running", year);
+            throw new InvalidRequestException("A year-end rollover is already running");
+        }
+
+        try {
+            return transactionTemplate.execute(status -> {
+
+                // Checked while holding the running flag
+                rolloverRunRepository.findFirstByOrderByYearDesc().ifPresent(latest -> {
+                    if (latest.getYear() > year
+                            || (latest.getYear() == year && latest.getStatus() == RolloverStatus.COMPLETED)) {
+                        log.warn("Rollover into {} refused, latest run is {} ({})",
+                                year, latest.getYear(), latest.getStatus());
+                        throw new InvalidRequestException("Rollover into " + year
+                                + " is not allowed, the rollover into " + latest.getYear()
+                                + " is " + latest.getStatus());
+                    }
+                });
+
+                RolloverRun run = rolloverRunRepository.findByYear(year).orElseGet(() -> {
+                    RolloverRun created = new RolloverRun();
+                    created.setYear(year);
+                    created.setStartedAt(LocalDateTime.now());
+                    return created;
+                });
+
+                run.setStatus(RolloverStatus.RUNNING);
+                run.setError(null);
+
+                return rolloverRunRepository.save(run);
+            });
+
+        } catch (RuntimeException ex) {
+            running.set(false);
+            throw ex;
+        }
+    }
+
+    /**
+     * Coordinator: reads chunk bounds, feeds the workers
+     * and moves the checkpoint in id order.
+     */
+    private RolloverRun process(RolloverRun run) {
+
+        int year = run.getYear();
+        int chunkSize = Math.max(1, rolloverProperties.getChunkSize());
+        int workers = Math.max(1, rolloverProperties.getWorkers());
+
+        log.info("Starting rollover into {} after balance ID: {} ({} workers, chunks of {})",
+                year, run.getLastBalanceId(), workers, chunkSize);
+
+        // Leave types come from the in-memory registry (no query)
+        Map<Long, LeaveTypeEnum> leaveTypes = new HashMap<>();
+        for (LeaveType leaveType : leaveTypeService.getAllLeaveTypes()) {
+            leaveTypes.put(leaveType.getId(), leaveType.getName());
+        }
+
+        long started = System.nanoTime();
+        long processedBefore = run.getProcessedBalances();
+
+        ExecutorService pool = Executors.newFixedThreadPool(workers,
+                Thread.ofPlatform().name("rollover-worker-", 1).factory());
+        Deque<Chunk> inFlight = new ArrayDeque<>();
+
+        try {
+            long afterId = run.getLastBalanceId();
+
+            while (true) {
+
+                List<Long> ids = leaveBalanceRepository.findIdsAfter(afterId, Limit.of(chunkSize));
+
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                long fromId = afterId;
+                long upToId = ids.get(ids.size() - 1);
+
+                inFlight.addLast(new Chunk(upToId,
+                        pool.submit(() -> processChunk(fromId, upToId, year, leaveTypes))));
+
+                afterId = upToId;
+
+                // Bounded: wait for the oldest chunk before reading more ids
+                if (inFlight.size() >= workers * 2) {
+                    confirm(run, inFlight.removeFirst());
+                }
+            }
+
+            while (!inFlight.isEmpty()) {
+                confirm(run, inFlight.removeFirst());
+            }
+
+            finish(run, RolloverStatus.COMPLETED, null);
+
+            long processed = run.getProcessedBalances() - processedBefore;
+            long millis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+
+            log.info("Rollover into {} completed. Balances: {}, Time: {} ms, Rate: {} balances/s",
+                    year, processed, millis, processed * 1000 / millis);
+
+            return run;
+
+        } catch (RuntimeException ex) {
+
+            log.error("Rollover into {} failed after balance ID: {}", year, run.getLastBalanceId(), ex);
+
+            for (Chunk chunk : inFlight) {
+                chunk.result().cancel(false);
+            }
+
+            finish(run, RolloverStatus.FAILED, ex.getMessage());
+            throw ex;
+
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Worker: rolls over the balances with afterId < id <= upToId.
+     * Returns the number of balances changed.
+     */
+    private int processChunk(long afterId, long upToId, int year, Map<Long, LeaveTypeEnum> leaveTypes) {
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = ServiceMetrics.SUCCESS;
+
+        try {
+            int changed = transactionTemplate.execute(status -> {
+
+                List<LeaveBalance> balances = leaveBalanceRepository.findForRollover(afterId, upToId, year);
+
+                if (balances.isEmpty()) {
+                    return 0;
+                }
+
+                Set<Long> employeeIds = new HashSet<>();
+                for (LeaveBalance balance : balances) {
+                    employeeIds.add(balance.getEmployee().getId());
+                }
+
+                Map<Long, Department> departments = new HashMap<>();
+                for (EmployeesRepository.EmployeeDepartment row : employeesRepository.findDepartments(employeeIds)) {
+                    departments.put(row.getId(), row.getDepartment());
+                }
+
+                for (LeaveBalance balance : balances) {
+
+                    Department department = departments.get(balance.getEmployee().getId());
+                    LeaveTypeEnum leaveType = leaveTypes.get(balance.getLeaveType().getId());
+
+                    int remaining = Math.max(0, balance.getRemainingDays());
+                    int carried = Math.min(remaining, rolloverProperties.capFor(department, leaveType));
+                    int granted = LeaveEntitlements.annualDays(department, leaveType);
+
+                    balance.setRemainingDays(carried + granted);
+                    balance.setBalanceYear(year);
+
+                    leaveBalanceLedger.recordRollover(balance, remaining - carried, granted, year);
+                }
+
+                return balances.size();
+            });
+
+            meterRegistry.counter(ServiceMetrics.ROLLOVER_BALANCES).increment(changed);
+
+            log.debug("Rollover chunk ({}, {}] committed with {} balances", afterId, upToId, changed);
+
+            return changed;
+
+        } catch (RuntimeException ex) {
+            outcome = ServiceMetrics.outcome(ex);
+            throw ex;
+        } finally {
+            ServiceMetrics.stop(sample, meterRegistry, ServiceMetrics.ROLLOVER_CHUNK, "outcome", outcome);
+        }
+    }
+
+    /**
+     * Waits for a chunk and saves the checkpoint after it.
+     */
+    private void confirm(RolloverRun run, Chunk chunk) {
+
+        int changed;
+
+        try {
+            changed = chunk.result().get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Rollover interrupted", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Rollover chunk failed", ex.getCause());
+        }
+
+        run.setLastBalanceId(chunk.upToId());
+        run.setProcessedBalances(run.getProcessedBalances() + changed);
+
+        transactionTemplate.executeWithoutResult(status -> rolloverRunRepository.save(run));
+    }
+
+    private void finish(RolloverRun run, RolloverStatus status, String error) {
+
+        run.setStatus(status);
+        run.setFinishedAt(LocalDateTime.now());
+        run.setError(error == null || error.length() <= 1000 ? error : error.substring(0, 1000));
+
+        transactionTemplate.executeWithoutResult(tx -> rolloverRunRepository.save(run));
+    }
+
+    private RolloverRunDTO toDTO(RolloverRun run) {
+
+        RolloverRunDTO dto = new RolloverRunDTO();
+        dto.setYear(run.getYear());
+        dto.setStatus(run.getStatus());
+        dto.setLastBalanceId(run.getLastBalanceId());
+        dto.setProcessedBalances(run.getProcessedBalances());
+        dto.setStartedAt(run.getStartedAt());
+        dto.setFinishedAt(run.getFinishedAt());
+        dto.setError(run.getError());
+
+        return dto;
+    }
+
+    /**
+     * A submitted chunk: upper id bound and the worker result.
+     */
+    private record Chunk(long upToId, Future<Integer> result) {
+    }
+}
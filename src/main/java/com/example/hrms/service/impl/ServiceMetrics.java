@@ -0,0 +1,53 @@
+package com.example.hrms.service.impl;
+
+import com.example.hrms.exception.DuplicateResourceException;
+import com.example.hrms.exception.InvalidRequestException;
+import com.example.hrms.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * ServiceMetrics
+ *
+ * Metric names and tag values shared by the service timers.
+ *
+ * Every timer has an "outcome" tag:
+ *  - success
+ *  - invalid    → InvalidRequestException (400)
+ *  - not_found  → ResourceNotFoundException (404)
+ *  - duplicate  → DuplicateResourceException (409)
+ *  - error      → anything else
+ */
+final class ServiceMetrics {
+
+    static final String LEAVE_APPLY = "hrms.leave.apply";
+    static final String LEAVE_APPROVE = "hrms.leave.approve";
+    static final String LEAVE_REJECT = "hrms.leave.reject";
+    static final String LEAVE_APPROVED_DAYS = "hrms.leave.approved.days";
+    static final String EMPLOYEE_CREATE = "hrms.employee.create";
+    static final String ROLLOVER_CHUNK = "hrms.rollover.chunk";
+    static final String ROLLOVER_BALANCES = "hrms.rollover.balances";
+
+    static final String SUCCESS = "success";
+    static final String UNKNOWN = "unknown";
+
+    private ServiceMetrics() {
+    }
+
+    static String outcome(RuntimeException ex) {
+        if (ex instanceof InvalidRequestException) {
+            return "invalid";
+        }
+        if (ex instanceof ResourceNotFoundException) {
+            return "not_found";
+        }
+        if (ex instanceof DuplicateResourceException) {
+            return "duplicate";
+        }
+        return "error";
+    }
+
+    static void stop(Timer.Sample sample, MeterRegistry registry, String name, String... tags) {
+        sample.stop(Timer.builder(name).tags(tags).register(registry));
+    }
+}
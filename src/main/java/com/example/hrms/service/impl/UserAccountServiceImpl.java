@@ -0,0 +1,269 @@
+package com.example.hrms.service.impl;
+
+import com.example.hrms.config.HrmsUser;
+import com.example.hrms.config.PrincipalCacheProperties;
+import com.example.hrms.dto.UserAccountDTO;
+import com.example.hrms.dto.UserAccountRequestDTO;
+import com.example.hrms.entity.Employee;
+import com.example.hrms.entity.UserAccount;
+import com.example.hrms.entity.UserRole;
+import com.example.hrms.exception.InvalidRequestException;
+import com.example.hrms.exception.ResourceNotFoundException;
+import com.example.hrms.repository.EmployeesRepository;
+import com.example.hrms.repository.UserAccountRepository;
+import com.example.hrms.service.UserAccountService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UserAccountServiceImpl
+ *
+ * Service layer responsible for login accounts.
+ *
+ * Responsibilities:
+ *  - Creates the default accounts (manager, employee) on an empty database
+ *  - Creates, changes and deletes accounts (manager API)
+ *  - Loads accounts for Spring Security (UserDetailsService)
+ *
+ * Account cache:
+ *  - Loaded accounts are kept by username for hrms.security.principal-cache.ttl,
+ *    so authenticating a request does not query the database
+ *  - At most max-entries are kept; when full, expired entries are removed
+ *    and, if it is still full, the account is just not cached
+ *  - Unknown usernames are never cached
+ *  - A change or delete removes the account after its transaction commits.
+ *    Every removal also bumps a generation counter: a load that read the
+ *    database before the removal does not put its (old) result in the cache
+ *
+ * The cache holds plain values, every load builds a new HrmsUser,
+ * because Spring Security erases the password of the returned user.
+ */
+@Service
+@Slf4j
+public class UserAccountServiceImpl implements UserAccountService, UserDetailsService {
+
+    private final UserAccountRepository userAccountRepository;
+    private final EmployeesRepository employeesRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final PrincipalCacheProperties cacheProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, CachedAccount> accounts = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public UserAccountServiceImpl(UserAccountRepository userAccountRepository,
+                                  EmployeesRepository employeesRepository,
+                                  PasswordEncoder passwordEncoder,
+                                  PrincipalCacheProperties cacheProperties,
+                                  TransactionTemplate transactionTemplate) {
+        this.userAccountRepository = userAccountRepository;
+        this.employeesRepository = employeesRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.cacheProperties = cacheProperties;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Creates the default accounts at application startup
+     * when the database has no accounts yet:
+     *  - manager  / manager123  (MANAGER)
+     *  - employee / employee123 (EMPLOYEE, linked by the manager later)
+     */
+    @Override
+    @PostConstruct
+    public void initializeDefaultAccounts() {
+
+        if (userAccountRepository.count() > 0) {
+            return;
+        }
+
+        log.info("Creating default user accounts...");
+
+        userAccountRepository.saveAll(List.of(
+                account("manager", "manager123", UserRole.MANAGER),
+                account("employee", "employee123", UserRole.EMPLOYEE)));
+    }
+
+    @Override
+    public UserAccountDTO saveAccount(String username, UserAccountRequestDTO request) {
+
+        log.info("Saving user account: {}, role: {}, employee ID: {}",
+                username, request.getRole(), request.getEmployeeId());
+
+        if (request.getRole() == UserRole.EMPLOYEE && request.getEmployeeId() == null) {
+            log.warn("Employee account without employee: {}", username);
+            throw new InvalidRequestException("Employee ID is required for EMPLOYEE accounts");
+        }
+
+        UserAccountDTO saved = transactionTemplate.execute(status -> {
+
+            UserAccount account = userAccountRepository.findByUsername(username).orElseGet(UserAccount::new);
+
+            if (account.getId() == null) {
+                if (request.getPassword() == null) {
+                    log.warn("New user account without password: {}", username);
+                    throw new InvalidRequestException("Password is required for a new account");
+                }
+                account.setUsername(username);
+            }
+
+            if (request.getPassword() != null) {
+                account.setPassword(passwordEncoder.encode(request.getPassword()));
+            }
+
+            account.setRole(request.getRole());
+            account.setEmployee(employee(username, request.getEmployeeId()));
+            account.setEnabled(request.isEnabled());
+
+            userAccountRepository.save(account);
+
+            return new UserAccountDTO(username, account.getRole(), request.getEmployeeId(), account.isEnabled());
+        });
+
+        evict(username);
+
+        log.info("User account saved: {}", username);
+
+        return saved;
+    }
+
+    @Override
+    public void deleteAccount(String username) {
+
+        log.info("Deleting user account: {}", username);
+
+        transactionTemplate.executeWithoutResult(status -> {
+
+            UserAccount account = userAccountRepository.findByUsername(username)
+                    .orElseThrow(() -> {
+                        log.error("User account not found: {}", username);
+                        return new ResourceNotFoundException("User account not found: " + username);
+                    });
+
+            userAccountRepository.delete(account);
+        });
+
+        evict(username);
+    }
+
+    /**
+     * Loads an account for Spring Security, from the cache when possible.
+     */
+    @Override
+    public UserDetails loadUserByUsername(String username) {
+
+        long now = System.nanoTime();
+        CachedAccount cached = accounts.get(username);
+
+        if (cached == null || cached.expiresAt() - now <= 0) {
+
+            long loadedGeneration = generation.get();
+
+            cached = transactionTemplate.execute(status -> userAccountRepository.findByUsername(username)
+                    .map(account -> new CachedAccount(
+                            account.getUsername(),
+                            account.getPassword(),
+                            account.getRole(),
+                            account.getEmployee() == null ? null : account.getEmployee().getId(),
+                            account.isEnabled(),
+                            now + cacheProperties.getTtl().toNanos()))
+                    .orElse(null));
+
+            if (cached == null) {
+                log.warn("Login with unknown username: {}", username);
+                throw new UsernameNotFoundException("User not found: " + username);
+            }
+
+            remember(cached, loadedGeneration, now);
+        }
+
+        return new HrmsUser(cached.username(), cached.password(), cached.enabled(),
+                List.of(new SimpleGrantedAuthority("ROLE_" + cached.role().name())),
+                cached.employeeId());
+    }
+
+    private UserAccount account(String username, String password, UserRole role) {
+
+        UserAccount account = new UserAccount();
+        account.setUsername(username);
+        account.setPassword(passwordEncoder.encode(password));
+        account.setRole(role);
+
+        return account;
+    }
+
+    private Employee employee(String username, Long employeeId) {
+
+        if (employeeId == null) {
+            return null;
+        }
+
+        if (!employeesRepository.existsById(employeeId)) {
+            log.error("Employee not found with ID: {}", employeeId);
+            throw new ResourceNotFoundException("Employee not found with ID: " + employeeId);
+        }
+
+        if (userAccountRepository.existsByEmployeeIdAndUsernameNot(employeeId, username)) {
+            log.warn("Employee ID: {} already has another account", employeeId);
+            throw new InvalidRequestException("Employee already has another account: " + employeeId);
+        }
+
+        return employeesRepository.getReferenceById(employeeId);
+    }
+
+    private void remember(CachedAccount account, long loadedGeneration, long now) {
+
+        if (accounts.size() >= cacheProperties.getMaxEntries()) {
+            removeExpired(now);
+        }
+
+        if (accounts.size() < cacheProperties.getMaxEntries()) {
+            accounts.put(account.username(), account);
+
+            // Changed while it was loaded: drop the old values again
+            if (generation.get() != loadedGeneration) {
+                accounts.remove(account.username());
+            }
+        }
+    }
+
+    private void removeExpired(long now) {
+
+        Iterator<CachedAccount> cached = accounts.values().iterator();
+
+        while (cached.hasNext()) {
+            if (cached.next().expiresAt() - now <= 0) {
+                cached.remove();
+            }
+        }
+    }
+
+    private void evict(String username) {
+        generation.incrementAndGet();
+        accounts.remove(username);
+    }
+
+    /**
+     * Account values kept in the cache.
+     */
+    private record CachedAccount(String username,
+                                 String password,
+                                 UserRole role,
+                                 Long employeeId,
+                                 boolean enabled,
+                                 long expiresAt) {
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.hrms.service.impl;
+
+import com.example.hrms.config.CalendarProperties;
+import com.example.hrms.entity.Department;
+import com.example.hrms.service.WorkingDayCalendar;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * WorkingDayCalendarImpl
+ *
+ * Precomputed working day calendar.
+ *
+ * For every department and year a prefix-sum table is built once:
+ *
+ *   table[d] = number of working days from 1st January up to day-of-year d
+ *   table[0] = 0
+ *
+ * Counting a range inside one year is then two array lookups:
+ *
+ *   table[end.dayOfYear] - table[start.dayOfYear - 1]
+ *
+ * Ranges crossing a year boundary add the full-year totals
+ * of the years in between.
+ *
+ * Tables are built lazily on first use and kept until refresh().
+ * Years outside the cached range are still supported,
+ * but their table is rebuilt on every call.
+ */
+@Service
+@Slf4j
+public class WorkingDayCalendarImpl implements WorkingDayCalendar {
+
+    private static final int MIN_CACHED_YEAR = 1970;
+    private static final int MAX_CACHED_YEAR = 2199;
+    private static final int CACHED_YEARS = MAX_CACHED_YEAR - MIN_CACHED_YEAR + 1;
+
+    // Slot 0 is used when the department is not known
+    private static final int SLOTS = Department.values().length + 1;
+
+    private final CalendarProperties properties;
+
+    // One prefix-sum table per (department slot, year)
+    private volatile AtomicReferenceArray<int[]> tables =
+            new AtomicReferenceArray<>(SLOTS * CACHED_YEARS);
+
+    public WorkingDayCalendarImpl(CalendarProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Counts working days between two dates (both inclusive).
+     * Returns 0 when the end date is before the start date.
+     */
+    @Override
+    public int countWorkingDays(Department department, LocalDate startDate, LocalDate endDate) {
+
+        if (endDate.isBefore(startDate)) {
+            return 0;
+        }
+
+        int slot = slotOf(department);
+        int startYear = startDate.getYear();
+        int endYear = endDate.getYear();
+
+        int[] startTable = table(slot, startYear);
+
+        if (startYear == endYear) {
+            return startTable[endDate.getDayOfYear()]
+                    - startTable[startDate.getDayOfYear() - 1];
+        }
+
+        // Remaining part of the first year
+        int workingDays = startTable[startTable.length - 1]
+                - startTable[startDate.getDayOfYear() - 1];
+
+        // Full years in between
+        for (int year = startYear + 1; year < endYear; year++) {
+            int[] yearTable = table(slot, year);
+            workingDays += yearTable[yearTable.length - 1];
+        }
+
+        // Leading part of the last year
+        workingDays += table(slot, endYear)[endDate.getDayOfYear()];
+
+        return workingDays;
+    }
+
+    /**
+     * Checks if the given date is a working day for the department.
+     */
+    @Override
+    public boolean isWorkingDay(Department department, LocalDate date) {
+
+        int[] yearTable = table(slotOf(department), date.getYear());
+        int dayOfYear = date.getDayOfYear();
+
+        return yearTable[dayOfYear] != yearTable[dayOfYear - 1];
+    }
+
+    /**
+     * Clears all precomputed tables.
+     * They are rebuilt from the current properties on next use.
+     */
+    @Override
+    public void refresh() {
+
+        log.info("Refreshing working day calendar");
+
+        tables = new AtomicReferenceArray<>(SLOTS * CACHED_YEARS);
+    }
+
+    /**
+     * Returns the prefix-sum table for a department slot and year.
+     */
+    private int[] table(int slot, int year) {
+
+        if (year < MIN_CACHED_YEAR || year > MAX_CACHED_YEAR) {
+            return buildTable(slot, year);
+        }
+
+        AtomicReferenceArray<int[]> current = tables;
+        int index = slot * CACHED_YEARS + (year - MIN_CACHED_YEAR);
+
+        int[] yearTable = current.get(index);
+
+        if (yearTable == null) {
+            yearTable = buildTable(slot, year);
+            current.set(index, yearTable);
+        }
+
+        return yearTable;
+    }
+
+    /**
+     * Builds the prefix-sum table of one year.
+     */
+    private int[] buildTable(int slot, int year) {
+
+        Department department = slot == 0 ? null : Department.values()[slot - 1];
+
+        log.debug("Building working day table for department: {}, year: {}", department, year);
+
+        Set<DayOfWeek> weekend = weekendOf(department);
+        Set<LocalDate> holidays = holidaysOf(department);
+
+        int daysInYear = Year.of(year).length();
+        int[] yearTable = new int[daysInYear + 1];
+
+        LocalDate date = LocalDate.ofYearDay(year, 1);
+
+        for (int day = 1; day <= daysInYear; day++) {
+
+            boolean working = !weekend.contains(date.getDayOfWeek())
+                    && !holidays.contains(date);
+
+            yearTable[day] = yearTable[day - 1] + (working ? 1 : 0);
+
+            date = date.plusDays(1);
+        }
+
+        return yearTable;
+    }
+
+    private Set<DayOfWeek> weekendOf(Department department) {
+
+        Set<DayOfWeek> configured = department == null
+                ? null
+                : properties.getWeekends().get(department);
+
+        if (configured == null) {
+            return EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+        }
+
+        return configured;
+    }
+
+    private Set<LocalDate> holidaysOf(Department department) {
+
+        Set<LocalDate> holidays = new HashSet<>(properties.getHolidays());
+
+        if (department != null) {
+            List<LocalDate> departmentHolidays =
+                    properties.getDepartmentHolidays().get(department);
+
+            if (departmentHolidays != null) {
+                holidays.addAll(departmentHolidays);
+            }
+        }
+
+        return holidays;
+    }
+
+    private static int slotOf(Department department) {
+        return department == null ? 0 : department.ordinal() + 1;
+    }
+}
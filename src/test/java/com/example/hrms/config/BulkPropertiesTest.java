@@ -0,0 +1,55 @@
+package com.example.hrms.config;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BulkPropertiesTest
+ *
+ * Unit test class for the validation of BulkProperties
+ * (applied when the application starts).
+ *
+ * Tests:
+ *  - The defaults are valid
+ *  - A chunk size larger than max-rows is rejected
+ *
+ * Uses:
+ *  - JUnit 5
+ *  - Bean Validation
+ */
+class BulkPropertiesTest {
+
+    private static ValidatorFactory factory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void setup() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+    }
+
+    @AfterAll
+    static void close() {
+        factory.close();
+    }
+
+    @Test
+    void defaults_ShouldBeValid() {
+        assertTrue(validator.validate(new BulkProperties()).isEmpty());
+    }
+
+    @Test
+    void chunkSizeAboveMaxRows_ShouldBeRejected() {
+
+        BulkProperties properties = new BulkProperties();
+        properties.setChunkSize(2000);
+
+        assertEquals(1, validator.validate(properties).size());
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.hrms.config;
+
+import com.example.hrms.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BulkheadInterceptorTest
+ *
+ * Unit test class for BulkheadInterceptor.
+ *
+ * Tests:
+ *  - Requests beyond the limit are rejected (503)
+ *  - Completed requests give their permit back
+ *  - Async dispatches reuse the permit of their request
+ *
+ * Uses:
+ *  - JUnit 5
+ *  - Spring mock servlet requests
+ */
+class BulkheadInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BulkheadInterceptor interceptor;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new BulkheadInterceptor("manager", 2, Duration.ofMillis(10), meterRegistry);
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void preHandle_ShouldReject_WhenLimitReached() throws Exception {
+
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, null));
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, null));
+
+        assertThrows(ServiceBusyException.class,
+                () -> interceptor.preHandle(new MockHttpServletRequest(), response, null));
+
+        assertEquals(0, interceptor.availablePermits());
+        assertEquals(1.0, meterRegistry.get("hrms.bulkhead.rejected")
+                .tag("bulkhead", "manager").counter().count());
+    }
+
+    @Test
+    void afterCompletion_ShouldReleasePermit() throws Exception {
+
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        interceptor.preHandle(first, response, null);
+        interceptor.preHandle(new MockHttpServletRequest(), response, null);
+
+        interceptor.afterCompletion(first, response, null, null);
+
+        assertEquals(1, interceptor.availablePermits());
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, null));
+
+        // Released once only
+        interceptor.afterCompletion(first, response, null, null);
+        assertEquals(0, interceptor.availablePermits());
+    }
+
+    @Test
+    void preHandle_ShouldReusePermit_OnAsyncDispatch() throws Exception {
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        interceptor.preHandle(request, response, null);
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+
+        // Async dispatch of the same request
+        interceptor.preHandle(request, response, null);
+        assertEquals(1, interceptor.availablePermits());
+
+        interceptor.afterCompletion(request, response, null, null);
+        assertEquals(2, interceptor.availablePermits());
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.hrms.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CachingPasswordEncoderTest
+ *
+ * Unit test class for CachingPasswordEncoder.
+ *
+ * Tests:
+ *  - A verified password is checked by the delegate once
+ *  - Wrong passwords are never cached
+ *  - A new stored hash (changed password) is checked again
+ *  - Expired entries are checked again
+ *  - The cache never grows beyond max-entries
+ *
+ * Uses:
+ *  - JUnit 5
+ *  - Mockito (delegate encoder)
+ */
+class CachingPasswordEncoderTest {
+
+    private PasswordEncoder delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private CachingPasswordEncoder encoder;
+
+    @BeforeEach
+    void setup() {
+        delegate = mock(PasswordEncoder.class);
+        meterRegistry = new SimpleMeterRegistry();
+        encoder = new CachingPasswordEncoder(delegate, Duration.ofMinutes(5), 2, meterRegistry);
+
+        when(delegate.matches("secret", "hash-1")).thenReturn(true);
+        when(delegate.matches("secret", "hash-2")).thenReturn(true);
+        when(delegate.matches("other", "hash-1")).thenReturn(true);
+        when(delegate.matches("third", "hash-1")).thenReturn(true);
+    }
+
+    @Test
+    void matches_ShouldCallDelegateOnce_ForVerifiedPassword() {
+
+        assertTrue(encoder.matches("secret", "hash-1"));
+        assertTrue(encoder.matches("secret", "hash-1"));
+        assertTrue(encoder.matches("secret", "hash-1"));
+
+        verify(delegate, times(1)).matches("secret", "hash-1");
+        assertEquals(2.0, meterRegistry.get("hrms.security.credential-cache")
+                .tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void matches_ShouldNotCacheWrongPassword() {
+
+        assertFalse(encoder.matches("wrong", "hash-1"));
+        assertFalse(encoder.matches("wrong", "hash-1"));
+
+        verify(delegate, times(2)).matches("wrong", "hash-1");
+        assertEquals(0, encoder.size());
+    }
+
+    @Test
+    void matches_ShouldCheckAgain_WhenStoredHashChanges() {
+
+        encoder.matches("secret", "hash-1");
+        encoder.matches("secret", "hash-2");
+
+        verify(delegate).matches("secret", "hash-1");
+        verify(delegate).matches("secret", "hash-2");
+    }
+
+    @Test
+    void matches_ShouldCheckAgain_WhenEntryExpired() {
+
+        CachingPasswordEncoder expiring =
+                new CachingPasswordEncoder(delegate, Duration.ZERO, 2, meterRegistry);
+
+        assertTrue(expiring.matches("secret", "hash-1"));
+        assertTrue(expiring.matches("secret", "hash-1"));
+
+        verify(delegate, times(2)).matches("secret", "hash-1");
+    }
+
+    @Test
+    void matches_ShouldStayWithinMaxEntries() {
+
+        encoder.matches("secret", "hash-1");
+        encoder.matches("other", "hash-1");
+        encoder.matches("third", "hash-1");
+
+        assertEquals(2, encoder.size());
+
+        // Not cached, so still verified by the delegate
+        assertTrue(encoder.matches("third", "hash-1"));
+        verify(delegate, times(2)).matches("third", "hash-1");
+    }
+
+    @Test
+    void encode_ShouldUseDelegate() {
+
+        when(delegate.encode("secret")).thenReturn("hash-1");
+
+        assertEquals("hash-1", encoder.encode("secret"));
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.hrms.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LogSamplingFilterTest
+ *
+ * Unit test class for LogSamplingFilter.
+ *
+ * Tests:
+ *  - 1 of every sampleEvery INFO lines of a statement is written
+ *  - Every message pattern is sampled on its own
+ *  - WARN lines and other loggers are never sampled
+ *
+ * Uses:
+ *  - JUnit 5
+ *  - Logback LoggerContext
+ */
+class LogSamplingFilterTest {
+
+    private LogSamplingFilter filter;
+    private LoggerContext loggerContext;
+
+    @BeforeEach
+    void setup() {
+        loggerContext = new LoggerContext();
+
+        filter = new LogSamplingFilter();
+        filter.setLoggers("com.example.hrms.controller, com.example.hrms.service.impl.LeaveRequestServiceImpl");
+        filter.setSampleEvery(3);
+        filter.start();
+    }
+
+    @Test
+    void decide_ShouldWriteOneOfEverySampleEveryLines() {
+
+        Logger logger = loggerContext.getLogger("com.example.hrms.controller.LeaveRequestController");
+
+        assertEquals(FilterReply.NEUTRAL, info(logger, "Leave applied: {}"));
+        assertEquals(FilterReply.DENY, info(logger, "Leave applied: {}"));
+        assertEquals(FilterReply.DENY, info(logger, "Leave applied: {}"));
+        assertEquals(FilterReply.NEUTRAL, info(logger, "Leave applied: {}"));
+
+        // Another statement has its own counter
+        assertEquals(FilterReply.NEUTRAL, info(logger, "Fetching history: {}"));
+    }
+
+    @Test
+    void decide_ShouldNotSampleWarningsOrOtherLoggers() {
+
+        Logger sampled = loggerContext.getLogger("com.example.hrms.service.impl.LeaveRequestServiceImpl");
+        Logger other = loggerContext.getLogger("com.example.hrms.service.impl.RolloverServiceImpl");
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(FilterReply.NEUTRAL,
+                    filter.decide(null, sampled, Level.WARN, "Leave rejected: {}", null, null));
+            assertEquals(FilterReply.NEUTRAL, info(other, "Rollover chunk: {}"));
+        }
+
+        // isInfoEnabled() checks do not count
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, sampled, Level.INFO, null, null, null));
+        assertEquals(FilterReply.NEUTRAL, info(sampled, "Applying leave: {}"));
+    }
+
+    private FilterReply info(Logger logger, String format) {
+        return filter.decide(null, logger, Level.INFO, format, new Object[]{1}, null);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.hrms.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * WebConfigTest
+ *
+ * Unit test class for the bulkhead registration in WebConfig.
+ *
+ * Tests:
+ *  - Every path is guarded by exactly one bulkhead
+ *  - The CSV import and the payroll export use their own bulkheads,
+ *    not the employee and manager ones
+ *
+ * Uses:
+ *  - JUnit 5
+ *  - Spring mock servlet requests
+ */
+class WebConfigTest {
+
+    @Test
+    void addInterceptors_ShouldGiveImportAndExportOwnBulkheads() {
+
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.setLimits(Map.of(
+                "employee", 3,
+                "leave-request", 4,
+                "manager", 3,
+                "employee-import", 1,
+                "export", 1));
+
+        TestRegistry registry = new TestRegistry();
+        new WebConfig(properties, new SimpleMeterRegistry()).addInterceptors(registry);
+
+        assertEquals(List.of("employee"), bulkheads(registry, "/employee-Api/v1/employees/bulk"));
+        assertEquals(List.of("employee-import"), bulkheads(registry, "/employee-Api/v1/employees/import"));
+        assertEquals(List.of("leave-request"), bulkheads(registry, "/leave-request-api/v1/apply"));
+        assertEquals(List.of("manager"), bulkheads(registry, "/manager-api/v1/approve/1"));
+        assertEquals(List.of("export"), bulkheads(registry, "/manager-api/v1/export/leaves"));
+    }
+
+    // Names of the bulkheads guarding a path
+    private static List<String> bulkheads(TestRegistry registry, String path) {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        ServletRequestPathUtils.parseAndCache(request);
+
+        return registry.interceptors().stream()
+                .map(MappedInterceptor.class::cast)
+                .filter(interceptor -> interceptor.matches(request))
+                .map(interceptor -> ((BulkheadInterceptor) interceptor.getInterceptor()).getName())
+                .toList();
+    }
+
+    // Exposes the registered interceptors
+    private static class TestRegistry extends InterceptorRegistry {
+        List<Object> interceptors() {
+            return getInterceptors();
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.hrms.repository;
+
+import com.example.hrms.entity.Department;
+import com.example.hrms.entity.Employee;
+import com.example.hrms.entity.LeaveStatus;
+import com.example.hrms.entity.LeaveType;
+import com.example.hrms.support.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * QueryPlanTest
+ *
+ * Runs H2 EXPLAIN on the SQL generated by the
+ * LeaveRequestRepository and LeaveBalanceRepository queries.
+ *
+ * A test fails when a query stops using its index
+ * (for example after an index is renamed or dropped,
+ * or a query is changed to filter on other columns).
+ *
+ * Uses:
+ *  - In-memory H2 database (test profile)
+ *  - SqlStatementCounter to capture the generated SQL
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class QueryPlanTest {
+
+    private static final String STATUS_INDEX = "idx_leave_request_status_id";
+    private static final String EMPLOYEE_INDEX = "idx_leave_request_employee_id";
+    private static final String EMPLOYEE_END_INDEX = "idx_leave_request_employee_end";
+    private static final String END_DATE_INDEX = "idx_leave_request_end_start";
+    private static final String LEDGER_INDEX = "idx_leave_balance_entries_balance";
+    private static final String BALANCE_INDEX = "uk_leave_balances_employee_leave_type";
+
+    @Autowired
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Autowired
+    private LeaveBalanceRepository leaveBalanceRepository;
+
+    @Autowired
+    private EmployeesRepository employeesRepository;
+
+    @Autowired
+    private LeaveTypeRepository leaveTypeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Employee employee;
+    private LeaveType leaveType;
+
+    @BeforeEach
+    void setup() {
+        employee = new Employee();
+        employee.setName("Plan");
+        employee.setEmail("query.plan@gmail.com");
+        employee.setDepartment(Department.DEVELOPMENT);
+        employee = employeesRepository.saveAndFlush(employee);
+
+        leaveType = leaveTypeRepository.findAll().get(0);
+    }
+
+    @Test
+    void findByStatus_ShouldUseStatusIndex() {
+        // Page query and its COUNT query
+        assertUsesIndex(STATUS_INDEX, 2, () ->
+                leaveRequestRepository.findByStatus(LeaveStatus.PENDING, PageRequest.of(1, 5)));
+    }
+
+    @Test
+    void findSliceByStatus_ShouldUseStatusIndex() {
+        assertUsesIndex(STATUS_INDEX, 1, () ->
+                leaveRequestRepository.findSliceByStatus(LeaveStatus.PENDING, PageRequest.of(1, 5)));
+    }
+
+    @Test
+    void findByStatusAfterCursor_ShouldUseStatusIndex() {
+        assertUsesIndex(STATUS_INDEX, 1, () ->
+                leaveRequestRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                        LeaveStatus.PENDING, 10L, Limit.of(5)));
+    }
+
+    @Test
+    void findByEmployeeId_ShouldUseEmployeeIndex() {
+        // Page query and its COUNT query. Without ORDER BY, H2 may pick the
+        // foreign key index instead, so only the employee_id lookup is checked.
+        assertUsesIndex(": employee_id = ?1", 2, () ->
+                leaveRequestRepository.findByEmployeeId(employee.getId(), PageRequest.of(1, 5)));
+    }
+
+    @Test
+    void findByEmployeeIdAfterCursor_ShouldUseEmployeeIndex() {
+        assertUsesIndex(EMPLOYEE_INDEX, 1, () ->
+                leaveRequestRepository.findByEmployeeIdAndIdGreaterThanOrderByIdAsc(
+                        employee.getId(), 10L, Limit.of(5)));
+    }
+
+    @Test
+    void existsOverlapping_ShouldUseEmployeeEndDateIndex() {
+        assertUsesIndex(EMPLOYEE_END_INDEX, 1, () ->
+                leaveRequestRepository.existsOverlapping(employee.getId(),
+                        LocalDate.of(2030, 1, 1), LocalDate.of(2030, 1, 5)));
+    }
+
+    @Test
+    void findByEmployeeAndLeaveType_ShouldUseBalanceIndex() {
+        assertUsesIndex(BALANCE_INDEX, 1, () ->
+                leaveBalanceRepository.findByEmployeeAndLeaveType(employee, leaveType));
+    }
+
+    @Test
+    void findByEmployeeIdsAndLeaveTypeIds_ShouldUseBalanceIndex() {
+        assertUsesIndex(BALANCE_INDEX, 1, () ->
+                leaveBalanceRepository.findByEmployeeIdInAndLeaveTypeIdIn(
+                        List.of(employee.getId(), 99L), List.of(leaveType.getId())));
+    }
+
+    @Test
+    void deductDays_ShouldUseBalanceIndex() {
+        assertUsesIndex(BALANCE_INDEX, 1, () ->
+                leaveBalanceRepository.deductDays(employee.getId(), leaveType.getId(), 1, 1));
+    }
+
+    @Test
+    void updateStatus_ShouldUseStatusIndex() {
+        // "where id = ? and status = ?" is fully covered by (status, id)
+        assertUsesIndex(STATUS_INDEX, 1, () ->
+                leaveRequestRepository.updateStatus(1L, LeaveStatus.PENDING, LeaveStatus.APPROVED));
+    }
+
+    @Test
+    void countByDepartmentAndLeaveType_ShouldUseStatusIndex() {
+        assertUsesIndex(STATUS_INDEX, 1, () ->
+                leaveRequestRepository.countByDepartmentAndLeaveType(LeaveStatus.PENDING));
+    }
+
+    @Test
+    void findAbsenceRanges_ShouldUseStatusIndex() {
+        assertUsesIndex(STATUS_INDEX, 1, () ->
+                leaveRequestRepository.findAbsenceRanges(LeaveStatus.APPROVED));
+    }
+
+    @Test
+    void streamExportRows_ShouldUseEndDateIndex() {
+        assertUsesIndex(END_DATE_INDEX, 1, () -> {
+            try (var rows = leaveRequestRepository.streamExportRows(
+                    LocalDate.of(2030, 1, 1), LocalDate.of(2030, 1, 31))) {
+                rows.count();
+            }
+        });
+    }
+
+    @Test
+    void findWithoutLedgerEntries_ShouldUseLedgerIndex() {
+        assertUsesIndex(LEDGER_INDEX, 1, () ->
+                leaveBalanceRepository.findWithoutLedgerEntries(Limit.of(5)));
+    }
+
+    /**
+     * Runs the repository call, then EXPLAINs every statement it sent
+     * and checks that each plan reads through the given index
+     * (any text of the plan, usually the index name).
+     */
+    private void assertUsesIndex(String index, int expectedStatements, Runnable call) {
+
+        SqlStatementCounter.reset();
+        call.run();
+
+        List<String> statements = SqlStatementCounter.statements().stream()
+                .filter(sql -> !sql.contains("next value for"))
+                .toList();
+
+        assertEquals(expectedStatements, statements.size(), "Statements: " + statements);
+
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertTrue(plan.contains(index),
+                    "Expected index " + index + " for: " + sql + "\nPlan: " + plan);
+            assertFalse(plan.contains("tablescan"),
+                    "Unexpected table scan for: " + sql + "\nPlan: " + plan);
+        }
+    }
+
+    /**
+     * Returns the H2 plan of a statement. Parameters are bound as NULL,
+     * H2 picks the plan from the statement shape, not from the values.
+     */
+    private String explain(String sql) {
+        return jdbcTemplate.execute((java.sql.Connection connection) -> {
+            try (PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+
+                int parameters = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameters; i++) {
+                    statement.setNull(i, Types.NULL);
+                }
+
+                List<String> lines = new ArrayList<>();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        lines.add(rs.getString(1));
+                    }
+                }
+                return String.join("\n", lines).toLowerCase(Locale.ROOT);
+            }
+        });
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.hrms.service;
+
+import com.example.hrms.config.CalendarProperties;
+import com.example.hrms.dto.AbsenceHeatmapDTO;
+import com.example.hrms.dto.AbsenceHeatmapRowDTO;
+import com.example.hrms.dto.AbsenceRangeDTO;
+import com.example.hrms.entity.*;
+import com.example.hrms.repository.LeaveRequestRepository;
+import com.example.hrms.service.impl.AbsenceHeatmapImpl;
+import com.example.hrms.service.impl.WorkingDayCalendarImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * AbsenceHeatmapImplTest
+ *
+ * Unit test class for AbsenceHeatmapImpl.
+ *
+ * Tests:
+ *  - Rebuild from approved requests (working days only)
+ *  - Approve and cancel update the counts
+ *  - Department filter and ranges crossing a year
+ *
+ * Uses:
+ *  - JUnit 5
+ *  - Mockito for mocking dependencies
+ */
+@ExtendWith(MockitoExtension.class)
+class AbsenceHeatmapImplTest {
+
+    @Mock
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Spy
+    private WorkingDayCalendar workingDayCalendar =
+            new WorkingDayCalendarImpl(new CalendarProperties());
+
+    @InjectMocks
+    private AbsenceHeatmapImpl absenceHeatmap;
+
+    /**
+     * Friday to Monday counts Friday and Monday only.
+     */
+    @Test
+    void rebuild_ShouldCountWorkingDaysOfApprovedLeave() {
+
+        when(leaveRequestRepository.findAbsenceRanges(LeaveStatus.APPROVED))
+                .thenReturn(List.of(
+                        new AbsenceRangeDTO(Department.SUPPORT, LeaveTypeEnum.SICK,
+                                LocalDate.of(2026, 3, 6), LocalDate.of(2026, 3, 9)),
+                        new AbsenceRangeDTO(Department.SUPPORT, LeaveTypeEnum.SICK,
+                                LocalDate.of(2026, 3, 9), LocalDate.of(2026, 3, 9))));
+
+        absenceHeatmap.rebuild();
+
+        AbsenceHeatmapDTO result = absenceHeatmap.getHeatmap(
+                Department.SUPPORT, LocalDate.of(2026, 3, 6), LocalDate.of(2026, 3, 9));
+
+        assertArrayEquals(new int[]{1, 0, 0, 2}, row(result, LeaveTypeEnum.SICK).getCounts());
+        assertArrayEquals(new int[]{0, 0, 0, 0}, row(result, LeaveTypeEnum.CASUAL).getCounts());
+    }
+
+    /**
+     * Outside a transaction, approvals and cancellations apply at once.
+     */
+    @Test
+    void recordApprovedAndCancelled_ShouldUpdateCounts() {
+
+        LeaveRequest request = request(Department.DEVELOPMENT, LeaveTypeEnum.EARNED,
+                LocalDate.of(2026, 12, 31), LocalDate.of(2027, 1, 1));
+
+        absenceHeatmap.recordApproved(request);
+
+        AbsenceHeatmapDTO approved = absenceHeatmap.getHeatmap(
+                null, LocalDate.of(2026, 12, 31), LocalDate.of(2027, 1, 1));
+
+        assertEquals(Department.values().length * LeaveTypeEnum.values().length,
+                approved.getRows().size());
+        assertArrayEquals(new int[]{1, 1},
+                row(approved, Department.DEVELOPMENT, LeaveTypeEnum.EARNED).getCounts());
+        assertArrayEquals(new int[]{0, 0},
+                row(approved, Department.SUPPORT, LeaveTypeEnum.EARNED).getCounts());
+
+        absenceHeatmap.recordCancelled(request);
+
+        AbsenceHeatmapDTO cancelled = absenceHeatmap.getHeatmap(
+                Department.DEVELOPMENT, LocalDate.of(2026, 12, 31), LocalDate.of(2027, 1, 1));
+
+        assertArrayEquals(new int[]{0, 0}, row(cancelled, LeaveTypeEnum.EARNED).getCounts());
+    }
+
+    private static AbsenceHeatmapRowDTO row(AbsenceHeatmapDTO heatmap, LeaveTypeEnum leaveType) {
+        return heatmap.getRows().stream()
+                .filter(row -> row.getLeaveType() == leaveType)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static AbsenceHeatmapRowDTO row(AbsenceHeatmapDTO heatmap,
+                                            Department department,
+                                            LeaveTypeEnum leaveType) {
+        return heatmap.getRows().stream()
+                .filter(row -> row.getDepartment() == department && row.getLeaveType() == leaveType)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static LeaveRequest request(Department department,
+                                        LeaveTypeEnum leaveTypeName,
+                                        LocalDate startDate,
+                                        LocalDate endDate) {
+
+        Employee employee = new Employee();
+        employee.setDepartment(department);
+
+        LeaveType leaveType = new LeaveType();
+        leaveType.setName(leaveTypeName);
+
+        LeaveRequest request = new LeaveRequest();
+        request.setEmployee(employee);
+        request.setLeaveType(leaveType);
+        request.setStartDate(startDate);
+        request.setEndDate(endDate);
+        return request;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.hrms.service;
+
+import com.example.hrms.dto.AbsenceHeatmapDTO;
+import com.example.hrms.dto.EmployeeRequestDTO;
+import com.example.hrms.dto.LeaveRequestDTO;
+import com.example.hrms.entity.Department;
+import com.example.hrms.entity.LeaveTypeEnum;
+import com.example.hrms.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AbsenceHeatmapTest
+ *
+ * Integration test for the absence heatmap.
+ *
+ * Tests:
+ *  - Approved leave is counted after commit
+ *  - A failed approval (rolled back) is not counted
+ *  - Counts survive a rebuild from the database
+ *
+ * Uses:
+ *  - In-memory H2 database (test profile)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AbsenceHeatmapTest {
+
+    // Monday to Wednesday, a year no other test uses
+    private static final LocalDate START = LocalDate.of(2033, 5, 2);
+    private static final LocalDate END = LocalDate.of(2033, 5, 4);
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private LeaveRequestService leaveRequestService;
+
+    @Autowired
+    private ManagerService managerService;
+
+    @Autowired
+    private AbsenceHeatmap absenceHeatmap;
+
+    @Test
+    void approveLeave_ShouldUpdateHeatmap() {
+
+        EmployeeRequestDTO request = new EmployeeRequestDTO();
+        request.setName("Heatmap");
+        request.setEmail("heatmap@gmail.com");
+        request.setDepartment(Department.TRAINEE);
+        Long employeeId = employeeService.createEmployee(request).getId();
+
+        // 3 + 4 days fit the balance of 6 one at a time, not together
+        LeaveRequestDTO approved = leaveRequestService.applyLeave(
+                employeeId, "SICK", START, END, "Flu");
+        LeaveRequestDTO tooLong = leaveRequestService.applyLeave(
+                employeeId, "SICK", END.plusDays(1), END.plusDays(6), "Surgery");
+
+        managerService.approveLeave(approved.getId());
+        assertThrows(InvalidRequestException.class,
+                () -> managerService.approveLeave(tooLong.getId()));
+
+        assertArrayEquals(new int[]{1, 1, 1, 0, 0}, sickCounts());
+
+        absenceHeatmap.rebuild();
+
+        assertArrayEquals(new int[]{1, 1, 1, 0, 0}, sickCounts());
+    }
+
+    private int[] sickCounts() {
+
+        AbsenceHeatmapDTO heatmap = managerService.getAbsenceHeatmap(
+                Department.TRAINEE, START, END.plusDays(2));
+
+        return heatmap.getRows().stream()
+                .filter(row -> row.getLeaveType() == LeaveTypeEnum.SICK)
+                .findFirst()
+                .orElseThrow()
+                .getCounts();
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.hrms.service;
+
+import com.example.hrms.config.BulkProperties;
+import com.example.hrms.config.EmployeeImportProperties;
+import com.example.hrms.dto.EmployeeImportResultDTO;
+import com.example.hrms.exception.InvalidRequestException;
+import com.example.hrms.repository.EmployeesRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * EmployeeImportTest
+ *
+ * Integration test for EmployeeImportService.
+ *
+ * Tests:
+ *  - Valid rows are saved over several chunks
+ *  - Invalid, duplicate and malformed rows are returned
+ *    (up to max-returned-rejects) and go to the rejects file
+ *  - No rejects file is written when every row is saved
+ *  - Rejects files older than the retention are deleted
+ *  - Quoted fields and extra columns are accepted
+ *  - A file larger than the queue is imported (back-pressure)
+ *  - A header without required columns is rejected
+ *  - An unclosed quote stops the import at max-record-chars
+ *  - The response names the rejects file without its folder
+ *
+ * Uses:
+ *  - In-memory H2 database (test profile)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EmployeeImportTest {
+
+    @Autowired
+    private EmployeeImportService importService;
+
+    @Autowired
+    private EmployeesRepository employeesRepository;
+
+    @Autowired
+    private BulkProperties bulkProperties;
+
+    @Autowired
+    private EmployeeImportProperties importProperties;
+
+    private int chunkSize;
+    private int queueCapacity;
+    private int maxReturnedRejects;
+
+    @BeforeEach
+    void setUp() {
+        chunkSize = bulkProperties.getChunkSize();
+        queueCapacity = importProperties.getQueueCapacity();
+        maxReturnedRejects = importProperties.getMaxReturnedRejects();
+
+        bulkProperties.setChunkSize(2);
+        importProperties.setQueueCapacity(1);
+        importProperties.setMaxReturnedRejects(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkProperties.setChunkSize(chunkSize);
+        importProperties.setQueueCapacity(queueCapacity);
+        importProperties.setMaxReturnedRejects(maxReturnedRejects);
+    }
+
+    @Test
+    void importEmployees_ShouldSaveValidRows_AndWriteRejects() throws IOException {
+
+        String csv = """
+                email,name,department,manager
+                import.one@gmail.com,"Doe, Jane",DEVELOPMENT,x
+                import.two@gmail.com,John,support,
+
+                not-an-email,Bad Email,DEVELOPMENT,
+                import.three@gmail.com,Bad Department,SALES,
+                import.one@gmail.com,Duplicate,TRAINEE,
+                import.four@gmail.com
+                import.five@gmail.com,Five,CONSULTING,
+                """;
+
+        EmployeeImportResultDTO result = importService.importEmployees(stream(csv));
+
+        assertEquals(7, result.getTotal());
+        assertEquals(3, result.getCreated());
+        assertEquals(4, result.getFailed());
+
+        assertTrue(employeesRepository.existsByEmail("import.one@gmail.com"));
+        assertTrue(employeesRepository.existsByEmail("import.two@gmail.com"));
+        assertTrue(employeesRepository.existsByEmail("import.five@gmail.com"));
+        assertFalse(employeesRepository.existsByEmail("import.three@gmail.com"));
+
+        // The first 3 of 4 rejected rows are returned
+        assertEquals(3, result.getRejects().size());
+        assertEquals(5, result.getRejects().get(0).getLine());
+        assertEquals("not-an-email", result.getRejects().get(0).getEmail());
+        assertEquals(6, result.getRejects().get(1).getLine());
+        assertTrue(result.getRejects().get(2).getErrors().get(0).contains("already exists"));
+
+        // Name only, no server folder
+        assertEquals(Path.of(result.getRejectsFile()).getFileName().toString(), result.getRejectsFile());
+
+        List<String> rejects = Files.readAllLines(
+                Path.of(importProperties.getRejectsDir()).resolve(result.getRejectsFile()));
+
+        assertEquals("line,name,email,department,errors", rejects.get(0));
+        assertEquals(5, rejects.size());
+        assertTrue(rejects.get(1).startsWith("5,Bad Email,not-an-email,DEVELOPMENT,"), rejects.get(1));
+        assertTrue(rejects.get(2).startsWith(
+                "6,Bad Department,import.three@gmail.com,SALES,\"department: must be one of"), rejects.get(2));
+        assertTrue(rejects.get(3).contains("already exists"), rejects.get(3));
+        assertTrue(rejects.get(4).startsWith("8,,import.four@gmail.com,,Expected at least 3 columns"),
+                rejects.get(4));
+    }
+
+    @Test
+    void importEmployees_ShouldImportFileLargerThanQueue() {
+
+        // 200 rows = 100 chunks through a queue of one chunk
+        InputStream header = stream("name,email,department\n");
+        InputStream rows = new SequenceInputStream(Collections.enumeration(IntStream.range(0, 200)
+                .mapToObj(i -> stream("Import " + i + ",import.bulk" + i + "@gmail.com,DEVELOPMENT\n"))
+                .toList()));
+
+        EmployeeImportResultDTO result = importService.importEmployees(new SequenceInputStream(header, rows));
+
+        assertEquals(200, result.getTotal());
+        assertEquals(200, result.getCreated());
+        assertEquals(0, result.getFailed());
+        assertTrue(employeesRepository.existsByEmail("import.bulk199@gmail.com"));
+
+        // Nothing rejected, no file
+        assertNull(result.getRejectsFile());
+        assertTrue(result.getRejects().isEmpty());
+    }
+
+    @Test
+    void deleteExpiredRejects_ShouldDeleteOnlyOldFiles() throws IOException {
+
+        Path dir = Files.createDirectories(Path.of(importProperties.getRejectsDir()));
+
+        Path expired = Files.createTempFile(dir, "employee-import-", "-rejects.csv");
+        Path recent = Files.createTempFile(dir, "employee-import-", "-rejects.csv");
+        Path other = Files.createTempFile(dir, "other-", ".csv");
+
+        FileTime old = FileTime.from(Instant.now()
+                .minus(importProperties.getRejectsRetention()).minus(Duration.ofHours(1)));
+        Files.setLastModifiedTime(expired, old);
+        Files.setLastModifiedTime(other, old);
+
+        importService.deleteExpiredRejects();
+
+        assertFalse(Files.exists(expired));
+        assertTrue(Files.exists(recent));
+        assertTrue(Files.exists(other));
+
+        Files.delete(recent);
+        Files.delete(other);
+    }
+
+    @Test
+    void importEmployees_ShouldThrow_WhenHeaderMissesColumn() {
+
+        InvalidRequestException ex = assertThrows(InvalidRequestException.class,
+                () -> importService.importEmployees(stream("name,department\nJane,DEVELOPMENT\n")));
+
+        assertTrue(ex.getMessage().contains("name, email, department"));
+    }
+
+    @Test
+    void importEmployees_ShouldThrow_WhenFileIsEmpty() {
+
+        assertThrows(InvalidRequestException.class, () -> importService.importEmployees(stream("")));
+    }
+
+    @Test
+    void importEmployees_ShouldThrow_WhenQuoteIsNotClosed() {
+
+        // The rest of the file would end up in one field without the cap
+        String tail = IntStream.range(0, 500)
+                .mapToObj(i -> "Unclosed " + i + ",import.unclosed" + i + "@gmail.com,DEVELOPMENT\n")
+                .reduce("", String::concat);
+
+        InvalidRequestException ex = assertThrows(InvalidRequestException.class,
+                () -> importService.importEmployees(stream("name,email,department\n"
+                        + "Fine,import.fine@gmail.com,DEVELOPMENT\n"
+                        + "\"Stray,import.stray@gmail.com,DEVELOPMENT\n" + tail)));
+
+        assertTrue(ex.getMessage().contains("line 3"), ex.getMessage());
+        assertTrue(ex.getMessage().contains(String.valueOf(importProperties.getMaxRecordChars())));
+        assertFalse(employeesRepository.existsByEmail("import.unclosed1@gmail.com"));
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
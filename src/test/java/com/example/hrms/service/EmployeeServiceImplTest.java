@@ -1,23 +1,34 @@
 package com.example.hrms.service;
 
+import com.example.hrms.config.BulkProperties;
+import com.example.hrms.config.PagingProperties;
+import com.example.hrms.dto.BulkEmployeeResponseDTO;
+import com.example.hrms.dto.CursorPageDTO;
 import com.example.hrms.dto.EmployeeRequestDTO;
 import com.example.hrms.dto.EmployeeResponseDTO;
 import com.example.hrms.entity.Department;
 import com.example.hrms.entity.Employee;
+import com.example.hrms.exception.InvalidRequestException;
 import com.example.hrms.exception.ResourceNotFoundException;
 import com.example.hrms.mapper.EmployeeMapper;
 import com.example.hrms.repository.EmployeesRepository;
 import com.example.hrms.repository.LeaveBalanceRepository;
-import com.example.hrms.repository.LeaveTypeRepository;
 import com.example.hrms.service.impl.EmployeeServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.data.domain.*;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,8 +41,9 @@ import static org.mockito.Mockito.*;
  *
  * Tests:
  *  - Create employee
+ *  - Create employees in bulk
  *  - Get employee by ID
- *  - Get all employees with pagination
+ *  - Get all employees with pagination (offset and cursor)
  *
  * Uses:
  *  - JUnit 5
@@ -44,7 +56,7 @@ class EmployeeServiceImplTest {
     private EmployeesRepository repository;
 
     @Mock
-    private LeaveTypeRepository leaveTypeRepository;
+    private LeaveTypeService leaveTypeService;
 
     @Mock
     private LeaveBalanceRepository leaveBalanceRepository;
@@ -52,6 +64,24 @@ class EmployeeServiceImplTest {
     @Mock
     private EmployeeMapper employeeMapper;
 
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private BulkProperties bulkProperties = new BulkProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private LeaveBalanceLedger leaveBalanceLedger;
+
+    @Spy
+    private PagingProperties pagingProperties = new PagingProperties();
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -91,7 +121,6 @@ class EmployeeServiceImplTest {
         when(employeeMapper.toEntity(requestDTO)).thenReturn(employee);
         when(repository.save(employee)).thenReturn(employee);
         when(employeeMapper.toResponseDTO(employee)).thenReturn(responseDTO);
-        when(leaveTypeRepository.findAll()).thenReturn(Collections.emptyList());
 
         EmployeeResponseDTO result = employeeService.createEmployee(requestDTO);
 
@@ -99,6 +128,79 @@ class EmployeeServiceImplTest {
         assertEquals("Test", result.getName());
 
         verify(repository, times(1)).save(employee);
+        verify(leaveBalanceLedger).recordGrants(anyList());
+
+        assertEquals(1, meterRegistry.get("hrms.employee.create")
+                .tags("outcome", "success", "department", "DEVELOPMENT").timer().count());
+    }
+
+    /**
+     * Tests bulk creation skipping duplicate and existing emails.
+     */
+    @Test
+    void createEmployees_ShouldReportDuplicateAndExistingEmails() {
+
+        EmployeeRequestDTO duplicate = newRequest("test@gmail.com");
+        EmployeeRequestDTO existing = newRequest("old@gmail.com");
+
+        when(repository.findExistingEmails(anyCollection()))
+                .thenReturn(List.of("old@gmail.com"));
+        when(employeeMapper.toEntity(requestDTO)).thenReturn(employee);
+        runTransactionCallbacks();
+
+        BulkEmployeeResponseDTO result =
+                employeeService.createEmployees(List.of(requestDTO, duplicate, existing));
+
+        assertEquals(3, result.getTotal());
+        assertEquals(1, result.getCreated());
+        assertEquals(2, result.getFailed());
+        assertEquals(1, result.getErrors().get(0).getIndex());
+        assertEquals(2, result.getErrors().get(1).getIndex());
+
+        verify(repository).saveAll(List.of(employee));
+    }
+
+    /**
+     * Tests that bulk creation saves rows in chunks.
+     */
+    @Test
+    void createEmployees_ShouldSaveInChunks() {
+
+        bulkProperties.setChunkSize(2);
+
+        when(employeeMapper.toEntity(any(EmployeeRequestDTO.class))).thenReturn(new Employee());
+        runTransactionCallbacks();
+
+        BulkEmployeeResponseDTO result = employeeService.createEmployees(List.of(
+                newRequest("a@gmail.com"),
+                newRequest("b@gmail.com"),
+                newRequest("c@gmail.com")));
+
+        assertEquals(3, result.getCreated());
+        assertEquals(0, result.getFailed());
+
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(leaveTypeService, times(1)).getAllLeaveTypes();
+    }
+
+    /**
+     * Tests that the service takes any number of rows
+     * (the CSV import calls it with chunk-size rows).
+     */
+    @Test
+    void createEmployees_ShouldNotLimitRows() {
+
+        bulkProperties.setMaxRows(2);
+
+        when(employeeMapper.toEntity(any(EmployeeRequestDTO.class))).thenReturn(new Employee());
+        runTransactionCallbacks();
+
+        BulkEmployeeResponseDTO result = employeeService.createEmployees(List.of(
+                newRequest("a@gmail.com"),
+                newRequest("b@gmail.com"),
+                newRequest("c@gmail.com")));
+
+        assertEquals(3, result.getCreated());
     }
 
     /**
@@ -136,16 +238,75 @@ class EmployeeServiceImplTest {
 
         Pageable pageable = PageRequest.of(0, 5);
 
-        Page<Employee> employeePage =
-                new PageImpl<>(Collections.singletonList(employee));
+        Page<EmployeeResponseDTO> employeePage =
+                new PageImpl<>(Collections.singletonList(responseDTO));
 
-        when(repository.findAll(pageable)).thenReturn(employeePage);
-        when(employeeMapper.toResponseDTO(employee)).thenReturn(responseDTO);
+        when(repository.findAllResponses(pageable)).thenReturn(employeePage);
 
         Page<EmployeeResponseDTO> result =
                 employeeService.getAllEmployees(0, 5);
 
         assertEquals(1, result.getTotalElements());
-        verify(repository).findAll(pageable);
+        verify(repository).findAllResponses(pageable);
+    }
+
+    /**
+     * Tests fetching employees with a cursor.
+     */
+    @Test
+    void getEmployeesAfter_ShouldReturnPage() {
+
+        when(repository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(6)))
+                .thenReturn(List.of(responseDTO));
+
+        CursorPageDTO<EmployeeResponseDTO> result =
+                employeeService.getEmployeesAfter(null, 5);
+
+        assertEquals(1, result.getContent().size());
+        assertNull(result.getNextCursor());
+    }
+
+    /**
+     * Tests that a non positive limit is rejected.
+     */
+    @Test
+    void getEmployeesAfter_ShouldThrow_WhenLimitInvalid() {
+
+        assertThrows(InvalidRequestException.class,
+                () -> employeeService.getEmployeesAfter(null, 0));
+
+        verifyNoInteractions(repository);
+    }
+
+    /**
+     * Tests that a limit above hrms.paging.max-limit is rejected
+     * (Integer.MAX_VALUE would also overflow limit + 1).
+     */
+    @Test
+    void getEmployeesAfter_ShouldThrow_WhenLimitTooLarge() {
+
+        assertThrows(InvalidRequestException.class,
+                () -> employeeService.getEmployeesAfter(null, 101));
+        assertThrows(InvalidRequestException.class,
+                () -> employeeService.getEmployeesAfter(null, Integer.MAX_VALUE));
+
+        verifyNoInteractions(repository);
+    }
+
+    private EmployeeRequestDTO newRequest(String email) {
+        EmployeeRequestDTO request = new EmployeeRequestDTO();
+        request.setName("Test");
+        request.setEmail(email);
+        request.setDepartment(Department.DEVELOPMENT);
+        return request;
+    }
+
+    /**
+     * Makes the mocked TransactionTemplate run the callback directly.
+     */
+    @SuppressWarnings("unchecked")
+    private void runTransactionCallbacks() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
     }
 }
\ No newline at end of file
@@ -0,0 +1,255 @@
+package com.example.hrms.service;
+
+import com.example.hrms.dto.EmployeeRequestDTO;
+import com.example.hrms.dto.EmployeeResponseDTO;
+import com.example.hrms.entity.Department;
+import com.example.hrms.entity.LeaveBalance;
+import com.example.hrms.entity.LeaveStatus;
+import com.example.hrms.entity.LeaveTypeEnum;
+import com.example.hrms.exception.DuplicateResourceException;
+import com.example.hrms.exception.InvalidRequestException;
+import com.example.hrms.repository.LeaveBalanceRepository;
+import com.example.hrms.repository.LeaveRequestRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LeaveBalanceConcurrencyTest
+ *
+ * Stress test for concurrent leave approvals.
+ *
+ * Tests:
+ *  - Many threads approving requests of the same employee
+ *    never overdraw the leave balance
+ *  - An approve and a reject racing on the same request
+ *    never both succeed
+ *  - Overlapping applications of one employee racing
+ *    never both succeed
+ *
+ * Uses:
+ *  - In-memory H2 database (test profile)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LeaveBalanceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int REQUESTS = 40;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private LeaveRequestService leaveRequestService;
+
+    @Autowired
+    private ManagerService managerService;
+
+    @Autowired
+    private LeaveTypeService leaveTypeService;
+
+    @Autowired
+    private LeaveBalanceRepository leaveBalanceRepository;
+
+    @Autowired
+    private LeaveRequestRepository leaveRequestRepository;
+
+    /**
+     * DEVELOPMENT employees start with 6 casual days.
+     * 40 one-day requests are approved from 16 threads:
+     * exactly 6 must succeed and the balance must end at 0.
+     */
+    @Test
+    void approveLeave_ShouldNeverOverdrawBalance_UnderConcurrency() throws Exception {
+
+        EmployeeRequestDTO request = new EmployeeRequestDTO();
+        request.setName("Concurrent");
+        request.setEmail("concurrent.approvals@gmail.com");
+        request.setDepartment(Department.DEVELOPMENT);
+
+        EmployeeResponseDTO employee = employeeService.createEmployee(request);
+
+        List<Long> requestIds = new ArrayList<>();
+        LocalDate date = LocalDate.of(2031, 1, 6);
+
+        while (requestIds.size() < REQUESTS) {
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY
+                    && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                requestIds.add(leaveRequestService
+                        .applyLeave(employee.getId(), "CASUAL", date, date, "Stress")
+                        .getId());
+            }
+            date = date.plusDays(1);
+        }
+
+        AtomicInteger approved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (Long requestId : requestIds) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    managerService.approveLeave(requestId);
+                    approved.incrementAndGet();
+                } catch (InvalidRequestException ex) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+
+        for (Future<?> future : futures) {
+            // Any unexpected exception fails the test here
+            future.get(60, TimeUnit.SECONDS);
+        }
+
+        executor.shutdown();
+
+        Long casualId = leaveTypeService.getLeaveType(LeaveTypeEnum.CASUAL).orElseThrow().getId();
+        LeaveBalance balance = leaveBalanceRepository
+                .findByEmployeeIdInAndLeaveTypeIdIn(List.of(employee.getId()), List.of(casualId))
+                .get(0);
+
+        assertEquals(6, approved.get());
+        assertEquals(REQUESTS - 6, rejected.get());
+        assertEquals(0, balance.getRemainingDays());
+    }
+
+    /**
+     * Every request gets one approve and one reject at the same time.
+     * Exactly one of them may succeed and the stored status
+     * must match the winner.
+     */
+    @Test
+    void approveAndReject_ShouldLetExactlyOneWin() throws Exception {
+
+        EmployeeRequestDTO request = new EmployeeRequestDTO();
+        request.setName("Racing");
+        request.setEmail("racing.decisions@gmail.com");
+        request.setDepartment(Department.DEVELOPMENT);
+
+        EmployeeResponseDTO employee = employeeService.createEmployee(request);
+
+        List<Long> requestIds = new ArrayList<>();
+        LocalDate date = LocalDate.of(2032, 1, 5);
+
+        while (requestIds.size() < 6) {
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY
+                    && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                requestIds.add(leaveRequestService
+                        .applyLeave(employee.getId(), "SICK", date, date, "Race")
+                        .getId());
+            }
+            date = date.plusDays(1);
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<LeaveStatus>> futures = new ArrayList<>();
+
+        for (Long requestId : requestIds) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    return managerService.approveLeave(requestId).getStatus();
+                } catch (InvalidRequestException ex) {
+                    return null;
+                }
+            }));
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    return managerService.rejectLeave(requestId).getStatus();
+                } catch (InvalidRequestException ex) {
+                    return null;
+                }
+            }));
+        }
+
+        start.countDown();
+
+        for (int i = 0; i < requestIds.size(); i++) {
+
+            LeaveStatus approveResult = futures.get(2 * i).get(60, TimeUnit.SECONDS);
+            LeaveStatus rejectResult = futures.get(2 * i + 1).get(60, TimeUnit.SECONDS);
+
+            assertTrue(approveResult == null ^ rejectResult == null,
+                    "Exactly one decision must win for request " + requestIds.get(i));
+
+            LeaveStatus winner = approveResult != null ? approveResult : rejectResult;
+            assertEquals(winner,
+                    leaveRequestRepository.findById(requestIds.get(i)).orElseThrow().getStatus());
+        }
+
+        executor.shutdown();
+    }
+
+    /**
+     * 16 threads apply for the same day at the same time.
+     * The employee row is locked before the overlap check,
+     * so exactly one request is created.
+     */
+    @Test
+    void applyLeave_ShouldRejectOverlaps_UnderConcurrency() throws Exception {
+
+        EmployeeRequestDTO request = new EmployeeRequestDTO();
+        request.setName("Overlapping");
+        request.setEmail("concurrent.applies@gmail.com");
+        request.setDepartment(Department.DEVELOPMENT);
+
+        EmployeeResponseDTO employee = employeeService.createEmployee(request);
+
+        LocalDate date = LocalDate.of(2039, 1, 3);
+
+        AtomicInteger applied = new AtomicInteger();
+        AtomicInteger duplicates = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    leaveRequestService.applyLeave(employee.getId(), "CASUAL", date, date, "Race");
+                    applied.incrementAndGet();
+                } catch (DuplicateResourceException ex) {
+                    duplicates.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+
+        executor.shutdown();
+
+        assertEquals(1, applied.get());
+        assertEquals(THREADS - 1, duplicates.get());
+        assertEquals(1, leaveRequestService.getLeaveHistory(employee.getId(), 0, 10).getTotalElements());
+    }
+}
@@ -0,0 +1,302 @@
+package com.example.hrms.service;
+
+import com.example.hrms.config.LedgerProperties;
+import com.example.hrms.dto.LeaveBalanceDTO;
+import com.example.hrms.dto.LeaveRequestDTO;
+import com.example.hrms.entity.BalanceEntryType;
+import com.example.hrms.entity.Department;
+import com.example.hrms.entity.Employee;
+import com.example.hrms.entity.LeaveBalance;
+import com.example.hrms.entity.LeaveBalanceEntry;
+import com.example.hrms.entity.LeaveBalanceSnapshot;
+import com.example.hrms.entity.LeaveStatus;
+import com.example.hrms.entity.LeaveType;
+import com.example.hrms.entity.LeaveTypeEnum;
+import com.example.hrms.exception.InvalidRequestException;
+import com.example.hrms.exception.ResourceNotFoundException;
+import com.example.hrms.repository.EmployeesRepository;
+import com.example.hrms.repository.LeaveBalanceEntryRepository;
+import com.example.hrms.repository.LeaveBalanceRepository;
+import com.example.hrms.repository.LeaveBalanceSnapshotRepository;
+import com.example.hrms.repository.LedgerMigrationRepository;
+import com.example.hrms.support.SqlStatementCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.IllegalTransactionStateException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.example.hrms.support.TestData.adjustment;
+import static com.example.hrms.support.TestData.createEmployee;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LeaveBalanceLedgerTest
+ *
+ * Integration test for the leave balance ledger.
+ *
+ * Tests:
+ *  - Grants, approvals and adjustments write ledger entries
+ *    and the ledger total matches remainingDays
+ *  - A snapshot is saved every snapshot-interval entries
+ *  - Reading a balance is two queries (snapshot + tail)
+ *  - As-of reads use the latest snapshot before the day
+ *  - Balances created before the ledger get an opening entry,
+ *    once per database
+ *  - Invalid adjustments are rejected
+ *  - Record methods refuse to run without a transaction
+ *
+ * Uses:
+ *  - In-memory H2 database (test profile)
+ *  - SqlStatementCounter
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LeaveBalanceLedgerTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private LeaveRequestService leaveRequestService;
+
+    @Autowired
+    private ManagerService managerService;
+
+    @Autowired
+    private LeaveBalanceService leaveBalanceService;
+
+    @Autowired
+    private LeaveBalanceLedger leaveBalanceLedger;
+
+    @Autowired
+    private LeaveTypeService leaveTypeService;
+
+    @Autowired
+    private EmployeesRepository employeesRepository;
+
+    @Autowired
+    private LedgerMigrationRepository ledgerMigrationRepository;
+
+    @Autowired
+    private LeaveBalanceRepository leaveBalanceRepository;
+
+    @Autowired
+    private LeaveBalanceEntryRepository entryRepository;
+
+    @Autowired
+    private LeaveBalanceSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private LedgerProperties ledgerProperties;
+
+    private int snapshotInterval;
+
+    @BeforeEach
+    void setUp() {
+        snapshotInterval = ledgerProperties.getSnapshotInterval();
+        ledgerProperties.setSnapshotInterval(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ledgerProperties.setSnapshotInterval(snapshotInterval);
+    }
+
+    @Test
+    void ledger_ShouldMatchBalance_AndSnapshotEveryInterval() {
+
+        Long employeeId = createEmployee(employeeService, "Ledger Flow", "ledger.flow@gmail.com",
+                Department.DEVELOPMENT);
+        Long casualId = leaveType(LeaveTypeEnum.CASUAL).getId();
+
+        // GRANT +6, DEDUCT -1, DEDUCT -1 → first snapshot (3 entries)
+        LeaveRequestDTO first = leaveRequestService.applyLeave(employeeId, "CASUAL",
+                LocalDate.of(2036, 1, 7), LocalDate.of(2036, 1, 7), "Ledger");
+        LeaveRequestDTO second = leaveRequestService.applyLeave(employeeId, "CASUAL",
+                LocalDate.of(2036, 1, 14), LocalDate.of(2036, 1, 14), "Ledger");
+
+        managerService.approveLeave(first.getId());
+        managerService.decideLeaves(List.of(second.getId()), LeaveStatus.APPROVED);
+
+        List<LeaveBalanceSnapshot> snapshots = snapshotRepository.findLatest(employeeId, casualId, Limit.of(5));
+
+        assertEquals(1, snapshots.size());
+        assertEquals(4, snapshots.get(0).getBalance());
+        assertEquals(3, snapshots.get(0).getEntryCount());
+
+        // ADJUSTMENT +2, ADJUSTMENT -1 → tail of 2 entries after the snapshot
+        leaveBalanceService.adjustBalance(employeeId, adjustment(LeaveTypeEnum.CASUAL, 2, "Carry over"));
+        LeaveBalanceDTO adjusted = leaveBalanceService.adjustBalance(employeeId,
+                adjustment(LeaveTypeEnum.CASUAL, -1, "Correction"));
+
+        assertEquals(5, adjusted.getRemainingDays());
+        assertEquals(5, remainingDays(employeeId, casualId));
+
+        SqlStatementCounter.reset();
+        assertEquals(5, leaveBalanceLedger.getBalance(employeeId, casualId));
+        assertEquals(2, SqlStatementCounter.selects().size(), "Selects: " + SqlStatementCounter.selects());
+
+        // Sixth entry → second snapshot
+        leaveBalanceService.adjustBalance(employeeId, adjustment(LeaveTypeEnum.CASUAL, 1, "Bonus day"));
+
+        snapshots = snapshotRepository.findLatest(employeeId, casualId, Limit.of(5));
+
+        assertEquals(2, snapshots.size());
+        assertEquals(6, snapshots.get(0).getBalance());
+        assertEquals(6, snapshots.get(0).getEntryCount());
+
+        LeaveBalanceDTO casual = leaveBalanceService.getBalances(employeeId, null).stream()
+                .filter(balance -> balance.getLeaveType() == LeaveTypeEnum.CASUAL)
+                .findFirst()
+                .orElseThrow();
+
+        assertEquals(6, casual.getRemainingDays());
+        assertEquals(6, remainingDays(employeeId, casualId));
+    }
+
+    @Test
+    void approveLeave_ShouldNotReadLedger_BeforeSnapshotIsDue() {
+
+        Long employeeId = createEmployee(employeeService, "Ledger Quiet", "ledger.quiet@gmail.com",
+                Department.DEVELOPMENT);
+
+        // GRANT +6, DEDUCT -1 → 2 entries, below the interval of 3
+        LeaveRequestDTO applied = leaveRequestService.applyLeave(employeeId, "CASUAL",
+                LocalDate.of(2036, 2, 4), LocalDate.of(2036, 2, 4), "Ledger");
+
+        SqlStatementCounter.reset();
+        managerService.approveLeave(applied.getId());
+
+        List<String> ledgerReads = SqlStatementCounter.selects().stream()
+                .filter(sql -> sql.contains("leave_balance_entries") || sql.contains("leave_balance_snapshots"))
+                .toList();
+
+        assertTrue(ledgerReads.isEmpty(), "Ledger reads: " + ledgerReads);
+        assertEquals(5, leaveBalanceLedger.getBalance(employeeId, leaveType(LeaveTypeEnum.CASUAL).getId()));
+    }
+
+    @Test
+    void getBalanceAsOf_ShouldUseLatestSnapshotBeforeDay() {
+
+        // Trainees get no EARNED days, so this balance has no entries yet
+        Long employeeId = createEmployee(employeeService, "Ledger History", "ledger.history@gmail.com",
+                Department.TRAINEE);
+        Employee employee = employeesRepository.findById(employeeId).orElseThrow();
+        LeaveType earned = leaveType(LeaveTypeEnum.EARNED);
+
+        saveEntry(employee, earned, BalanceEntryType.GRANT, 10, LocalDateTime.of(2020, 1, 1, 9, 0));
+        LeaveBalanceEntry february =
+                saveEntry(employee, earned, BalanceEntryType.DEDUCT, -2, LocalDateTime.of(2020, 2, 1, 9, 0));
+        saveEntry(employee, earned, BalanceEntryType.DEDUCT, -3, LocalDateTime.of(2020, 3, 1, 9, 0));
+
+        LeaveBalanceSnapshot snapshot = new LeaveBalanceSnapshot();
+        snapshot.setEmployee(employee);
+        snapshot.setLeaveType(earned);
+        snapshot.setLastEntryId(february.getId());
+        snapshot.setLastEntryAt(february.getCreatedAt());
+        snapshot.setBalance(8);
+        snapshot.setEntryCount(2);
+        snapshotRepository.save(snapshot);
+
+        assertEquals(0, leaveBalanceLedger.getBalanceAsOf(employeeId, earned.getId(), LocalDate.of(2019, 12, 31)));
+        assertEquals(10, leaveBalanceLedger.getBalanceAsOf(employeeId, earned.getId(), LocalDate.of(2020, 1, 31)));
+        assertEquals(8, leaveBalanceLedger.getBalanceAsOf(employeeId, earned.getId(), LocalDate.of(2020, 2, 1)));
+        assertEquals(5, leaveBalanceLedger.getBalanceAsOf(employeeId, earned.getId(), LocalDate.of(2020, 3, 1)));
+        assertEquals(5, leaveBalanceLedger.getBalance(employeeId, earned.getId()));
+    }
+
+    @Test
+    void recordOpeningBalances_ShouldGrantBalancesWithoutEntries() {
+
+        Long employeeId = createEmployee(employeeService, "Ledger Opening", "ledger.opening@gmail.com",
+                Department.TRAINEE);
+        LeaveType earned = leaveType(LeaveTypeEnum.EARNED);
+
+        // Balance written without the ledger (as before the ledger existed)
+        LeaveBalance balance = new LeaveBalance();
+        balance.setEmployee(employeesRepository.findById(employeeId).orElseThrow());
+        balance.setLeaveType(earned);
+        balance.setRemainingDays(4);
+        leaveBalanceRepository.save(balance);
+
+        assertEquals(0, leaveBalanceLedger.getBalance(employeeId, earned.getId()));
+
+        // Completed at startup: only the migration row is read
+        SqlStatementCounter.reset();
+        leaveBalanceLedger.recordOpeningBalances();
+
+        assertEquals(1, SqlStatementCounter.statements().size(), "Statements: " + SqlStatementCounter.statements());
+        assertEquals(0, leaveBalanceLedger.getBalance(employeeId, earned.getId()));
+
+        // As on a database that was never migrated
+        ledgerMigrationRepository.deleteById("opening-balances");
+        leaveBalanceLedger.recordOpeningBalances();
+
+        assertEquals(4, leaveBalanceLedger.getBalance(employeeId, earned.getId()));
+        assertEquals(LocalDate.now(), leaveBalanceService.getBalances(employeeId, null).get(0).getAsOf());
+        assertTrue(ledgerMigrationRepository.existsById("opening-balances"));
+    }
+
+    @Test
+    void adjustBalance_ShouldRejectInvalidAdjustments() {
+
+        Long employeeId = createEmployee(employeeService, "Ledger Invalid", "ledger.invalid@gmail.com",
+                Department.TRAINEE);
+
+        assertThrows(InvalidRequestException.class, () -> leaveBalanceService.adjustBalance(employeeId,
+                adjustment(LeaveTypeEnum.SICK, -7, "Too many")));
+        assertThrows(InvalidRequestException.class, () -> leaveBalanceService.adjustBalance(employeeId,
+                adjustment(LeaveTypeEnum.SICK, 0, "Nothing")));
+        assertThrows(ResourceNotFoundException.class, () -> leaveBalanceService.adjustBalance(employeeId,
+                adjustment(LeaveTypeEnum.EARNED, 1, "No balance")));
+        assertThrows(ResourceNotFoundException.class, () -> leaveBalanceService.getBalances(-1L, null));
+
+        assertEquals(6, remainingDays(employeeId, leaveType(LeaveTypeEnum.SICK).getId()));
+    }
+
+    @Test
+    void recordMethods_ShouldRequireTransaction() {
+
+        Long employeeId = createEmployee(employeeService, "Ledger Mandatory", "ledger.mandatory@gmail.com",
+                Department.TRAINEE);
+        LeaveType sick = leaveType(LeaveTypeEnum.SICK);
+
+        assertThrows(IllegalTransactionStateException.class,
+                () -> leaveBalanceLedger.recordAdjustment(employeeId, sick, 1, "No transaction"));
+        assertThrows(IllegalTransactionStateException.class,
+                () -> leaveBalanceLedger.recordGrants(List.of()));
+
+        // The GRANT entry was saved with the employee, nothing else
+        assertEquals(6, leaveBalanceLedger.getBalance(employeeId, sick.getId()));
+    }
+
+    private LeaveType leaveType(LeaveTypeEnum name) {
+        return leaveTypeService.getLeaveType(name).orElseThrow();
+    }
+
+    private int remainingDays(Long employeeId, Long leaveTypeId) {
+        return leaveBalanceRepository.findByEmployeeIdInAndLeaveTypeIdIn(List.of(employeeId), List.of(leaveTypeId))
+                .get(0).getRemainingDays();
+    }
+
+    private LeaveBalanceEntry saveEntry(Employee employee, LeaveType leaveType,
+                                        BalanceEntryType type, int days, LocalDateTime createdAt) {
+
+        LeaveBalanceEntry entry = new LeaveBalanceEntry();
+        entry.setEmployee(employee);
+        entry.setLeaveType(leaveType);
+        entry.setType(type);
+        entry.setDays(days);
+        entry.setCreatedAt(createdAt);
+
+        return entryRepository.save(entry);
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.hrms.service;
+
+import com.example.hrms.dto.ExportFormat;
+import com.example.hrms.exception.InvalidRequestException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static com.example.hrms.support.TestData.createEmployee;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LeaveExportTest
+ *
+ * Integration test for LeaveExportService.
+ *
+ * Tests:
+ *  - CSV export (header, quoting, date range filter)
+ *  - Formulas in names and reasons are written as plain text
+ *  - NDJSON export (one JSON object per line)
+ *  - Gzip output
+ *  - Invalid date range and format
+ *
+ * Uses:
+ *  - In-memory H2 database (test profile)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LeaveExportTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private LeaveRequestService leaveRequestService;
+
+    @Autowired
+    private LeaveExportService leaveExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static final LocalDate FROM = LocalDate.of(2035, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2035, 3, 31);
+
+    @Test
+    void exportLeaves_Csv_ShouldStreamRowsInRange() throws IOException {
+
+        Long employeeId = createEmployee(employeeService, "Export Csv", "export.csv@gmail.com");
+
+        leaveRequestService.applyLeave(employeeId, "CASUAL",
+                LocalDate.of(2035, 3, 5), LocalDate.of(2035, 3, 6), "Family, \"wedding\"");
+        leaveRequestService.applyLeave(employeeId, "SICK",
+                LocalDate.of(2035, 5, 7), LocalDate.of(2035, 5, 7), "Out of range");
+
+        String csv = export(ExportFormat.CSV, false);
+        List<String> lines = csv.lines().toList();
+
+        assertEquals("request_id,employee_id,employee_name,employee_email,department,"
+                + "leave_type,start_date,end_date,total_days,status,reason", lines.get(0));
+
+        List<String> rows = lines.stream()
+                .filter(line -> line.contains("export.csv@gmail.com"))
+                .toList();
+
+        assertEquals(1, rows.size());
+        assertTrue(rows.get(0).contains(",Export Csv,export.csv@gmail.com,DEVELOPMENT,CASUAL,"
+                + "2035-03-05,2035-03-06,2,PENDING,\"Family, \"\"wedding\"\"\""), rows.get(0));
+    }
+
+    @Test
+    void exportLeaves_Csv_ShouldDefuseFormulas() throws IOException {
+
+        Long employeeId = createEmployee(employeeService, "+Export Formula", "export.formula@gmail.com");
+
+        leaveRequestService.applyLeave(employeeId, "CASUAL",
+                LocalDate.of(2035, 3, 12), LocalDate.of(2035, 3, 12), "=HYPERLINK(\"http://x\",\"pay\")");
+        leaveRequestService.applyLeave(employeeId, "SICK",
+                LocalDate.of(2035, 3, 13), LocalDate.of(2035, 3, 13), "@SUM(A1)");
+
+        List<String> rows = export(ExportFormat.CSV, false).lines()
+                .filter(line -> line.contains("export.formula@gmail.com"))
+                .toList();
+
+        assertEquals(2, rows.size());
+        assertTrue(rows.get(0).contains(",'+Export Formula,"), rows.get(0));
+        assertTrue(rows.get(0).endsWith(",\"'=HYPERLINK(\"\"http://x\"\",\"\"pay\"\")\""), rows.get(0));
+        assertTrue(rows.get(1).endsWith(",'@SUM(A1)"), rows.get(1));
+
+        // NDJSON is not opened in a spreadsheet, values stay as entered
+        assertTrue(export(ExportFormat.NDJSON, false).contains("\"+Export Formula\""));
+    }
+
+    @Test
+    void exportLeaves_Ndjson_ShouldWriteOneObjectPerLine() throws IOException {
+
+        Long employeeId = createEmployee(employeeService, "Export Json", "export.json@gmail.com");
+
+        leaveRequestService.applyLeave(employeeId, "CASUAL",
+                LocalDate.of(2035, 3, 12), LocalDate.of(2035, 3, 12), "Errand");
+        leaveRequestService.applyLeave(employeeId, "SICK",
+                LocalDate.of(2035, 3, 19), LocalDate.of(2035, 3, 20), "Fever");
+
+        String ndjson = export(ExportFormat.NDJSON, false);
+
+        List<JsonNode> rows = ndjson.lines()
+                .map(this::readJson)
+                .filter(row -> row.get("employeeEmail").asText().equals("export.json@gmail.com"))
+                .toList();
+
+        assertTrue(ndjson.endsWith("\n"));
+        assertEquals(2, rows.size());
+        assertEquals("CASUAL", rows.get(0).get("leaveType").asText());
+        assertEquals("2035-03-19", rows.get(1).get("startDate").asText());
+        assertEquals(2, rows.get(1).get("totalDays").asInt());
+    }
+
+    @Test
+    void exportLeaves_Gzip_ShouldCompressOutput() throws IOException {
+
+        Long employeeId = createEmployee(employeeService, "Export Gzip", "export.gzip@gmail.com");
+
+        leaveRequestService.applyLeave(employeeId, "CASUAL",
+                LocalDate.of(2035, 3, 26), LocalDate.of(2035, 3, 26), "Trip");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        leaveExportService.exportLeaves(FROM, TO, ExportFormat.CSV, true).writeTo(out);
+
+        String csv;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        assertTrue(csv.startsWith("request_id,"));
+        assertTrue(csv.contains("export.gzip@gmail.com"));
+    }
+
+    @Test
+    void exportLeaves_ShouldThrow_WhenToBeforeFrom() {
+
+        assertThrows(InvalidRequestException.class,
+                () -> leaveExportService.exportLeaves(TO, FROM, ExportFormat.CSV, false));
+    }
+
+    @Test
+    void exportFormat_ShouldThrow_WhenUnknown() {
+
+        assertEquals(ExportFormat.NDJSON, ExportFormat.from("NDJSON"));
+        assertThrows(InvalidRequestException.class, () -> ExportFormat.from("xlsx"));
+    }
+
+    private String export(ExportFormat format, boolean gzip) throws IOException {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        leaveExportService.exportLeaves(FROM, TO, format, gzip).writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private JsonNode readJson(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
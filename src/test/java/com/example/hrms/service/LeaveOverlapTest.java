@@ -0,0 +1,114 @@
+package com.example.hrms.service;
+
+import com.example.hrms.dto.EmployeeRequestDTO;
+import com.example.hrms.dto.LeaveRequestDTO;
+import com.example.hrms.entity.Department;
+import com.example.hrms.exception.DuplicateResourceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LeaveOverlapTest
+ *
+ * Integration test for overlapping leave detection in applyLeave.
+ *
+ * Existing request: Tuesday 2032-03-09 to Thursday 2032-03-11.
+ *
+ * Tests:
+ *  - Ranges touching the first or last day overlap
+ *  - Ranges inside or around the existing request overlap
+ *  - Ranges ending the day before / starting the day after are accepted
+ *  - Rejected requests do not block new requests
+ *
+ * Uses:
+ *  - In-memory H2 database (test profile)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LeaveOverlapTest {
+
+    private static final AtomicInteger EMPLOYEES = new AtomicInteger();
+
+    private static final LocalDate START = LocalDate.of(2032, 3, 9);
+    private static final LocalDate END = LocalDate.of(2032, 3, 11);
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private LeaveRequestService leaveRequestService;
+
+    @Autowired
+    private ManagerService managerService;
+
+    private Long employeeId;
+    private LeaveRequestDTO existing;
+
+    @BeforeEach
+    void setup() {
+
+        EmployeeRequestDTO request = new EmployeeRequestDTO();
+        request.setName("Overlap");
+        request.setEmail("overlap" + EMPLOYEES.incrementAndGet() + "@gmail.com");
+        request.setDepartment(Department.DEVELOPMENT);
+
+        employeeId = employeeService.createEmployee(request).getId();
+
+        existing = apply(START, END);
+    }
+
+    @Test
+    void applyLeave_ShouldReject_WhenEndTouchesFirstDay() {
+        assertThrows(DuplicateResourceException.class,
+                () -> apply(START.minusDays(1), START));
+    }
+
+    @Test
+    void applyLeave_ShouldReject_WhenStartTouchesLastDay() {
+        assertThrows(DuplicateResourceException.class,
+                () -> apply(END, END.plusDays(1)));
+    }
+
+    @Test
+    void applyLeave_ShouldReject_WhenInsideOrAround() {
+        assertThrows(DuplicateResourceException.class,
+                () -> apply(START.plusDays(1), START.plusDays(1)));
+        assertThrows(DuplicateResourceException.class,
+                () -> apply(START.minusDays(1), END.plusDays(1)));
+    }
+
+    @Test
+    void applyLeave_ShouldAccept_WhenAdjacent() {
+        assertNotNull(apply(START.minusDays(1), START.minusDays(1)).getId());
+        assertNotNull(apply(END.plusDays(1), END.plusDays(1)).getId());
+    }
+
+    @Test
+    void applyLeave_ShouldAccept_WhenExistingIsRejected() {
+
+        managerService.rejectLeave(existing.getId());
+
+        assertNotNull(apply(START, END).getId());
+    }
+
+    @Test
+    void applyLeave_ShouldReject_WhenExistingIsApproved() {
+
+        managerService.approveLeave(existing.getId());
+
+        assertThrows(DuplicateResourceException.class,
+                () -> apply(END, END));
+    }
+
+    private LeaveRequestDTO apply(LocalDate startDate, LocalDate endDate) {
+        return leaveRequestService.applyLeave(employeeId, "EARNED", startDate, endDate, "Trip");
+    }
+}
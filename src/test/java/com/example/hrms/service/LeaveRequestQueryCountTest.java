@@ -0,0 +1,199 @@
+package com.example.hrms.service;
+
+import com.example.hrms.dto.EmployeeRequestDTO;
+import com.example.hrms.dto.EmployeeResponseDTO;
+import com.example.hrms.dto.LeaveRequestDTO;
+import com.example.hrms.dto.CursorPageDTO;
+import com.example.hrms.dto.SlicePageDTO;
+import com.example.hrms.entity.Department;
+import com.example.hrms.entity.LeaveStatus;
+import com.example.hrms.support.SqlStatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LeaveRequestQueryCountTest
+ *
+ * Integration test counting the SQL statements
+ * sent by LeaveRequestService.applyLeave,
+ * ManagerService.rejectLeave and ManagerService.getPendingRequestsSlice.
+ *
+ * Tests:
+ *  - Leave types are served from memory (no leave_types query)
+ *  - Rejecting reads the request once (no read after the update)
+ *  - Polling the pending slice runs no COUNT query
+ *  - A 100-row pending page runs the same queries as a 1-row page
+ *    (no select per employee or leave type)
+ *
+ * Uses:
+ *  - In-memory H2 database (test profile)
+ *  - SqlStatementCounter
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LeaveRequestQueryCountTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private LeaveRequestService leaveRequestService;
+
+    @Autowired
+    private ManagerService managerService;
+
+    @Autowired
+    private PendingSummary pendingSummary;
+
+    /**
+     * Before the registry applyLeave ran a leave type select.
+     * Now it runs: employee, overlap check and leave balance.
+     */
+    @Test
+    void applyLeave_ShouldNotQueryLeaveTypes() {
+
+        EmployeeRequestDTO request = new EmployeeRequestDTO();
+        request.setName("Query Count");
+        request.setEmail("query.count@gmail.com");
+        request.setDepartment(Department.DEVELOPMENT);
+
+        EmployeeResponseDTO employee = employeeService.createEmployee(request);
+
+        SqlStatementCounter.reset();
+
+        LeaveRequestDTO result = leaveRequestService.applyLeave(
+                employee.getId(),
+                "SICK",
+                LocalDate.of(2030, 3, 4),
+                LocalDate.of(2030, 3, 5),
+                "Fever");
+
+        List<String> selects = SqlStatementCounter.selects();
+
+        assertEquals(2, result.getTotalDays());
+        assertTrue(selects.stream().noneMatch(sql -> sql.contains("from leave_types")),
+                "Unexpected leave type query: " + selects);
+        assertEquals(3, selects.size(), "Selects: " + selects);
+    }
+
+    /**
+     * rejectLeave runs one select (request with employee and leave type)
+     * and the guarded status update.
+     */
+    @Test
+    void rejectLeave_ShouldReadRequestOnce() {
+
+        EmployeeRequestDTO request = new EmployeeRequestDTO();
+        request.setName("Reject Count");
+        request.setEmail("reject.count@gmail.com");
+        request.setDepartment(Department.DEVELOPMENT);
+
+        EmployeeResponseDTO employee = employeeService.createEmployee(request);
+
+        LeaveRequestDTO applied = leaveRequestService.applyLeave(
+                employee.getId(),
+                "CASUAL",
+                LocalDate.of(2039, 1, 10),
+                LocalDate.of(2039, 1, 10),
+                "Errand");
+
+        SqlStatementCounter.reset();
+
+        LeaveRequestDTO rejected = managerService.rejectLeave(applied.getId());
+
+        List<String> statements = SqlStatementCounter.statements();
+
+        assertEquals(LeaveStatus.REJECTED, rejected.getStatus());
+        assertEquals(employee.getId(), rejected.getEmployeeId());
+        assertEquals(2, statements.size(), "Statements: " + statements);
+        assertEquals(1, SqlStatementCounter.selects().size(), "Statements: " + statements);
+    }
+
+    /**
+     * The slice endpoint reads one page (plus one row)
+     * and takes the total from PendingSummary.
+     */
+    @Test
+    void getPendingRequestsSlice_ShouldNotRunCountQuery() {
+
+        EmployeeRequestDTO request = new EmployeeRequestDTO();
+        request.setName("Slice Count");
+        request.setEmail("slice.count@gmail.com");
+        request.setDepartment(Department.DEVELOPMENT);
+
+        EmployeeResponseDTO employee = employeeService.createEmployee(request);
+
+        leaveRequestService.applyLeave(
+                employee.getId(),
+                "CASUAL",
+                LocalDate.of(2031, 3, 3),
+                LocalDate.of(2031, 3, 3),
+                "Errand");
+
+        SqlStatementCounter.reset();
+
+        SlicePageDTO<LeaveRequestDTO> result =
+                managerService.getPendingRequestsSlice(0, 100);
+
+        List<String> selects = SqlStatementCounter.selects();
+
+        assertFalse(result.getContent().isEmpty());
+        assertNotNull(result.getApproximateTotal());
+        assertTrue(result.getApproximateTotal() >= 1);
+        assertTrue(selects.stream().noneMatch(sql -> sql.contains("count(")),
+                "Unexpected count query: " + selects);
+    }
+
+    /**
+     * Employee and leave type are LAZY, pages fetch the leave type
+     * with an entity graph. 100 requests of 25 employees must not
+     * load employees or leave types one by one.
+     */
+    @Test
+    void getPendingRequests_ShouldRunConstantQueries_For100Rows() {
+
+        LocalDate monday = LocalDate.of(2034, 1, 2);
+
+        for (int i = 0; i < 25; i++) {
+
+            EmployeeRequestDTO request = new EmployeeRequestDTO();
+            request.setName("Page Count " + i);
+            request.setEmail("page.count" + i + "@gmail.com");
+            request.setDepartment(Department.values()[i % Department.values().length]);
+
+            EmployeeResponseDTO employee = employeeService.createEmployee(request);
+
+            for (int week = 0; week < 4; week++) {
+                LocalDate day = monday.plusWeeks(week);
+                leaveRequestService.applyLeave(employee.getId(),
+                        week % 2 == 0 ? "CASUAL" : "SICK", day, day, "Page count");
+            }
+        }
+
+        SqlStatementCounter.reset();
+        Page<LeaveRequestDTO> page = managerService.getPendingRequests(0, 100);
+        List<String> pageSelects = SqlStatementCounter.selects();
+
+        SqlStatementCounter.reset();
+        CursorPageDTO<LeaveRequestDTO> cursor = managerService.getPendingRequestsAfter(null, 100);
+        List<String> cursorSelects = SqlStatementCounter.selects();
+
+        assertEquals(100, page.getContent().size());
+        assertEquals(100, cursor.getContent().size());
+        assertTrue(page.getContent().stream().allMatch(dto -> dto.getLeaveType().getName() != null));
+
+        // Page query plus COUNT
+        assertEquals(2, pageSelects.size(), "Selects: " + pageSelects);
+        assertEquals(1, cursorSelects.size(), "Selects: " + cursorSelects);
+        assertTrue(pageSelects.stream().noneMatch(sql -> sql.contains("from employees")),
+                "Unexpected employee query: " + pageSelects);
+    }
+}
@@ -1,13 +1,20 @@
 package com.example.hrms.service;
 
+import com.example.hrms.config.CalendarProperties;
+import com.example.hrms.config.PagingProperties;
+import com.example.hrms.dto.CursorPageDTO;
 import com.example.hrms.dto.LeaveRequestDTO;
 import com.example.hrms.entity.*;
+import com.example.hrms.exception.DuplicateResourceException;
 import com.example.hrms.exception.InvalidRequestException;
 import com.example.hrms.exception.ResourceNotFoundException;
 import com.example.hrms.mapper.LeaveRequestMapper;
 import com.example.hrms.repository.*;
 import com.example.hrms.service.impl.LeaveRequestServiceImpl;
+import com.example.hrms.service.impl.WorkingDayCalendarImpl;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,8 +34,8 @@ import static org.mockito.Mockito.*;
  *
  * Tests:
  *  - Apply leave (success and failure scenarios)
- *  - Validate business rules
- *  - Fetch leave history with pagination
+ *  - Validate business rules (including overlapping requests)
+ *  - Fetch leave history with pagination (offset and cursor)
  *
  * Uses:
  *  - JUnit 5
@@ -47,11 +54,24 @@ class LeaveRequestServiceImplTest {
     private LeaveBalanceRepository leaveBalanceRepository;
 
     @Mock
-    private LeaveTypeRepository leaveTypeRepository;
+    private LeaveTypeService leaveTypeService;
 
     @Mock
     private LeaveRequestMapper leaveRequestMapper;
 
+    @Spy
+    private WorkingDayCalendar workingDayCalendar =
+            new WorkingDayCalendarImpl(new CalendarProperties());
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private PendingSummary pendingSummary;
+
+    @Spy
+    private PagingProperties pagingProperties = new PagingProperties();
+
     @InjectMocks
     private LeaveRequestServiceImpl leaveRequestService;
 
@@ -85,10 +105,10 @@ class LeaveRequestServiceImplTest {
     @Test
     void applyLeave_ShouldSucceed() {
 
-        when(employeesRepository.findById(1L))
+        when(employeesRepository.findForUpdateById(1L))
                 .thenReturn(Optional.of(employee));
 
-        when(leaveTypeRepository.findByName(LeaveTypeEnum.SICK))
+        when(leaveTypeService.getLeaveType(LeaveTypeEnum.SICK))
                 .thenReturn(Optional.of(leaveType));
 
         when(leaveBalanceRepository.findByEmployeeAndLeaveType(employee, leaveType))
@@ -112,6 +132,37 @@ class LeaveRequestServiceImplTest {
         assertEquals(100L, result.getId());
 
         verify(leaveRequestRepository, times(1)).save(any());
+
+        assertEquals(1, meterRegistry.get("hrms.leave.apply")
+                .tags("outcome", "success", "leave_type", "SICK").timer().count());
+    }
+
+    /**
+     * Tests leave application overlapping an existing request.
+     */
+    @Test
+    void applyLeave_ShouldThrow_WhenOverlapping() {
+
+        LocalDate start = LocalDate.of(2026, 2, 23);
+        LocalDate end = LocalDate.of(2026, 2, 24);
+
+        when(employeesRepository.findForUpdateById(1L))
+                .thenReturn(Optional.of(employee));
+
+        when(leaveTypeService.getLeaveType(LeaveTypeEnum.SICK))
+                .thenReturn(Optional.of(leaveType));
+
+        when(leaveRequestRepository.existsOverlapping(1L, start, end))
+                .thenReturn(true);
+
+        assertThrows(DuplicateResourceException.class,
+                () -> leaveRequestService.applyLeave(1L, "SICK", start, end, "Fever"));
+
+        verify(leaveRequestRepository, never()).save(any());
+        verifyNoInteractions(leaveBalanceRepository);
+
+        assertEquals(1, meterRegistry.get("hrms.leave.apply")
+                .tags("outcome", "duplicate", "leave_type", "SICK").timer().count());
     }
 
     /**
@@ -130,13 +181,32 @@ class LeaveRequestServiceImplTest {
                 ));
     }
 
+    /**
+     * Tests that a far-future end date is rejected
+     * before any working day is counted.
+     */
+    @Test
+    void applyLeave_ShouldThrow_WhenRangeTooLong() {
+
+        assertThrows(InvalidRequestException.class,
+                () -> leaveRequestService.applyLeave(
+                        1L,
+                        "SICK",
+                        LocalDate.of(2026, 2, 25),
+                        LocalDate.of(9999, 12, 31),
+                        "Reason"
+                ));
+
+        verifyNoInteractions(employeesRepository, workingDayCalendar);
+    }
+
     /**
      * Tests leave application when employee does not exist.
      */
     @Test
     void applyLeave_ShouldThrow_WhenEmployeeNotFound() {
 
-        when(employeesRepository.findById(1L))
+        when(employeesRepository.findForUpdateById(1L))
                 .thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class,
@@ -157,10 +227,10 @@ class LeaveRequestServiceImplTest {
 
         balance.setRemainingDays(1);
 
-        when(employeesRepository.findById(1L))
+        when(employeesRepository.findForUpdateById(1L))
                 .thenReturn(Optional.of(employee));
 
-        when(leaveTypeRepository.findByName(LeaveTypeEnum.SICK))
+        when(leaveTypeService.getLeaveType(LeaveTypeEnum.SICK))
                 .thenReturn(Optional.of(leaveType));
 
         when(leaveBalanceRepository.findByEmployeeAndLeaveType(employee, leaveType))
@@ -185,19 +255,63 @@ class LeaveRequestServiceImplTest {
         when(employeesRepository.existsById(1L))
                 .thenReturn(true);
 
-        Page<LeaveRequest> page =
-                new PageImpl<>(java.util.List.of(leaveRequest));
+        Page<LeaveRequestDTO> page =
+                new PageImpl<>(java.util.List.of(dto));
 
         when(leaveRequestRepository.findByEmployeeId(eq(1L), any(Pageable.class)))
                 .thenReturn(page);
 
-        when(leaveRequestMapper.toDTO(leaveRequest))
-                .thenReturn(dto);
-
         Page<LeaveRequestDTO> result =
                 leaveRequestService.getLeaveHistory(1L, 0, 5);
 
         assertEquals(1, result.getTotalElements());
         verify(leaveRequestRepository).findByEmployeeId(eq(1L), any(Pageable.class));
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests fetching the last page of leave history with a cursor.
+     */
+    @Test
+    void getLeaveHistoryAfter_ShouldReturnLastPage() {
+
+        when(employeesRepository.existsById(1L))
+                .thenReturn(true);
+
+        when(leaveRequestRepository.findByEmployeeIdAndIdGreaterThanOrderByIdAsc(
+                1L, 40L, Limit.of(6)))
+                .thenReturn(java.util.List.of(dto));
+
+        CursorPageDTO<LeaveRequestDTO> result =
+                leaveRequestService.getLeaveHistoryAfter(1L, CursorPageDTO.encodeCursor(40L), 5);
+
+        assertEquals(1, result.getContent().size());
+        assertNull(result.getNextCursor());
+    }
+
+    /**
+     * Tests cursor history when employee does not exist.
+     */
+    @Test
+    void getLeaveHistoryAfter_ShouldThrow_WhenEmployeeNotFound() {
+
+        when(employeesRepository.existsById(1L))
+                .thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> leaveRequestService.getLeaveHistoryAfter(1L, null, 5));
+
+        verifyNoInteractions(leaveRequestRepository);
+    }
+
+    /**
+     * Tests that a limit above hrms.paging.max-limit is rejected.
+     */
+    @Test
+    void getLeaveHistoryAfter_ShouldThrow_WhenLimitTooLarge() {
+
+        assertThrows(InvalidRequestException.class,
+                () -> leaveRequestService.getLeaveHistoryAfter(1L, null, Integer.MAX_VALUE));
+
+        verifyNoInteractions(leaveRequestRepository);
+    }
+}
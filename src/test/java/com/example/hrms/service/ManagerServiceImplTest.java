@@ -1,6 +1,11 @@
 package com.example.hrms.service;
 
+import com.example.hrms.config.BulkProperties;
+import com.example.hrms.config.PagingProperties;
+import com.example.hrms.dto.CursorPageDTO;
+import com.example.hrms.dto.LeaveDecisionResultDTO;
 import com.example.hrms.dto.LeaveRequestDTO;
+import com.example.hrms.dto.SlicePageDTO;
 import com.example.hrms.entity.*;
 import com.example.hrms.exception.InvalidRequestException;
 import com.example.hrms.exception.ResourceNotFoundException;
@@ -9,12 +14,16 @@ import com.example.hrms.repository.LeaveBalanceRepository;
 import com.example.hrms.repository.LeaveRequestRepository;
 import com.example.hrms.service.impl.ManagerServiceImpl;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.springframework.data.domain.*;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,9 +35,11 @@ import static org.mockito.Mockito.*;
  * Unit test class for ManagerServiceImpl.
  *
  * Tests:
- *  - Get pending leave requests
+ *  - Get pending leave requests (offset, slice and cursor)
  *  - Approve leave (success and failure cases)
  *  - Reject leave (success and failure cases)
+ *  - Bulk approve / reject
+ *  - Absence heatmap range validation
  *
  * Uses:
  *  - JUnit 5
@@ -46,6 +57,24 @@ class ManagerServiceImplTest {
     @Mock
     private LeaveRequestMapper leaveRequestMapper;
 
+    @Spy
+    private BulkProperties bulkProperties = new BulkProperties();
+
+    @Mock
+    private AbsenceHeatmap absenceHeatmap;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private LeaveBalanceLedger leaveBalanceLedger;
+
+    @Mock
+    private PendingSummary pendingSummary;
+
+    @Spy
+    private PagingProperties pagingProperties = new PagingProperties();
+
     @InjectMocks
     private ManagerServiceImpl managerService;
 
@@ -57,7 +86,10 @@ class ManagerServiceImplTest {
     void setup() {
 
         Employee employee = new Employee();
+        employee.setId(5L);
         LeaveType leaveType = new LeaveType();
+        leaveType.setId(7L);
+        leaveType.setName(LeaveTypeEnum.CASUAL);
 
         request = new LeaveRequest();
         request.setId(1L);
@@ -67,6 +99,8 @@ class ManagerServiceImplTest {
         request.setLeaveType(leaveType);
 
         balance = new LeaveBalance();
+        balance.setEmployee(employee);
+        balance.setLeaveType(leaveType);
         balance.setRemainingDays(10);
 
         dto = new LeaveRequestDTO();
@@ -79,15 +113,12 @@ class ManagerServiceImplTest {
     @Test
     void getPendingRequests_ShouldReturnPage() {
 
-        Page<LeaveRequest> page =
-                new PageImpl<>(java.util.List.of(request));
+        Page<LeaveRequestDTO> page =
+                new PageImpl<>(java.util.List.of(dto));
 
         when(leaveRequestRepository.findByStatus(eq(LeaveStatus.PENDING), any(Pageable.class)))
                 .thenReturn(page);
 
-        when(leaveRequestMapper.toDTO(request))
-                .thenReturn(dto);
-
         Page<LeaveRequestDTO> result =
                 managerService.getPendingRequests(0, 5);
 
@@ -95,34 +126,107 @@ class ManagerServiceImplTest {
         verify(leaveRequestRepository).findByStatus(eq(LeaveStatus.PENDING), any());
     }
 
+    /**
+     * Tests fetching pending leave requests as a slice.
+     * The total comes from the cached counter, not from a COUNT query.
+     */
+    @Test
+    void getPendingRequestsSlice_ShouldUseCachedTotal() {
+
+        Slice<LeaveRequestDTO> slice =
+                new SliceImpl<>(List.of(dto), PageRequest.of(0, 1), true);
+
+        when(leaveRequestRepository.findSliceByStatus(eq(LeaveStatus.PENDING), any(Pageable.class)))
+                .thenReturn(slice);
+
+        when(pendingSummary.getTotal())
+                .thenReturn(42L);
+
+        SlicePageDTO<LeaveRequestDTO> result =
+                managerService.getPendingRequestsSlice(0, 1);
+
+        assertTrue(result.isHasNext());
+        assertEquals(42L, result.getApproximateTotal());
+        assertEquals(1, result.getContent().size());
+        verify(leaveRequestRepository, never()).findByStatus(any(), any());
+    }
+
+    /**
+     * Tests fetching pending leave requests with a cursor.
+     * One extra row is read to know that a next page exists.
+     */
+    @Test
+    void getPendingRequestsAfter_ShouldReturnNextCursor() {
+
+        LeaveRequestDTO next = new LeaveRequestDTO();
+        next.setId(2L);
+
+        when(leaveRequestRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                LeaveStatus.PENDING, 0L, Limit.of(2)))
+                .thenReturn(List.of(dto, next));
+
+        CursorPageDTO<LeaveRequestDTO> result =
+                managerService.getPendingRequestsAfter(null, 1);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals(1L, CursorPageDTO.decodeCursor(result.getNextCursor()));
+        verify(leaveRequestRepository, never()).findByStatus(any(), any());
+    }
+
+    /**
+     * Tests that an invalid cursor is rejected.
+     */
+    @Test
+    void getPendingRequestsAfter_ShouldThrow_WhenCursorInvalid() {
+
+        assertThrows(InvalidRequestException.class,
+                () -> managerService.getPendingRequestsAfter("not a cursor", 10));
+    }
+
+    /**
+     * Tests that a limit above hrms.paging.max-limit is rejected.
+     */
+    @Test
+    void getPendingRequestsAfter_ShouldThrow_WhenLimitTooLarge() {
+
+        assertThrows(InvalidRequestException.class,
+                () -> managerService.getPendingRequestsAfter(null, Integer.MAX_VALUE));
+
+        verifyNoInteractions(leaveRequestRepository);
+    }
+
     /**
      * Tests successful leave approval.
      */
     @Test
     void approveLeave_ShouldSucceed() {
 
-        when(leaveRequestRepository.findById(1L))
+        when(leaveRequestRepository.findWithDetailsById(1L))
                 .thenReturn(Optional.of(request));
 
-        when(leaveBalanceRepository.findByEmployeeAndLeaveType(
-                request.getEmployee(),
-                request.getLeaveType()))
-                .thenReturn(Optional.of(balance));
+        when(leaveRequestRepository.updateStatus(1L, LeaveStatus.PENDING, LeaveStatus.APPROVED))
+                .thenReturn(1);
 
-        when(leaveRequestRepository.save(request))
-                .thenReturn(request);
+        when(leaveBalanceRepository.deductDays(5L, 7L, 3, 1))
+                .thenReturn(1);
 
         when(leaveRequestMapper.toDTO(request))
                 .thenReturn(dto);
 
         LeaveRequestDTO result = managerService.approveLeave(1L);
 
-        assertEquals(LeaveStatus.APPROVED, request.getStatus());
-        assertEquals(7, balance.getRemainingDays());
+        assertEquals(LeaveStatus.APPROVED, result.getStatus());
 
-        verify(leaveBalanceRepository).save(balance);
-        verify(leaveRequestRepository).save(request);
-        assertNotNull(result);
+        verify(leaveBalanceRepository).deductDays(5L, 7L, 3, 1);
+        verify(leaveBalanceRepository, never()).save(any());
+        verify(leaveRequestRepository, never()).save(any());
+        verify(absenceHeatmap).recordApproved(request);
+        verify(leaveBalanceLedger).recordDeductions(List.of(request));
+
+        assertEquals(1, meterRegistry.get("hrms.leave.approve")
+                .tags("outcome", "success", "leave_type", "CASUAL").timer().count());
+        assertEquals(3.0, meterRegistry.get("hrms.leave.approved.days")
+                .tag("leave_type", "CASUAL").counter().count());
     }
 
     /**
@@ -131,7 +235,7 @@ class ManagerServiceImplTest {
     @Test
     void approveLeave_ShouldThrow_WhenNotFound() {
 
-        when(leaveRequestRepository.findById(1L))
+        when(leaveRequestRepository.findWithDetailsById(1L))
                 .thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class,
@@ -144,13 +248,16 @@ class ManagerServiceImplTest {
     @Test
     void approveLeave_ShouldThrow_WhenAlreadyProcessed() {
 
-        request.setStatus(LeaveStatus.APPROVED);
-
-        when(leaveRequestRepository.findById(1L))
+        when(leaveRequestRepository.findWithDetailsById(1L))
                 .thenReturn(Optional.of(request));
 
+        when(leaveRequestRepository.updateStatus(1L, LeaveStatus.PENDING, LeaveStatus.APPROVED))
+                .thenReturn(0);
+
         assertThrows(InvalidRequestException.class,
                 () -> managerService.approveLeave(1L));
+
+        verifyNoInteractions(leaveBalanceRepository);
     }
 
     /**
@@ -161,9 +268,15 @@ class ManagerServiceImplTest {
 
         balance.setRemainingDays(1);
 
-        when(leaveRequestRepository.findById(1L))
+        when(leaveRequestRepository.findWithDetailsById(1L))
                 .thenReturn(Optional.of(request));
 
+        when(leaveRequestRepository.updateStatus(1L, LeaveStatus.PENDING, LeaveStatus.APPROVED))
+                .thenReturn(1);
+
+        when(leaveBalanceRepository.deductDays(5L, 7L, 3, 1))
+                .thenReturn(0);
+
         when(leaveBalanceRepository.findByEmployeeAndLeaveType(
                 request.getEmployee(),
                 request.getLeaveType()))
@@ -173,25 +286,47 @@ class ManagerServiceImplTest {
                 () -> managerService.approveLeave(1L));
     }
 
+    /**
+     * Tests leave approval when the employee has no balance.
+     */
+    @Test
+    void approveLeave_ShouldThrow_WhenBalanceNotFound() {
+
+        when(leaveRequestRepository.findWithDetailsById(1L))
+                .thenReturn(Optional.of(request));
+
+        when(leaveRequestRepository.updateStatus(1L, LeaveStatus.PENDING, LeaveStatus.APPROVED))
+                .thenReturn(1);
+
+        when(leaveBalanceRepository.findByEmployeeAndLeaveType(
+                request.getEmployee(),
+                request.getLeaveType()))
+                .thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> managerService.approveLeave(1L));
+    }
+
     /**
      * Tests successful leave rejection.
      */
     @Test
     void rejectLeave_ShouldSucceed() {
 
-        when(leaveRequestRepository.findById(1L))
-                .thenReturn(Optional.of(request));
+        when(leaveRequestRepository.updateStatus(1L, LeaveStatus.PENDING, LeaveStatus.REJECTED))
+                .thenReturn(1);
 
-        when(leaveRequestRepository.save(request))
-                .thenReturn(request);
+        when(leaveRequestRepository.findWithDetailsById(1L))
+                .thenReturn(Optional.of(request));
 
         when(leaveRequestMapper.toDTO(request))
                 .thenReturn(dto);
 
         LeaveRequestDTO result = managerService.rejectLeave(1L);
 
-        assertEquals(LeaveStatus.REJECTED, request.getStatus());
-        assertNotNull(result);
+        assertEquals(LeaveStatus.REJECTED, result.getStatus());
+        verify(leaveRequestRepository, never()).save(any());
+        verify(leaveRequestRepository, times(1)).findWithDetailsById(1L);
     }
 
     /**
@@ -202,10 +337,140 @@ class ManagerServiceImplTest {
 
         request.setStatus(LeaveStatus.APPROVED);
 
-        when(leaveRequestRepository.findById(1L))
+        when(leaveRequestRepository.updateStatus(1L, LeaveStatus.PENDING, LeaveStatus.REJECTED))
+                .thenReturn(0);
+
+        when(leaveRequestRepository.findWithDetailsById(1L))
                 .thenReturn(Optional.of(request));
 
         assertThrows(InvalidRequestException.class,
                 () -> managerService.rejectLeave(1L));
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests leave rejection when request is not found.
+     */
+    @Test
+    void rejectLeave_ShouldThrow_WhenNotFound() {
+
+        when(leaveRequestRepository.findWithDetailsById(1L))
+                .thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> managerService.rejectLeave(1L));
+    }
+
+    /**
+     * Tests bulk approval with partial failures.
+     */
+    @Test
+    void decideLeaves_ShouldApproveWithinBalanceAndReportFailures() {
+
+        LeaveRequest tooLong = new LeaveRequest();
+        tooLong.setId(2L);
+        tooLong.setStatus(LeaveStatus.PENDING);
+        tooLong.setTotalDays(8);
+        tooLong.setEmployee(request.getEmployee());
+        tooLong.setLeaveType(request.getLeaveType());
+
+        LeaveRequest processed = new LeaveRequest();
+        processed.setId(4L);
+        processed.setStatus(LeaveStatus.REJECTED);
+
+        when(leaveRequestRepository.findWithDetailsByIdIn(List.of(1L, 2L, 3L, 4L)))
+                .thenReturn(List.of(request, tooLong, processed));
+
+        when(leaveBalanceRepository.findByEmployeeIdInAndLeaveTypeIdIn(any(), any()))
+                .thenReturn(List.of(balance));
+
+        when(leaveRequestRepository.updateStatus(anyLong(), eq(LeaveStatus.PENDING), eq(LeaveStatus.APPROVED)))
+                .thenReturn(1);
+
+        when(leaveBalanceRepository.deductDays(5L, 7L, 3, 1))
+                .thenReturn(1);
+
+        List<LeaveDecisionResultDTO> results =
+                managerService.decideLeaves(List.of(1L, 2L, 3L, 4L), LeaveStatus.APPROVED);
+
+        assertEquals(4, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess());
+        assertFalse(results.get(2).isSuccess());
+        assertFalse(results.get(3).isSuccess());
+        assertEquals(LeaveStatus.REJECTED, results.get(3).getStatus());
+        assertEquals(LeaveStatus.APPROVED, results.get(0).getStatus());
+        assertEquals(LeaveStatus.PENDING, results.get(1).getStatus());
+
+        verify(leaveBalanceRepository).deductDays(5L, 7L, 3, 1);
+        verify(absenceHeatmap).recordApproved(request);
+        verify(absenceHeatmap, never()).recordApproved(tooLong);
+        // The request that did not fit is moved back to PENDING
+        verify(leaveRequestRepository).updateStatus(2L, LeaveStatus.APPROVED, LeaveStatus.PENDING);
+    }
+
+    /**
+     * Tests bulk rejection.
+     */
+    @Test
+    void decideLeaves_ShouldRejectPendingRequests() {
+
+        when(leaveRequestRepository.findWithDetailsByIdIn(List.of(1L)))
+                .thenReturn(List.of(request));
+
+        when(leaveRequestRepository.updateStatus(1L, LeaveStatus.PENDING, LeaveStatus.REJECTED))
+                .thenReturn(1);
+
+        List<LeaveDecisionResultDTO> results =
+                managerService.decideLeaves(List.of(1L, 1L), LeaveStatus.REJECTED);
+
+        // The repeated ID keeps its position and is reported as failed
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(LeaveStatus.REJECTED, results.get(0).getStatus());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals(1L, results.get(1).getRequestId());
+        verify(leaveRequestRepository, times(1)).updateStatus(1L, LeaveStatus.PENDING, LeaveStatus.REJECTED);
+        verifyNoInteractions(leaveBalanceRepository);
+    }
+
+    /**
+     * Tests that PENDING is not accepted as a decision.
+     */
+    @Test
+    void decideLeaves_ShouldThrow_WhenDecisionIsPending() {
+
+        assertThrows(InvalidRequestException.class,
+                () -> managerService.decideLeaves(List.of(1L), LeaveStatus.PENDING));
+    }
+
+    /**
+     * Tests that a list longer than hrms.bulk.max-rows is rejected.
+     */
+    @Test
+    void decideLeaves_ShouldThrow_WhenTooManyRequests() {
+
+        bulkProperties.setMaxRows(2);
+
+        assertThrows(InvalidRequestException.class,
+                () -> managerService.decideLeaves(List.of(1L, 2L, 3L), LeaveStatus.APPROVED));
+
+        verifyNoInteractions(leaveRequestRepository);
+    }
+
+    /**
+     * Tests that the heatmap rejects reversed or too long ranges.
+     */
+    @Test
+    void getAbsenceHeatmap_ShouldThrow_WhenRangeInvalid() {
+
+        assertThrows(InvalidRequestException.class,
+                () -> managerService.getAbsenceHeatmap(null,
+                        LocalDate.of(2026, 2, 1), LocalDate.of(2026, 1, 1)));
+
+        assertThrows(InvalidRequestException.class,
+                () -> managerService.getAbsenceHeatmap(null,
+                        LocalDate.of(2026, 1, 1), LocalDate.of(2030, 1, 1)));
+
+        verifyNoInteractions(absenceHeatmap);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.hrms.service;
+
+import com.example.hrms.dto.EmployeeRequestDTO;
+import com.example.hrms.dto.LeaveRequestDTO;
+import com.example.hrms.dto.PendingSummaryDTO;
+import com.example.hrms.entity.Department;
+import com.example.hrms.entity.LeaveStatus;
+import com.example.hrms.entity.LeaveTypeEnum;
+import com.example.hrms.exception.InvalidRequestException;
+import com.example.hrms.support.SqlStatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PendingSummaryTest
+ *
+ * Integration test for the pending summary.
+ *
+ * Tests:
+ *  - Applying for leave is counted per department and leave type
+ *  - Approving and rejecting remove the request from the counts
+ *  - A failed approval (rolled back or undone) keeps it counted
+ *  - Reading the summary runs no query
+ *  - Reconciling with the database keeps the same counts
+ *
+ * Uses:
+ *  - In-memory H2 database (test profile)
+ *  - SqlStatementCounter
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PendingSummaryTest {
+
+    // Monday, a year no other test uses
+    private static final LocalDate MONDAY = LocalDate.of(2038, 3, 1);
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private LeaveRequestService leaveRequestService;
+
+    @Autowired
+    private ManagerService managerService;
+
+    @Autowired
+    private PendingSummary pendingSummary;
+
+    @Test
+    void decisions_ShouldUpdatePendingCounts() {
+
+        // Other tests may have written requests directly
+        pendingSummary.reconcile();
+
+        EmployeeRequestDTO employee = new EmployeeRequestDTO();
+        employee.setName("Pending Summary");
+        employee.setEmail("pending.summary@gmail.com");
+        employee.setDepartment(Department.SUPPORT);
+        Long employeeId = employeeService.createEmployee(employee).getId();
+
+        PendingSummaryDTO before = managerService.getPendingSummary();
+
+        // 3 + 4 sick days fit the balance of 6 one at a time, not together
+        LeaveRequestDTO flu = leaveRequestService.applyLeave(
+                employeeId, "SICK", MONDAY, MONDAY.plusDays(2), "Flu");
+        LeaveRequestDTO surgery = leaveRequestService.applyLeave(
+                employeeId, "SICK", MONDAY.plusDays(7), MONDAY.plusDays(10), "Surgery");
+        LeaveRequestDTO errand = leaveRequestService.applyLeave(
+                employeeId, "CASUAL", MONDAY.plusDays(14), MONDAY.plusDays(14), "Errand");
+
+        assertEquals(2, difference(before, LeaveTypeEnum.SICK));
+        assertEquals(1, difference(before, LeaveTypeEnum.CASUAL));
+        assertEquals(before.getTotal() + 3, managerService.getPendingSummary().getTotal());
+
+        managerService.approveLeave(flu.getId());
+        managerService.rejectLeave(errand.getId());
+        assertThrows(InvalidRequestException.class,
+                () -> managerService.approveLeave(surgery.getId()));
+
+        // Approved, then moved back to PENDING by the balance check
+        assertFalse(managerService.decideLeaves(List.of(surgery.getId()), LeaveStatus.APPROVED)
+                .get(0).isSuccess());
+
+        assertEquals(1, difference(before, LeaveTypeEnum.SICK));
+        assertEquals(0, difference(before, LeaveTypeEnum.CASUAL));
+
+        SqlStatementCounter.reset();
+        PendingSummaryDTO counted = managerService.getPendingSummary();
+
+        assertEquals(0, SqlStatementCounter.statements().size(), "Statements: " + SqlStatementCounter.statements());
+        assertEquals(before.getTotal() + 1, counted.getTotal());
+        assertEquals(before.getByDepartment().get(Department.SUPPORT) + 1,
+                counted.getByDepartment().get(Department.SUPPORT));
+
+        pendingSummary.reconcile();
+
+        assertEquals(counted.getCounts(), managerService.getPendingSummary().getCounts());
+    }
+
+    private long difference(PendingSummaryDTO before, LeaveTypeEnum leaveType) {
+        return managerService.getPendingSummary().getCounts().get(Department.SUPPORT).get(leaveType)
+                - before.getCounts().get(Department.SUPPORT).get(leaveType);
+    }
+}
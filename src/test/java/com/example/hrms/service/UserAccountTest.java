@@ -0,0 +1,218 @@
+package com.example.hrms.service;
+
+import com.example.hrms.config.BulkProperties;
+import com.example.hrms.config.HrmsUser;
+import com.example.hrms.dto.UserAccountRequestDTO;
+import com.example.hrms.entity.UserRole;
+import com.example.hrms.exception.InvalidRequestException;
+import com.example.hrms.exception.ResourceNotFoundException;
+import com.example.hrms.support.SqlStatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static com.example.hrms.support.TestData.createEmployee;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * UserAccountTest
+ *
+ * Integration test for UserAccountService and the leave APIs.
+ *
+ * Tests:
+ *  - An account is loaded with its role and linked employee
+ *  - Loading it again is served from the cache (no query)
+ *  - Changing or deleting an account removes it from the cache
+ *  - The leave APIs act for the employee of the logged-in account
+ *  - An account without employee cannot use the leave APIs
+ *  - Only MANAGER accounts may bulk create or import employees
+ *  - Bulk creation refuses more than hrms.bulk.max-rows rows
+ *  - Invalid accounts are rejected
+ *
+ * Uses:
+ *  - In-memory H2 database (test profile)
+ *  - MockMvc with HTTP Basic headers
+ *  - SqlStatementCounter
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserAccountTest {
+
+    @Autowired
+    private UserAccountService userAccountService;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private BulkProperties bulkProperties;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void loadUserByUsername_ShouldCacheAccount_UntilItChanges() {
+
+        Long firstId = createEmployee(employeeService, "Account First", "account.first@gmail.com");
+        Long secondId = createEmployee(employeeService, "Account Second", "account.second@gmail.com");
+
+        userAccountService.saveAccount("account.cache", request("password123", UserRole.EMPLOYEE, firstId));
+
+        HrmsUser user = (HrmsUser) userDetailsService.loadUserByUsername("account.cache");
+
+        assertEquals(firstId, user.getEmployeeId());
+        assertTrue(user.getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_EMPLOYEE")));
+
+        SqlStatementCounter.reset();
+        HrmsUser cached = (HrmsUser) userDetailsService.loadUserByUsername("account.cache");
+
+        assertEquals(firstId, cached.getEmployeeId());
+        assertNotNull(cached.getPassword());
+        assertEquals(0, SqlStatementCounter.statements().size(), "Statements: " + SqlStatementCounter.statements());
+
+        // Relinked without a new password
+        userAccountService.saveAccount("account.cache", request(null, UserRole.EMPLOYEE, secondId));
+
+        assertEquals(secondId, ((HrmsUser) userDetailsService.loadUserByUsername("account.cache")).getEmployeeId());
+
+        userAccountService.deleteAccount("account.cache");
+
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("account.cache"));
+    }
+
+    @Test
+    void leaveApis_ShouldActForEmployeeOfLoggedInAccount() throws Exception {
+
+        Long employeeId = createEmployee(employeeService, "Account Leave", "account.leave@gmail.com");
+        userAccountService.saveAccount("account.leave", request("password123", UserRole.EMPLOYEE, employeeId));
+
+        mockMvc.perform(post("/leave-request-api/v1/apply")
+                        .header(HttpHeaders.AUTHORIZATION, basicAuth("account.leave", "password123"))
+                        .param("leaveType", "CASUAL")
+                        .param("startDate", "2037-01-05")
+                        .param("endDate", "2037-01-05")
+                        .param("reason", "Account test"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employeeId").value(employeeId));
+
+        mockMvc.perform(get("/leave-request-api/v1/history")
+                        .header(HttpHeaders.AUTHORIZATION, basicAuth("account.leave", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].employeeId").value(employeeId));
+
+        // Default employee account is not linked to an employee
+        mockMvc.perform(get("/leave-request-api/v1/history")
+                        .header(HttpHeaders.AUTHORIZATION, basicAuth("employee", "employee123")))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/leave-request-api/v1/history")
+                        .header(HttpHeaders.AUTHORIZATION, basicAuth("account.leave", "wrong-password")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void employeeImportApis_ShouldRequireManager() throws Exception {
+
+        String csv = "name,email,department\nAccount Import,account.import@gmail.com,DEVELOPMENT\n";
+
+        mockMvc.perform(post("/employee-Api/v1/employees/import")
+                        .header(HttpHeaders.AUTHORIZATION, basicAuth("employee", "employee123"))
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/employee-Api/v1/employees/bulk")
+                        .header(HttpHeaders.AUTHORIZATION, basicAuth("employee", "employee123"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isForbidden());
+
+        // Rejected rows come back in the response, the rejects file
+        // is named without the server folder
+        mockMvc.perform(post("/employee-Api/v1/employees/import")
+                        .header(HttpHeaders.AUTHORIZATION, basicAuth("manager", "manager123"))
+                        .contentType("text/csv")
+                        .content(csv + "Account Bad,not-an-email,DEVELOPMENT\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.rejects[0].line").value(3))
+                .andExpect(jsonPath("$.rejects[0].email").value("not-an-email"))
+                .andExpect(jsonPath("$.rejectsFile").value(startsWith("employee-import-")));
+    }
+
+    @Test
+    void bulkCreateApi_ShouldRejectTooManyRows() throws Exception {
+
+        String rows = "[{\"name\":\"Bulk One\",\"email\":\"bulk.one@gmail.com\",\"department\":\"DEVELOPMENT\"},"
+                + "{\"name\":\"Bulk Two\",\"email\":\"bulk.two@gmail.com\",\"department\":\"DEVELOPMENT\"}]";
+
+        int maxRows = bulkProperties.getMaxRows();
+        int chunkSize = bulkProperties.getChunkSize();
+        bulkProperties.setChunkSize(1);
+        bulkProperties.setMaxRows(1);
+
+        try {
+            mockMvc.perform(post("/employee-Api/v1/employees/bulk")
+                            .header(HttpHeaders.AUTHORIZATION, basicAuth("manager", "manager123"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(rows))
+                    .andExpect(status().isBadRequest());
+        } finally {
+            bulkProperties.setMaxRows(maxRows);
+            bulkProperties.setChunkSize(chunkSize);
+        }
+    }
+
+    @Test
+    void saveAccount_ShouldRejectInvalidAccounts() {
+
+        Long employeeId = createEmployee(employeeService, "Account Invalid", "account.invalid@gmail.com");
+        userAccountService.saveAccount("account.owner", request("password123", UserRole.EMPLOYEE, employeeId));
+
+        assertThrows(InvalidRequestException.class, () -> userAccountService.saveAccount("account.nolink",
+                request("password123", UserRole.EMPLOYEE, null)));
+        assertThrows(InvalidRequestException.class, () -> userAccountService.saveAccount("account.nopassword",
+                request(null, UserRole.MANAGER, null)));
+        assertThrows(InvalidRequestException.class, () -> userAccountService.saveAccount("account.second",
+                request("password123", UserRole.EMPLOYEE, employeeId)));
+        assertThrows(ResourceNotFoundException.class, () -> userAccountService.saveAccount("account.unknown",
+                request("password123", UserRole.EMPLOYEE, -1L)));
+        assertThrows(ResourceNotFoundException.class, () -> userAccountService.deleteAccount("account.missing"));
+    }
+
+    private static UserAccountRequestDTO request(String password, UserRole role, Long employeeId) {
+
+        UserAccountRequestDTO request = new UserAccountRequestDTO();
+        request.setPassword(password);
+        request.setRole(role);
+        request.setEmployeeId(employeeId);
+
+        return request;
+    }
+
+    private static String basicAuth(String username, String password) {
+        return "Basic " + Base64.getEncoder().encodeToString(
+                (username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.hrms.service;
+
+import com.example.hrms.config.CalendarProperties;
+import com.example.hrms.entity.Department;
+import com.example.hrms.service.impl.WorkingDayCalendarImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * WorkingDayCalendarImplTest
+ *
+ * Unit test class for WorkingDayCalendarImpl.
+ *
+ * Tests:
+ *  - Weekend exclusion (default and department specific)
+ *  - Company and department holidays
+ *  - Ranges crossing year boundaries
+ *  - Agreement with a simple day-by-day count
+ *
+ * Uses:
+ *  - JUnit 5
+ */
+class WorkingDayCalendarImplTest {
+
+    private CalendarProperties properties;
+    private WorkingDayCalendar calendar;
+
+    @BeforeEach
+    void setup() {
+        properties = new CalendarProperties();
+        calendar = new WorkingDayCalendarImpl(properties);
+    }
+
+    /**
+     * Tests that Saturday and Sunday are excluded by default.
+     */
+    @Test
+    void countWorkingDays_ShouldExcludeDefaultWeekend() {
+
+        // Monday 23 Feb 2026 to Sunday 1 Mar 2026
+        int days = calendar.countWorkingDays(
+                Department.DEVELOPMENT,
+                LocalDate.of(2026, 2, 23),
+                LocalDate.of(2026, 3, 1));
+
+        assertEquals(5, days);
+    }
+
+    /**
+     * Tests that a single working day counts as one day.
+     */
+    @Test
+    void countWorkingDays_ShouldCountSingleDay() {
+
+        LocalDate monday = LocalDate.of(2026, 2, 23);
+
+        assertEquals(1, calendar.countWorkingDays(null, monday, monday));
+        assertEquals(0, calendar.countWorkingDays(null, monday.plusDays(5), monday.plusDays(5)));
+    }
+
+    /**
+     * Tests that company and department holidays are excluded.
+     */
+    @Test
+    void countWorkingDays_ShouldExcludeHolidays() {
+
+        properties.setHolidays(List.of(LocalDate.of(2026, 2, 24)));
+        properties.getDepartmentHolidays()
+                .put(Department.SUPPORT, List.of(LocalDate.of(2026, 2, 25)));
+        calendar.refresh();
+
+        LocalDate start = LocalDate.of(2026, 2, 23);
+        LocalDate end = LocalDate.of(2026, 2, 27);
+
+        assertEquals(4, calendar.countWorkingDays(Department.DEVELOPMENT, start, end));
+        assertEquals(3, calendar.countWorkingDays(Department.SUPPORT, start, end));
+        assertFalse(calendar.isWorkingDay(Department.SUPPORT, LocalDate.of(2026, 2, 25)));
+        assertTrue(calendar.isWorkingDay(Department.DEVELOPMENT, LocalDate.of(2026, 2, 25)));
+    }
+
+    /**
+     * Tests department specific weekend days.
+     */
+    @Test
+    void countWorkingDays_ShouldUseDepartmentWeekend() {
+
+        properties.getWeekends().put(Department.CONSULTING,
+                EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY));
+        calendar.refresh();
+
+        // Sunday 1 Mar 2026 is a working day for CONSULTING
+        assertTrue(calendar.isWorkingDay(Department.CONSULTING, LocalDate.of(2026, 3, 1)));
+        assertFalse(calendar.isWorkingDay(Department.CONSULTING, LocalDate.of(2026, 2, 27)));
+        assertFalse(calendar.isWorkingDay(Department.TRAINEE, LocalDate.of(2026, 3, 1)));
+    }
+
+    /**
+     * Tests that an end date before the start date has no working days.
+     */
+    @Test
+    void countWorkingDays_ShouldReturnZero_WhenEndBeforeStart() {
+
+        assertEquals(0, calendar.countWorkingDays(null,
+                LocalDate.of(2026, 2, 25),
+                LocalDate.of(2026, 2, 24)));
+    }
+
+    /**
+     * Tests ranges crossing one or more year boundaries
+     * against a day-by-day count.
+     */
+    @Test
+    void countWorkingDays_ShouldMatchDayByDayCount_AcrossYears() {
+
+        properties.setHolidays(List.of(
+                LocalDate.of(2025, 12, 25),
+                LocalDate.of(2026, 1, 1),
+                LocalDate.of(2027, 1, 1)));
+        calendar.refresh();
+
+        LocalDate start = LocalDate.of(2025, 11, 3);
+
+        for (int length = 0; length < 900; length += 37) {
+
+            LocalDate end = start.plusDays(length);
+
+            assertEquals(countDayByDay(start, end),
+                    calendar.countWorkingDays(Department.DEVELOPMENT, start, end),
+                    "Range " + start + " - " + end);
+        }
+    }
+
+    /**
+     * Simple reference count used to verify the precomputed tables.
+     */
+    private int countDayByDay(LocalDate start, LocalDate end) {
+
+        int count = 0;
+
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY
+                    && date.getDayOfWeek() != DayOfWeek.SUNDAY
+                    && !properties.getHolidays().contains(date)) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+}
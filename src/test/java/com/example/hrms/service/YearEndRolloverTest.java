@@ -0,0 +1,265 @@
+package com.example.hrms.service;
+
+import com.example.hrms.config.RolloverProperties;
+import com.example.hrms.dto.RolloverRunDTO;
+import com.example.hrms.entity.Department;
+import com.example.hrms.entity.LeaveBalance;
+import com.example.hrms.entity.LeaveType;
+import com.example.hrms.entity.LeaveTypeEnum;
+import com.example.hrms.entity.RolloverRun;
+import com.example.hrms.entity.RolloverStatus;
+import com.example.hrms.exception.InvalidRequestException;
+import com.example.hrms.exception.ResourceNotFoundException;
+import com.example.hrms.repository.LeaveBalanceRepository;
+import com.example.hrms.repository.RolloverRunRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.hrms.support.TestData.adjustment;
+import static com.example.hrms.support.TestData.createEmployee;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * YearEndRolloverTest
+ *
+ * Integration test for RolloverService.
+ *
+ * Tests:
+ *  - Balances get the yearly grant plus the days within the
+ *    carry-forward cap (leave type cap, department override)
+ *  - The ledger total matches remainingDays after the rollover
+ *  - A completed year, or a year before it, is not rolled again
+ *  - A failed run continues after its checkpoint
+ *  - Years other than the current and next one are rejected,
+ *    next year only within the start window
+ *  - Unknown years are not found
+ *
+ * Uses:
+ *  - In-memory H2 database (test profile)
+ *  - Small chunks and two workers, so a run has many chunks
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class YearEndRolloverTest {
+
+    @Autowired
+    private RolloverService rolloverService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private LeaveBalanceService leaveBalanceService;
+
+    @Autowired
+    private LeaveBalanceLedger leaveBalanceLedger;
+
+    @Autowired
+    private LeaveTypeService leaveTypeService;
+
+    @Autowired
+    private LeaveBalanceRepository leaveBalanceRepository;
+
+    @Autowired
+    private RolloverRunRepository rolloverRunRepository;
+
+    @Autowired
+    private RolloverProperties rolloverProperties;
+
+    private int chunkSize;
+    private int workers;
+    private int startWindowDays;
+    private Map<LeaveTypeEnum, Integer> carryForwardCaps;
+    private Map<Department, Map<LeaveTypeEnum, Integer>> departmentCarryForwardCaps;
+
+    @BeforeEach
+    void setUp() {
+        // Every test starts without runs (a completed run refuses earlier years)
+        rolloverRunRepository.deleteAll();
+
+        chunkSize = rolloverProperties.getChunkSize();
+        workers = rolloverProperties.getWorkers();
+        startWindowDays = rolloverProperties.getStartWindowDays();
+        carryForwardCaps = rolloverProperties.getCarryForwardCaps();
+        departmentCarryForwardCaps = rolloverProperties.getDepartmentCarryForwardCaps();
+
+        rolloverProperties.setChunkSize(3);
+        rolloverProperties.setWorkers(2);
+        // Next year's rollover may start on any day of this year
+        rolloverProperties.setStartWindowDays(366);
+        rolloverProperties.setCarryForwardCaps(new HashMap<>(Map.of(LeaveTypeEnum.EARNED, 5)));
+        rolloverProperties.setDepartmentCarryForwardCaps(new HashMap<>(Map.of(
+                Department.CONSULTING, Map.of(LeaveTypeEnum.CASUAL, 2))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        rolloverProperties.setChunkSize(chunkSize);
+        rolloverProperties.setWorkers(workers);
+        rolloverProperties.setStartWindowDays(startWindowDays);
+        rolloverProperties.setCarryForwardCaps(carryForwardCaps);
+        rolloverProperties.setDepartmentCarryForwardCaps(departmentCarryForwardCaps);
+        rolloverRunRepository.deleteAll();
+    }
+
+    @Test
+    void runRollover_ShouldGrantAndCarryForwardWithinCaps() {
+
+        int year = LocalDate.now().getYear() + 1;
+
+        Long developerId = createEmployee(employeeService, "Rollover Dev", "rollover.dev@gmail.com",
+                Department.DEVELOPMENT);
+        Long consultantId = createEmployee(employeeService, "Rollover Consultant", "rollover.consultant@gmail.com",
+                Department.CONSULTING);
+
+        // EARNED 3 + 4 = 7 → 5 carried (type cap) + 3 granted
+        leaveBalanceService.adjustBalance(developerId, adjustment(LeaveTypeEnum.EARNED, 4, "Rollover test"));
+        // CASUAL 6 - 1 = 5 → 2 carried (department cap) + 6 granted
+        leaveBalanceService.adjustBalance(consultantId, adjustment(LeaveTypeEnum.CASUAL, -1, "Rollover test"));
+
+        RolloverRunDTO run = rolloverService.runRollover(year);
+
+        assertEquals(RolloverStatus.COMPLETED, run.getStatus());
+        assertTrue(run.getProcessedBalances() >= 6, "Processed: " + run.getProcessedBalances());
+        assertNotNull(run.getFinishedAt());
+
+        Map<LeaveTypeEnum, LeaveBalance> developer = balances(developerId);
+        assertEquals(6, developer.get(LeaveTypeEnum.SICK).getRemainingDays());
+        assertEquals(6, developer.get(LeaveTypeEnum.CASUAL).getRemainingDays());
+        assertEquals(8, developer.get(LeaveTypeEnum.EARNED).getRemainingDays());
+
+        Map<LeaveTypeEnum, LeaveBalance> consultant = balances(consultantId);
+        assertEquals(8, consultant.get(LeaveTypeEnum.CASUAL).getRemainingDays());
+        // EARNED 3 → 3 carried (below the type cap) + 3 granted
+        assertEquals(6, consultant.get(LeaveTypeEnum.EARNED).getRemainingDays());
+
+        for (LeaveBalance balance : leaveBalanceRepository.findByEmployeeId(developerId)) {
+            assertEquals(year, balance.getBalanceYear());
+            assertEquals(balance.getRemainingDays(),
+                    leaveBalanceLedger.getBalance(developerId, balance.getLeaveType().getId()));
+        }
+
+        // Neither the completed year nor the year before it is rolled again
+        assertThrows(InvalidRequestException.class, () -> rolloverService.runRollover(year));
+        assertThrows(InvalidRequestException.class, () -> rolloverService.startRollover(year - 1));
+
+        assertEquals(8, balances(developerId).get(LeaveTypeEnum.EARNED).getRemainingDays());
+        assertEquals(RolloverStatus.COMPLETED, rolloverService.getRollover(year).getStatus());
+        assertEquals(run.getProcessedBalances(), rolloverService.getRollover(year).getProcessedBalances());
+    }
+
+    @Test
+    void runRollover_ShouldContinueAfterCheckpointOfFailedRun() {
+
+        int year = LocalDate.now().getYear();
+
+        Long committedId = createEmployee(employeeService, "Rollover Committed", "rollover.committed@gmail.com",
+                Department.TRAINEE);
+        Long pendingId = createEmployee(employeeService, "Rollover Pending", "rollover.pending@gmail.com",
+                Department.TRAINEE);
+
+        leaveBalanceService.adjustBalance(pendingId, adjustment(LeaveTypeEnum.CASUAL, -2, "Rollover test"));
+
+        // Both employees still have balances of last year
+        long checkpoint = 0;
+        for (Long employeeId : List.of(committedId, pendingId)) {
+            for (LeaveBalance balance : leaveBalanceRepository.findByEmployeeId(employeeId)) {
+                balance.setBalanceYear(year - 1);
+                leaveBalanceRepository.save(balance);
+
+                if (employeeId.equals(committedId)) {
+                    checkpoint = Math.max(checkpoint, balance.getId());
+                }
+            }
+        }
+
+        // A run that failed after the chunk holding the first employee
+        RolloverRun failed = new RolloverRun();
+        failed.setYear(year);
+        failed.setStatus(RolloverStatus.FAILED);
+        failed.setLastBalanceId(checkpoint);
+        failed.setProcessedBalances(2);
+        failed.setStartedAt(LocalDateTime.now());
+        failed.setError("Connection lost");
+        rolloverRunRepository.save(failed);
+
+        RolloverRunDTO run = rolloverService.runRollover(year);
+
+        assertEquals(RolloverStatus.COMPLETED, run.getStatus());
+        assertNull(run.getError());
+        assertTrue(run.getLastBalanceId() > checkpoint);
+        assertTrue(run.getProcessedBalances() >= 4, "Processed: " + run.getProcessedBalances());
+
+        // Before the checkpoint: untouched
+        for (LeaveBalance balance : leaveBalanceRepository.findByEmployeeId(committedId)) {
+            assertEquals(year - 1, balance.getBalanceYear());
+        }
+
+        // After the checkpoint: CASUAL 4 → 0 carried + 6 granted
+        Map<LeaveTypeEnum, LeaveBalance> pending = balances(pendingId);
+        assertEquals(year, pending.get(LeaveTypeEnum.CASUAL).getBalanceYear());
+        assertEquals(6, pending.get(LeaveTypeEnum.CASUAL).getRemainingDays());
+        assertEquals(6, leaveBalanceLedger.getBalance(pendingId,
+                pending.get(LeaveTypeEnum.CASUAL).getLeaveType().getId()));
+    }
+
+    @Test
+    void rollover_ShouldRejectInvalidAndUnknownYears() {
+
+        int nextYear = LocalDate.now().getYear() + 1;
+
+        assertThrows(InvalidRequestException.class, () -> rolloverService.runRollover(1999));
+        assertThrows(InvalidRequestException.class, () -> rolloverService.runRollover(nextYear - 2));
+        assertThrows(InvalidRequestException.class, () -> rolloverService.startRollover(nextYear + 1));
+        assertThrows(ResourceNotFoundException.class, () -> rolloverService.getRollover(2001));
+
+        // No start window: next year opens on January 1
+        rolloverProperties.setStartWindowDays(0);
+        assertThrows(InvalidRequestException.class, () -> rolloverService.runRollover(nextYear));
+
+        assertTrue(rolloverRunRepository.findAll().isEmpty());
+    }
+
+    @Test
+    void rollover_ShouldRejectYearBelowUnfinishedRun() {
+
+        int year = LocalDate.now().getYear();
+
+        // Next year's rollover failed halfway, this year can no longer be rolled
+        RolloverRun failed = new RolloverRun();
+        failed.setYear(year + 1);
+        failed.setStatus(RolloverStatus.FAILED);
+        failed.setStartedAt(LocalDateTime.now());
+        rolloverRunRepository.save(failed);
+
+        assertThrows(InvalidRequestException.class, () -> rolloverService.runRollover(year));
+        assertTrue(rolloverRunRepository.findByYear(year).isEmpty());
+    }
+
+    private Map<LeaveTypeEnum, LeaveBalance> balances(Long employeeId) {
+
+        // Leave types are lazy, names come from the registry
+        Map<Long, LeaveTypeEnum> names = new HashMap<>();
+        for (LeaveType leaveType : leaveTypeService.getAllLeaveTypes()) {
+            names.put(leaveType.getId(), leaveType.getName());
+        }
+
+        Map<LeaveTypeEnum, LeaveBalance> balances = new HashMap<>();
+
+        for (LeaveBalance balance : leaveBalanceRepository.findByEmployeeId(employeeId)) {
+            balances.put(names.get(balance.getLeaveType().getId()), balance);
+        }
+
+        return balances;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.hrms.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * SqlStatementCounter
+ *
+ * Hibernate StatementInspector used by tests
+ * to record the SQL statements sent to the database.
+ *
+ * Statements are recorded per thread, so background jobs
+ * (like scheduled refreshes) do not show up in the counts.
+ *
+ * Enabled in application-test.properties.
+ *
+ * Usage:
+ *  - SqlStatementCounter.reset() before the code under test
+ *  - SqlStatementCounter.selects() after it
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS =
+            ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(sql.toLowerCase(Locale.ROOT));
+        return sql;
+    }
+
+    // Clears all statements recorded by the current thread
+    public static void reset() {
+        STATEMENTS.get().clear();
+    }
+
+    // Returns all statements recorded by the current thread
+    public static List<String> statements() {
+        return new ArrayList<>(STATEMENTS.get());
+    }
+
+    // Returns recorded SELECT statements (sequence calls excluded)
+    public static List<String> selects() {
+        return statements().stream()
+                .filter(sql -> sql.startsWith("select"))
+                .filter(sql -> !sql.contains("next value for"))
+                .toList();
+    }
+}
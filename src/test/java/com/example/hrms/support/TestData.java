@@ -0,0 +1,49 @@
+package com.example.hrms.support;
+
+import com.example.hrms.dto.EmployeeRequestDTO;
+import com.example.hrms.dto.LeaveBalanceAdjustmentDTO;
+import com.example.hrms.entity.Department;
+import com.example.hrms.entity.LeaveTypeEnum;
+import com.example.hrms.service.EmployeeService;
+
+/**
+ * TestData
+ *
+ * Builders shared by the integration tests.
+ *
+ * Every test uses its own names and emails,
+ * the database is shared by all test classes.
+ */
+public final class TestData {
+
+    private TestData() {
+    }
+
+    // Employee in DEVELOPMENT, with the default leave balances
+    public static Long createEmployee(EmployeeService employeeService, String name, String email) {
+        return createEmployee(employeeService, name, email, Department.DEVELOPMENT);
+    }
+
+    public static Long createEmployee(EmployeeService employeeService,
+                                      String name,
+                                      String email,
+                                      Department department) {
+
+        EmployeeRequestDTO request = new EmployeeRequestDTO();
+        request.setName(name);
+        request.setEmail(email);
+        request.setDepartment(department);
+
+        return employeeService.createEmployee(request).getId();
+    }
+
+    public static LeaveBalanceAdjustmentDTO adjustment(LeaveTypeEnum leaveType, int days, String reason) {
+
+        LeaveBalanceAdjustmentDTO adjustment = new LeaveBalanceAdjustmentDTO();
+        adjustment.setLeaveType(leaveType);
+        adjustment.setDays(days);
+        adjustment.setReason(reason);
+
+        return adjustment;
+    }
+}